@@ -0,0 +1,346 @@
+package com.etdon.commons.codec;
+
+import com.etdon.commons.conditional.Preconditions;
+import com.etdon.commons.io.ByteReader;
+import org.jetbrains.annotations.NotNullByDefault;
+
+/**
+ * Codec for radices that are not a power of two. The input is converted as a big-endian unsigned number without
+ * {@link java.math.BigInteger}: encoding accumulates four bytes at a time into limbs holding as many digits as fit
+ * into 31 bits, decoding accumulates as many digits at a time into 32 bit limbs. Leading zero bytes are encoded as
+ * leading zero digits and vice versa.
+ */
+@NotNullByDefault
+final class BigRadixCodec extends RadixCodec {
+
+    /**
+     * The count of bytes read from a {@link ByteReader} at once, a multiple of {@link Integer#BYTES}.
+     */
+    private static final int CHUNK_BYTES = 256;
+
+    private final char[] alphabet;
+    private final byte[] values;
+    private final int radix;
+    /**
+     * The count of digits held by every limb while encoding.
+     */
+    private final int limbDigits;
+    /**
+     * <code>radix ^ limbDigits</code>, the base of the limbs while encoding.
+     */
+    private final int limbRadix;
+    /**
+     * The count of output digits per input byte.
+     */
+    private final double digitsPerByte;
+
+    BigRadixCodec(final String name, final char[] alphabet, final boolean ignoreCase) {
+
+        super(name);
+        this.alphabet = alphabet;
+        this.values = values(alphabet, ignoreCase);
+        this.radix = alphabet.length;
+        int limbDigits = 0;
+        long limbRadix = 1;
+        while (limbRadix * this.radix <= Integer.MAX_VALUE) {
+            limbRadix *= this.radix;
+            limbDigits++;
+        }
+        this.limbDigits = limbDigits;
+        this.limbRadix = (int) limbRadix;
+        this.digitsPerByte = Math.log(256) / Math.log(this.radix);
+
+    }
+
+    @Override
+    public int getMaxEncodedLength(final int byteCount) {
+
+        Preconditions.checkArgument(byteCount >= 0, "The byte count ({}) cannot be negative.", byteCount);
+        return checkedLength((long) Math.ceil(byteCount * this.digitsPerByte));
+
+    }
+
+    @Override
+    public int getMaxDecodedLength(final int charCount) {
+
+        return charCount;
+
+    }
+
+    @Override
+    public RadixCodec withPadding(final boolean padding) {
+
+        return this;
+
+    }
+
+    @Override
+    public int encode(final byte[] bytes, final int offset, final int length, final char[] target, final int index) {
+
+        checkRange(bytes.length, offset, length);
+        final int zeros = leadingZeros(bytes, offset, length);
+        final int[] limbs = this.toLimbs(bytes, offset + zeros, length - zeros);
+
+        return this.writeDigits(limbs, zeros, target, index);
+
+    }
+
+    @Override
+    public int encode(final byte[] bytes, final int offset, final int length, final byte[] target, final int index) {
+
+        checkRange(bytes.length, offset, length);
+        final int zeros = leadingZeros(bytes, offset, length);
+        final int[] limbs = this.toLimbs(bytes, offset + zeros, length - zeros);
+        final int used = used(limbs);
+        final int count = zeros + this.digitCount(limbs, used);
+        checkTarget(target.length, index, count);
+        for (int i = index; i < index + zeros; i++)
+            target[i] = (byte) this.alphabet[0];
+
+        int position = index + count;
+        for (int i = 0; i < used; i++) {
+            int limb = limbs[i];
+            for (int j = 0; j < this.limbDigits && (limb != 0 || i < used - 1); j++) {
+                target[--position] = (byte) this.alphabet[limb % this.radix];
+                limb /= this.radix;
+            }
+        }
+
+        return index + count;
+
+    }
+
+    /**
+     * Accumulates the remaining bytes of the provided reader into limbs in chunks of
+     * {@link BigRadixCodec#CHUNK_BYTES} bytes without copying the whole range.
+     */
+    @Override
+    public int encode(final ByteReader source, final char[] target, final int index) {
+
+        final int[] limbs = new int[this.limbCapacity(source.getRemaining())];
+        final byte[] chunk = new byte[Math.min(CHUNK_BYTES, source.getRemaining())];
+        int zeros = 0;
+        int used = 0;
+        while (source.getRemaining() > 0) {
+            final int count = Math.min(chunk.length, source.getRemaining());
+            source.readInto(chunk, 0, count);
+            int i = 0;
+            if (used == 0) {
+                while (i < count && chunk[i] == 0)
+                    i++;
+                zeros += i;
+            }
+            used = this.accumulate(limbs, used, chunk, i, count - i);
+        }
+
+        return this.writeDigits(limbs, zeros, target, index);
+
+    }
+
+    @Override
+    public byte[] decode(final CharSequence input) {
+
+        final int zeros = this.leadingZeroDigits(input, 0, input.length());
+        final int[] limbs = this.toLimbs(input, zeros, input.length());
+        final int used = used(limbs);
+        final byte[] bytes = new byte[zeros + byteCount(limbs, used)];
+        writeLimbs(limbs, used, bytes, bytes.length);
+
+        return bytes;
+
+    }
+
+    @Override
+    public int decode(final CharSequence input, final int start, final int end, final byte[] target, final int index) {
+
+        checkRange(input, start, end);
+        final int zeros = this.leadingZeroDigits(input, start, end);
+        final int[] limbs = this.toLimbs(input, start + zeros, end);
+        final int used = used(limbs);
+        final int count = zeros + byteCount(limbs, used);
+        checkTarget(target.length, index, count);
+        for (int i = index; i < index + zeros; i++)
+            target[i] = 0;
+        writeLimbs(limbs, used, target, index + count);
+
+        return index + count;
+
+    }
+
+    /**
+     * Converts the provided range of bytes to little-endian limbs of base {@link BigRadixCodec#limbRadix}.
+     */
+    private int[] toLimbs(final byte[] bytes, final int offset, final int length) {
+
+        final int[] limbs = new int[this.limbCapacity(length)];
+        this.accumulate(limbs, 0, bytes, offset, length);
+
+        return limbs;
+
+    }
+
+    /**
+     * Returns the count of limbs required to hold the value of the provided count of bytes.
+     */
+    private int limbCapacity(final int byteCount) {
+
+        return (int) (byteCount * this.digitsPerByte / this.limbDigits) + 2;
+
+    }
+
+    /**
+     * Appends the provided range of bytes to the value held by the provided limbs, four bytes at a time, and returns
+     * the count of used limbs.
+     */
+    private int accumulate(final int[] limbs, final int used, final byte[] bytes, final int offset, final int length) {
+
+        int count = used;
+        final int end = offset + length;
+        for (int i = offset; i < end; i += Integer.BYTES) {
+            final int chunk = Math.min(Integer.BYTES, end - i);
+            long carry = 0;
+            for (int j = i; j < i + chunk; j++)
+                carry = carry << Byte.SIZE | bytes[j] & 0xFF;
+            final int shift = chunk * Byte.SIZE;
+            for (int k = 0; k < count; k++) {
+                final long value = ((long) limbs[k] << shift) + carry;
+                limbs[k] = (int) (value % this.limbRadix);
+                carry = value / this.limbRadix;
+            }
+            while (carry != 0) {
+                limbs[count++] = (int) (carry % this.limbRadix);
+                carry /= this.limbRadix;
+            }
+        }
+
+        return count;
+
+    }
+
+    /**
+     * Writes the provided count of zero digits followed by the digits of the provided limbs into the provided array
+     * starting at the provided index.
+     */
+    private int writeDigits(final int[] limbs, final int zeros, final char[] target, final int index) {
+
+        final int used = used(limbs);
+        final int count = zeros + this.digitCount(limbs, used);
+        checkTarget(target.length, index, count);
+        for (int i = index; i < index + zeros; i++)
+            target[i] = this.alphabet[0];
+
+        int position = index + count;
+        for (int i = 0; i < used; i++) {
+            int limb = limbs[i];
+            for (int j = 0; j < this.limbDigits && (limb != 0 || i < used - 1); j++) {
+                target[--position] = this.alphabet[limb % this.radix];
+                limb /= this.radix;
+            }
+        }
+
+        return index + count;
+
+    }
+
+    /**
+     * Converts the provided range of digits to little-endian unsigned 32 bit limbs.
+     */
+    private int[] toLimbs(final CharSequence input, final int start, final int end) {
+
+        final int length = end - start;
+        final int[] limbs = new int[(int) (length / this.digitsPerByte / Integer.BYTES) + 2];
+        int used = 0;
+        int i = start;
+        int chunk = length % this.limbDigits == 0 ? this.limbDigits : length % this.limbDigits;
+        while (i < end) {
+            long carry = 0;
+            long multiplier = 1;
+            for (int j = i; j < i + chunk; j++) {
+                final char digit = input.charAt(j);
+                final int value = digit < this.values.length ? this.values[digit] : -1;
+                if (value < 0)
+                    throw this.invalidDigit(j);
+                carry = carry * this.radix + value;
+                multiplier *= this.radix;
+            }
+            for (int k = 0; k < used; k++) {
+                final long value = (limbs[k] & 0xFFFFFFFFL) * multiplier + carry;
+                limbs[k] = (int) value;
+                carry = value >>> Integer.SIZE;
+            }
+            if (carry != 0)
+                limbs[used++] = (int) carry;
+            i += chunk;
+            chunk = this.limbDigits;
+        }
+
+        return limbs;
+
+    }
+
+    private int digitCount(final int[] limbs, final int used) {
+
+        if (used == 0)
+            return 0;
+
+        int count = (used - 1) * this.limbDigits;
+        for (int limb = limbs[used - 1]; limb != 0; limb /= this.radix)
+            count++;
+
+        return count;
+
+    }
+
+    private int leadingZeroDigits(final CharSequence input, final int start, final int end) {
+
+        int count = 0;
+        while (start + count < end && input.charAt(start + count) == this.alphabet[0])
+            count++;
+
+        return count;
+
+    }
+
+    private static int leadingZeros(final byte[] bytes, final int offset, final int length) {
+
+        int count = 0;
+        while (count < length && bytes[offset + count] == 0)
+            count++;
+
+        return count;
+
+    }
+
+    private static int used(final int[] limbs) {
+
+        int used = limbs.length;
+        while (used > 0 && limbs[used - 1] == 0)
+            used--;
+
+        return used;
+
+    }
+
+    private static int byteCount(final int[] limbs, final int used) {
+
+        return used == 0 ? 0 : (used - 1) * Integer.BYTES + (Integer.SIZE - Integer.numberOfLeadingZeros(limbs[used - 1]) + 7) / Byte.SIZE;
+
+    }
+
+    /**
+     * Writes the provided limbs big-endian into the provided array ending at the provided index.
+     */
+    private static void writeLimbs(final int[] limbs, final int used, final byte[] target, final int end) {
+
+        int position = end;
+        for (int i = 0; i < used; i++) {
+            int limb = limbs[i];
+            for (int j = 0; j < Integer.BYTES && (limb != 0 || i < used - 1); j++) {
+                target[--position] = (byte) limb;
+                limb >>>= Byte.SIZE;
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,211 @@
+package com.etdon.commons.codec;
+
+import com.etdon.commons.conditional.Preconditions;
+import com.etdon.commons.io.ByteReader;
+import org.jetbrains.annotations.NotNullByDefault;
+
+/**
+ * Codec for power of two radices that maps every group of <code>log2(radix)</code> bits to one digit. Bytes are
+ * processed in groups of the least common multiple of eight and the digit width, e.g. three bytes to four digits for
+ * base 64 or five bytes to eight digits for base 32, without any per byte state.
+ */
+@NotNullByDefault
+final class BitGroupCodec extends RadixCodec {
+
+    private static final char PADDING = '=';
+    /**
+     * The count of bytes read from a {@link ByteReader} at once, a multiple of all supported group sizes.
+     */
+    private static final int CHUNK_BYTES = 240;
+
+    private final char[] alphabet;
+    private final byte[] values;
+    private final boolean padding;
+    private final int bits;
+    private final int mask;
+    private final int groupBytes;
+    private final int groupChars;
+
+    BitGroupCodec(final String name, final char[] alphabet, final boolean ignoreCase, final boolean padding) {
+
+        this(name, alphabet, values(alphabet, ignoreCase), padding);
+
+    }
+
+    private BitGroupCodec(final String name, final char[] alphabet, final byte[] values, final boolean padding) {
+
+        super(name);
+        this.alphabet = alphabet;
+        this.values = values;
+        this.padding = padding;
+        this.bits = Integer.numberOfTrailingZeros(alphabet.length);
+        this.mask = alphabet.length - 1;
+        final int groupBits = Byte.SIZE * this.bits >> Math.min(3, Integer.numberOfTrailingZeros(this.bits));
+        this.groupBytes = groupBits / Byte.SIZE;
+        this.groupChars = groupBits / this.bits;
+
+    }
+
+    @Override
+    public int getMaxEncodedLength(final int byteCount) {
+
+        Preconditions.checkArgument(byteCount >= 0, "The byte count ({}) cannot be negative.", byteCount);
+        final int remainder = byteCount % this.groupBytes;
+        final long tail = remainder == 0 ? 0 : this.padding ? this.groupChars : (remainder * Byte.SIZE + this.bits - 1) / this.bits;
+        return checkedLength((long) (byteCount / this.groupBytes) * this.groupChars + tail);
+
+    }
+
+    @Override
+    public int getMaxDecodedLength(final int charCount) {
+
+        return (int) ((long) charCount * this.bits / Byte.SIZE);
+
+    }
+
+    @Override
+    public RadixCodec withPadding(final boolean padding) {
+
+        return padding == this.padding ? this : new BitGroupCodec(this.getName(), this.alphabet, this.values, padding);
+
+    }
+
+    @Override
+    public int encode(final byte[] bytes, final int offset, final int length, final char[] target, final int index) {
+
+        checkRange(bytes.length, offset, length);
+        checkTarget(target.length, index, this.getMaxEncodedLength(length));
+        final int end = offset + length;
+        int position = index;
+        int i = offset;
+        for (; i <= end - this.groupBytes; i += this.groupBytes) {
+            final long group = this.readGroup(bytes, i, this.groupBytes);
+            for (int shift = (this.groupChars - 1) * this.bits; shift >= 0; shift -= this.bits)
+                target[position++] = this.alphabet[(int) (group >>> shift) & this.mask];
+        }
+        if (i < end) {
+            final int tailBits = (end - i) * Byte.SIZE;
+            final int chars = (tailBits + this.bits - 1) / this.bits;
+            final long group = this.readGroup(bytes, i, end - i) << chars * this.bits - tailBits;
+            for (int shift = (chars - 1) * this.bits; shift >= 0; shift -= this.bits)
+                target[position++] = this.alphabet[(int) (group >>> shift) & this.mask];
+            if (this.padding) {
+                for (int j = chars; j < this.groupChars; j++)
+                    target[position++] = PADDING;
+            }
+        }
+
+        return position;
+
+    }
+
+    @Override
+    public int encode(final byte[] bytes, final int offset, final int length, final byte[] target, final int index) {
+
+        checkRange(bytes.length, offset, length);
+        checkTarget(target.length, index, this.getMaxEncodedLength(length));
+        final int end = offset + length;
+        int position = index;
+        int i = offset;
+        for (; i <= end - this.groupBytes; i += this.groupBytes) {
+            final long group = this.readGroup(bytes, i, this.groupBytes);
+            for (int shift = (this.groupChars - 1) * this.bits; shift >= 0; shift -= this.bits)
+                target[position++] = (byte) this.alphabet[(int) (group >>> shift) & this.mask];
+        }
+        if (i < end) {
+            final int tailBits = (end - i) * Byte.SIZE;
+            final int chars = (tailBits + this.bits - 1) / this.bits;
+            final long group = this.readGroup(bytes, i, end - i) << chars * this.bits - tailBits;
+            for (int shift = (chars - 1) * this.bits; shift >= 0; shift -= this.bits)
+                target[position++] = (byte) this.alphabet[(int) (group >>> shift) & this.mask];
+            if (this.padding) {
+                for (int j = chars; j < this.groupChars; j++)
+                    target[position++] = PADDING;
+            }
+        }
+
+        return position;
+
+    }
+
+    /**
+     * Encodes the remaining bytes of the provided reader in chunks of {@link BitGroupCodec#CHUNK_BYTES} bytes.
+     */
+    @Override
+    public int encode(final ByteReader source, final char[] target, final int index) {
+
+        checkTarget(target.length, index, this.getMaxEncodedLength(source.getRemaining()));
+        final byte[] chunk = new byte[Math.min(CHUNK_BYTES, source.getRemaining())];
+        int position = index;
+        while (source.getRemaining() > 0) {
+            final int count = Math.min(chunk.length, source.getRemaining());
+            source.readInto(chunk, 0, count);
+            position = this.encode(chunk, 0, count, target, position);
+        }
+
+        return position;
+
+    }
+
+    @Override
+    public int decode(final CharSequence input, final int start, final int end, final byte[] target, final int index) {
+
+        checkRange(input, start, end);
+        int stop = end;
+        while (stop > start && end - stop < this.groupChars - 1 && input.charAt(stop - 1) == PADDING)
+            stop--;
+        if (stop != end && (end - start) % this.groupChars != 0)
+            throw new IllegalArgumentException("The padded " + this.getName() + " input has an invalid length (" + (end - start) + ").");
+        final int tailChars = (stop - start) % this.groupChars;
+        if (tailChars * this.bits % Byte.SIZE >= this.bits)
+            throw new IllegalArgumentException("The " + this.getName() + " input has an invalid length (" + (stop - start) + ").");
+        final int length = this.getMaxDecodedLength(stop - start);
+        checkTarget(target.length, index, length);
+
+        int position = index;
+        int i = start;
+        for (; i <= stop - this.groupChars; i += this.groupChars) {
+            final long group = this.readDigits(input, i, this.groupChars);
+            for (int shift = (this.groupBytes - 1) * Byte.SIZE; shift >= 0; shift -= Byte.SIZE)
+                target[position++] = (byte) (group >>> shift);
+        }
+        if (i < stop) {
+            final int tailBits = tailChars * this.bits;
+            final int unused = tailBits % Byte.SIZE;
+            final long group = this.readDigits(input, i, tailChars);
+            if ((group & (1L << unused) - 1) != 0)
+                throw this.invalidDigit(stop - 1);
+            for (int shift = tailBits - Byte.SIZE; shift >= unused; shift -= Byte.SIZE)
+                target[position++] = (byte) (group >>> shift);
+        }
+
+        return position;
+
+    }
+
+    private long readGroup(final byte[] bytes, final int offset, final int count) {
+
+        long group = 0;
+        for (int i = offset; i < offset + count; i++)
+            group = group << Byte.SIZE | bytes[i] & 0xFF;
+
+        return group;
+
+    }
+
+    private long readDigits(final CharSequence input, final int start, final int count) {
+
+        long group = 0;
+        for (int i = start; i < start + count; i++) {
+            final char digit = input.charAt(i);
+            final int value = digit < this.values.length ? this.values[digit] : -1;
+            if (value < 0)
+                throw this.invalidDigit(i);
+            group = group << this.bits | value;
+        }
+
+        return group;
+
+    }
+
+}
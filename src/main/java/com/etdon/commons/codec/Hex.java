@@ -0,0 +1,268 @@
+package com.etdon.commons.codec;
+
+import com.etdon.commons.conditional.Preconditions;
+import org.jetbrains.annotations.NotNullByDefault;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+
+/**
+ * Table-driven hexadecimal codec. Encoding looks up both digits of a byte in a single 512 entry table and writes them
+ * into caller provided <code>char</code> arrays, <code>byte</code> arrays or {@link Appendable appendables} without
+ * creating intermediate strings. Encoded digits are upper case, decoding accepts both cases.
+ */
+@NotNullByDefault
+public final class Hex {
+
+    /**
+     * The two upper case digits of every byte value, the high digit at <code>2 * value</code> and the low digit at
+     * <code>2 * value + 1</code>.
+     */
+    private static final char[] DIGITS = new char[512];
+    /**
+     * The value of every ASCII hexadecimal digit or <code>-1</code> for all other characters.
+     */
+    private static final byte[] VALUES = new byte[128];
+    /**
+     * The maximum count of characters buffered before writing them to a {@link Writer}.
+     */
+    private static final int WRITE_CHUNK = 256;
+
+    static {
+        final char[] alphabet = "0123456789ABCDEF".toCharArray();
+        for (int value = 0; value < 256; value++) {
+            DIGITS[value << 1] = alphabet[value >>> 4];
+            DIGITS[(value << 1) + 1] = alphabet[value & 0xF];
+        }
+        Arrays.fill(VALUES, (byte) -1);
+        for (int value = 0; value < 16; value++) {
+            VALUES[alphabet[value]] = (byte) value;
+            VALUES[Character.toLowerCase(alphabet[value])] = (byte) value;
+        }
+    }
+
+    /**
+     * Encodes the provided <code>byte</code> to its two character hexadecimal representation.
+     *
+     * @param value the <code>byte</code> value
+     * @return the hexadecimal representation
+     */
+    public static String encode(final byte value) {
+
+        return new String(DIGITS, (value & 0xFF) << 1, 2);
+
+    }
+
+    /**
+     * Encodes the provided bytes to their hexadecimal representation.
+     *
+     * @param bytes the bytes
+     * @return the hexadecimal representation
+     */
+    public static String encode(final byte[] bytes) {
+
+        return encode(bytes, 0, bytes.length);
+
+    }
+
+    /**
+     * Encodes the provided range of bytes to its hexadecimal representation.
+     *
+     * @param bytes  the bytes
+     * @param offset the offset of the first byte
+     * @param length the byte count
+     * @return the hexadecimal representation
+     */
+    public static String encode(final byte[] bytes, final int offset, final int length) {
+
+        final char[] chars = new char[checkedLength(bytes.length, offset, length)];
+        encode(bytes, offset, length, chars, 0);
+
+        return new String(chars);
+
+    }
+
+    /**
+     * Encodes the provided range of bytes into the provided <code>char</code> array starting at the provided index.
+     *
+     * @param bytes  the bytes
+     * @param offset the offset of the first byte
+     * @param length the byte count
+     * @param target the target array
+     * @param index  the index of the first character
+     * @return the index following the last written character
+     */
+    public static int encode(final byte[] bytes, final int offset, final int length, final char[] target, final int index) {
+
+        final int encodedLength = checkedLength(bytes.length, offset, length);
+        Preconditions.checkArgument(index >= 0 && index <= target.length - encodedLength, "The target array (length: {}) cannot hold {} characters at index {}.", target.length, encodedLength, index);
+        int position = index;
+        for (int i = offset; i < offset + length; i++) {
+            final int digits = (bytes[i] & 0xFF) << 1;
+            target[position++] = DIGITS[digits];
+            target[position++] = DIGITS[digits + 1];
+        }
+
+        return position;
+
+    }
+
+    /**
+     * Encodes the provided <code>long</code> as sixteen hexadecimal digits, most significant byte first, into the
+     * provided <code>char</code> array starting at the provided index.
+     *
+     * @param value  the <code>long</code> value
+     * @param target the target array
+     * @param index  the index of the first character
+     * @return the index following the last written character
+     */
+    public static int encode(final long value, final char[] target, final int index) {
+
+        Preconditions.checkArgument(index >= 0 && index <= target.length - Long.BYTES * 2, "The target array (length: {}) cannot hold {} characters at index {}.", target.length, Long.BYTES * 2, index);
+        int position = index;
+        for (int shift = Long.SIZE - Byte.SIZE; shift >= 0; shift -= Byte.SIZE) {
+            final int digits = (int) (value >>> shift & 0xFF) << 1;
+            target[position++] = DIGITS[digits];
+            target[position++] = DIGITS[digits + 1];
+        }
+
+        return position;
+
+    }
+
+    /**
+     * Encodes the provided range of bytes as ASCII digits into the provided <code>byte</code> array starting at the
+     * provided index.
+     *
+     * @param bytes  the bytes
+     * @param offset the offset of the first byte
+     * @param length the byte count
+     * @param target the target array
+     * @param index  the index of the first digit
+     * @return the index following the last written digit
+     */
+    public static int encode(final byte[] bytes, final int offset, final int length, final byte[] target, final int index) {
+
+        final int encodedLength = checkedLength(bytes.length, offset, length);
+        Preconditions.checkArgument(index >= 0 && index <= target.length - encodedLength, "The target array (length: {}) cannot hold {} digits at index {}.", target.length, encodedLength, index);
+        int position = index;
+        for (int i = offset; i < offset + length; i++) {
+            final int digits = (bytes[i] & 0xFF) << 1;
+            target[position++] = (byte) DIGITS[digits];
+            target[position++] = (byte) DIGITS[digits + 1];
+        }
+
+        return position;
+
+    }
+
+    /**
+     * Appends the hexadecimal representation of the provided range of bytes to the provided appendable. String builders
+     * are presized, writers receive chunks of up to 256 characters.
+     *
+     * @param bytes  the bytes
+     * @param offset the offset of the first byte
+     * @param length the byte count
+     * @param target the target appendable
+     * @throws IOException if the appendable fails to append
+     */
+    public static void encode(final byte[] bytes, final int offset, final int length, final Appendable target) throws IOException {
+
+        checkedLength(bytes.length, offset, length);
+        if (target instanceof StringBuilder) {
+            final StringBuilder stringBuilder = (StringBuilder) target;
+            stringBuilder.ensureCapacity(stringBuilder.length() + length * 2);
+            for (int i = offset; i < offset + length; i++) {
+                final int digits = (bytes[i] & 0xFF) << 1;
+                stringBuilder.append(DIGITS[digits]).append(DIGITS[digits + 1]);
+            }
+            return;
+        }
+
+        if (target instanceof Writer) {
+            final char[] chunk = new char[Math.min(WRITE_CHUNK, length * 2)];
+            final int chunkBytes = chunk.length / 2;
+            for (int i = offset; i < offset + length; i += chunkBytes) {
+                final int count = Math.min(chunkBytes, offset + length - i);
+                ((Writer) target).write(chunk, 0, encode(bytes, i, count, chunk, 0));
+            }
+            return;
+        }
+
+        for (int i = offset; i < offset + length; i++) {
+            final int digits = (bytes[i] & 0xFF) << 1;
+            target.append(DIGITS[digits]).append(DIGITS[digits + 1]);
+        }
+
+    }
+
+    /**
+     * Decodes the provided hexadecimal representation to bytes.
+     *
+     * @param input the hexadecimal representation
+     * @return the decoded bytes
+     * @throws IllegalArgumentException if the input has an odd length or contains invalid digits
+     */
+    public static byte[] decode(final CharSequence input) {
+
+        Preconditions.checkArgument((input.length() & 1) == 0, "The hexadecimal input has an odd length ({}).", input.length());
+        final byte[] bytes = new byte[input.length() / 2];
+        decode(input, 0, input.length(), bytes, 0);
+
+        return bytes;
+
+    }
+
+    /**
+     * Decodes the provided range of a hexadecimal representation into the provided array starting at the provided
+     * index.
+     *
+     * @param input  the hexadecimal representation
+     * @param start  the index of the first digit
+     * @param end    the index following the last digit
+     * @param target the target array
+     * @param index  the index of the first byte
+     * @return the index following the last written byte
+     * @throws IllegalArgumentException if the range has an odd length or contains invalid digits
+     */
+    public static int decode(final CharSequence input, final int start, final int end, final byte[] target, final int index) {
+
+        Preconditions.checkArgument(start >= 0 && start <= end && end <= input.length(), "The provided range (start: {}, end: {}) is out of bounds for the input (length: {}).", start, end, input.length());
+        Preconditions.checkArgument(((end - start) & 1) == 0, "The hexadecimal input has an odd length ({}).", end - start);
+        final int length = (end - start) / 2;
+        Preconditions.checkArgument(index >= 0 && index <= target.length - length, "The target array (length: {}) cannot hold {} bytes at index {}.", target.length, length, index);
+        int position = index;
+        for (int i = start; i < end; i += 2) {
+            final int high = value(input.charAt(i));
+            final int low = value(input.charAt(i + 1));
+            if ((high | low) < 0)
+                throw new IllegalArgumentException("Invalid hexadecimal digit at index " + (high < 0 ? i : i + 1) + ".");
+            target[position++] = (byte) (high << 4 | low);
+        }
+
+        return position;
+
+    }
+
+    private static int value(final char digit) {
+
+        return digit < VALUES.length ? VALUES[digit] : -1;
+
+    }
+
+    private static int checkedLength(final int arrayLength, final int offset, final int length) {
+
+        Preconditions.checkArgument(offset >= 0 && length >= 0 && offset <= arrayLength - length, "The provided range (offset: {}, length: {}) is out of bounds for the array (length: {}).", offset, length, arrayLength);
+        Preconditions.checkArgument(length <= Integer.MAX_VALUE / 2, "The encoded length of {} bytes exceeds the maximum array size.", length);
+        return length * 2;
+
+    }
+
+    private Hex() {
+
+        throw new UnsupportedOperationException();
+
+    }
+
+}
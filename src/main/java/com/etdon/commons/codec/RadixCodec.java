@@ -0,0 +1,266 @@
+package com.etdon.commons.codec;
+
+import com.etdon.commons.conditional.Preconditions;
+import com.etdon.commons.io.ByteReader;
+import com.etdon.commons.util.Bytes;
+import org.jetbrains.annotations.NotNullByDefault;
+
+import java.util.Arrays;
+
+/**
+ * Encoder and decoder for a radix based text representation of bytes. All codecs encode into caller provided
+ * <code>char</code> or <code>byte</code> arrays and decode from any {@link CharSequence} range into caller provided
+ * arrays, the convenience methods returning strings or arrays allocate exactly once.
+ * <p>
+ * The power of two codecs ({@link RadixCodec#BASE32}, {@link RadixCodec#BASE32_HEX}, {@link RadixCodec#BASE64} and
+ * {@link RadixCodec#BASE64_URL}) follow RFC 4648 and encode groups of bits. The other codecs
+ * ({@link RadixCodec#BASE36} and {@link RadixCodec#BASE58}) treat the input as a big-endian unsigned number, every
+ * leading zero byte is represented by a leading zero digit to preserve the input length.
+ */
+@NotNullByDefault
+public abstract class RadixCodec {
+
+    /**
+     * RFC 4648 base 32 with padding, decoding accepts lower case digits and missing padding.
+     */
+    public static final RadixCodec BASE32 = new BitGroupCodec("Base32", "ABCDEFGHIJKLMNOPQRSTUVWXYZ234567".toCharArray(), true, true);
+    /**
+     * RFC 4648 base 32 with the extended hex alphabet (the first 32 {@link Bytes#DIGITS}) and padding, decoding
+     * accepts lower case digits and missing padding.
+     */
+    public static final RadixCodec BASE32_HEX = new BitGroupCodec("Base32Hex", Arrays.copyOf(Bytes.DIGITS, 32), true, true);
+    /**
+     * Base 36 using the upper case {@link Bytes#DIGITS}, decoding accepts lower case digits.
+     */
+    public static final RadixCodec BASE36 = new BigRadixCodec("Base36", Bytes.DIGITS, true);
+    /**
+     * Base 58 using the Bitcoin alphabet which omits <code>0</code>, <code>O</code>, <code>I</code> and
+     * <code>l</code>.
+     */
+    public static final RadixCodec BASE58 = new BigRadixCodec("Base58", "123456789ABCDEFGHJKLMNPQRSTUVWXYZabcdefghijkmnopqrstuvwxyz".toCharArray(), false);
+    /**
+     * RFC 4648 base 64 with padding, decoding accepts missing padding.
+     */
+    public static final RadixCodec BASE64 = new BitGroupCodec("Base64", "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/".toCharArray(), false, true);
+    /**
+     * RFC 4648 URL and filename safe base 64 without padding, decoding accepts padding.
+     */
+    public static final RadixCodec BASE64_URL = new BitGroupCodec("Base64Url", "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_".toCharArray(), false, false);
+
+    private final String name;
+
+    RadixCodec(final String name) {
+
+        this.name = name;
+
+    }
+
+    /**
+     * Returns the maximum count of characters the provided count of bytes is encoded to.
+     *
+     * @param byteCount the byte count
+     * @return the maximum character count
+     * @throws IllegalArgumentException if the character count exceeds the maximum array size
+     */
+    public abstract int getMaxEncodedLength(int byteCount);
+
+    /**
+     * Returns the maximum count of bytes the provided count of characters is decoded to.
+     *
+     * @param charCount the character count
+     * @return the maximum byte count
+     */
+    public abstract int getMaxDecodedLength(int charCount);
+
+    /**
+     * Returns a codec equal to this one that does or does not pad the encoded representation. Codecs without a
+     * padding scheme return themselves.
+     *
+     * @param padding whether the encoded representation is padded
+     * @return the codec
+     */
+    public abstract RadixCodec withPadding(boolean padding);
+
+    /**
+     * Encodes the provided range of bytes into the provided <code>char</code> array starting at the provided index.
+     *
+     * @param bytes  the bytes
+     * @param offset the offset of the first byte
+     * @param length the byte count
+     * @param target the target array
+     * @param index  the index of the first character
+     * @return the index following the last written character
+     */
+    public abstract int encode(byte[] bytes, int offset, int length, char[] target, int index);
+
+    /**
+     * Encodes the provided range of bytes as ASCII digits into the provided <code>byte</code> array starting at the
+     * provided index.
+     *
+     * @param bytes  the bytes
+     * @param offset the offset of the first byte
+     * @param length the byte count
+     * @param target the target array
+     * @param index  the index of the first digit
+     * @return the index following the last written digit
+     */
+    public abstract int encode(byte[] bytes, int offset, int length, byte[] target, int index);
+
+    /**
+     * Decodes the provided range of an encoded representation into the provided array starting at the provided
+     * index.
+     *
+     * @param input  the encoded representation
+     * @param start  the index of the first digit
+     * @param end    the index following the last digit
+     * @param target the target array
+     * @param index  the index of the first byte
+     * @return the index following the last written byte
+     * @throws IllegalArgumentException if the range contains invalid digits or has an invalid length
+     */
+    public abstract int decode(CharSequence input, int start, int end, byte[] target, int index);
+
+    /**
+     * Encodes the provided bytes.
+     *
+     * @param bytes the bytes
+     * @return the encoded representation
+     */
+    public String encode(final byte[] bytes) {
+
+        return this.encode(bytes, 0, bytes.length);
+
+    }
+
+    /**
+     * Encodes the provided range of bytes.
+     *
+     * @param bytes  the bytes
+     * @param offset the offset of the first byte
+     * @param length the byte count
+     * @return the encoded representation
+     */
+    public String encode(final byte[] bytes, final int offset, final int length) {
+
+        checkRange(bytes.length, offset, length);
+        final char[] chars = new char[this.getMaxEncodedLength(length)];
+        final int count = this.encode(bytes, offset, length, chars, 0);
+
+        return new String(chars, 0, count);
+
+    }
+
+    /**
+     * Encodes the remaining bytes of the provided reader and advances the reader to its end.
+     *
+     * @param source the source reader
+     * @return the encoded representation
+     */
+    public String encode(final ByteReader source) {
+
+        final char[] chars = new char[this.getMaxEncodedLength(source.getRemaining())];
+        final int count = this.encode(source, chars, 0);
+
+        return new String(chars, 0, count);
+
+    }
+
+    /**
+     * Encodes the remaining bytes of the provided reader into the provided <code>char</code> array starting at the
+     * provided index and advances the reader to its end.
+     *
+     * @param source the source reader
+     * @param target the target array
+     * @param index  the index of the first character
+     * @return the index following the last written character
+     */
+    public abstract int encode(ByteReader source, char[] target, int index);
+
+    /**
+     * Decodes the provided encoded representation.
+     *
+     * @param input the encoded representation
+     * @return the decoded bytes
+     * @throws IllegalArgumentException if the input contains invalid digits or has an invalid length
+     */
+    public byte[] decode(final CharSequence input) {
+
+        final byte[] bytes = new byte[this.getMaxDecodedLength(input.length())];
+        final int count = this.decode(input, 0, input.length(), bytes, 0);
+
+        return count == bytes.length ? bytes : Arrays.copyOf(bytes, count);
+
+    }
+
+    /**
+     * Returns the name of the encoding, e.g. <code>Base64</code>.
+     *
+     * @return the name
+     */
+    public String getName() {
+
+        return this.name;
+
+    }
+
+    @Override
+    public String toString() {
+
+        return this.name;
+
+    }
+
+    IllegalArgumentException invalidDigit(final int index) {
+
+        return new IllegalArgumentException("Invalid " + this.name + " digit at index " + index + ".");
+
+    }
+
+    static void checkRange(final int arrayLength, final int offset, final int length) {
+
+        Preconditions.checkArgument(offset >= 0 && length >= 0 && offset <= arrayLength - length, "The provided range (offset: {}, length: {}) is out of bounds for the array (length: {}).", offset, length, arrayLength);
+
+    }
+
+    static void checkRange(final CharSequence input, final int start, final int end) {
+
+        Preconditions.checkArgument(start >= 0 && start <= end && end <= input.length(), "The provided range (start: {}, end: {}) is out of bounds for the input (length: {}).", start, end, input.length());
+
+    }
+
+    static void checkTarget(final int targetLength, final int index, final int count) {
+
+        Preconditions.checkArgument(index >= 0 && index <= targetLength - count, "The target array (length: {}) cannot hold {} elements at index {}.", targetLength, count, index);
+
+    }
+
+    static int checkedLength(final long length) {
+
+        Preconditions.checkArgument(length <= Integer.MAX_VALUE, "The encoded length ({}) exceeds the maximum array size.", length);
+        return (int) length;
+
+    }
+
+    /**
+     * Creates the decoding table of the provided alphabet mapping every ASCII character to its value or
+     * <code>-1</code>.
+     *
+     * @param alphabet   the alphabet
+     * @param ignoreCase whether lower case letters are mapped to the values of their upper case counterparts
+     * @return the decoding table
+     */
+    static byte[] values(final char[] alphabet, final boolean ignoreCase) {
+
+        final byte[] values = new byte[128];
+        Arrays.fill(values, (byte) -1);
+        for (int value = 0; value < alphabet.length; value++) {
+            values[alphabet[value]] = (byte) value;
+            if (ignoreCase)
+                values[Character.toLowerCase(alphabet[value])] = (byte) value;
+        }
+
+        return values;
+
+    }
+
+}
@@ -1,5 +1,6 @@
 package com.etdon.commons.conditional;
 
+import com.etdon.commons.util.MessageTemplate;
 import com.etdon.commons.util.Strings;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
@@ -7,6 +8,12 @@ import org.jetbrains.annotations.Nullable;
 
 /**
  * Utilities for validating method arguments and state, throwing an appropriate exception if a check fails.
+ * <p>
+ * The fixed-arity overloads taking up to three <code>long</code> or <code>Object</code> placeholder values do not
+ * allocate while the check passes, <code>int</code> values widen to <code>long</code> without being boxed. They are
+ * preferred over the varargs overloads in frequently called code. <code>char</code> values are rendered as
+ * characters by their own overloads for every combination of <code>char</code> and <code>long</code> values, so they
+ * never widen to <code>long</code>.
  */
 public final class Preconditions {
 
@@ -47,6 +54,361 @@ public final class Preconditions {
 
     }
 
+    /**
+     * Throws a {@link NullPointerException} with the provided message if the provided reference is <code>null</code>.
+     *
+     * @param reference the reference
+     * @param message   the message
+     * @param <T>       the reference type
+     * @throws NullPointerException if the provided reference is <code>null</code>
+     */
+    @Contract("null, _ -> fail")
+    public static <T> void checkNotNull(@Nullable final T reference, @Nullable final String message) throws NullPointerException {
+
+        if (reference == null)
+            throw new NullPointerException(message != null ? message : DEFAULT_CHECK_NOT_NULL_MESSAGE);
+
+    }
+
+    /**
+     * Throws a {@link NullPointerException} with the provided message if the provided reference is <code>null</code>.
+     * The value is not boxed or collected into an array unless the check fails.
+     *
+     * @param reference the reference
+     * @param message   the message
+     * @param value     the message placeholder value
+     * @param <T>       the reference type
+     * @throws NullPointerException if the provided reference is <code>null</code>
+     */
+    @Contract("null, _, _ -> fail")
+    public static <T> void checkNotNull(@Nullable final T reference, @Nullable final String message, final long value) throws NullPointerException {
+
+        if (reference == null)
+            throw new NullPointerException(message != null ? MessageTemplate.compile(message).render(value) : DEFAULT_CHECK_NOT_NULL_MESSAGE);
+
+    }
+
+    /**
+     * Throws a {@link NullPointerException} with the provided message if the provided reference is <code>null</code>.
+     * The value is rendered as a character and is not boxed or collected into an array unless the check fails.
+     *
+     * @param reference the reference
+     * @param message   the message
+     * @param value     the message placeholder value
+     * @param <T>       the reference type
+     * @throws NullPointerException if the provided reference is <code>null</code>
+     */
+    @Contract("null, _, _ -> fail")
+    public static <T> void checkNotNull(@Nullable final T reference, @Nullable final String message, final char value) throws NullPointerException {
+
+        if (reference == null)
+            throw new NullPointerException(message != null ? MessageTemplate.compile(message).render(value) : DEFAULT_CHECK_NOT_NULL_MESSAGE);
+
+    }
+
+    /**
+     * Throws a {@link NullPointerException} with the provided message if the provided reference is <code>null</code>.
+     * The values are not boxed or collected into an array unless the check fails.
+     *
+     * @param reference the reference
+     * @param message   the message
+     * @param first     the first message placeholder value
+     * @param second    the second message placeholder value
+     * @param <T>       the reference type
+     * @throws NullPointerException if the provided reference is <code>null</code>
+     */
+    @Contract("null, _, _, _ -> fail")
+    public static <T> void checkNotNull(@Nullable final T reference, @Nullable final String message, final long first, final long second) throws NullPointerException {
+
+        if (reference == null)
+            throw new NullPointerException(message != null ? MessageTemplate.compile(message).render(first, second) : DEFAULT_CHECK_NOT_NULL_MESSAGE);
+
+    }
+
+    /**
+     * Throws a {@link NullPointerException} with the provided message if the provided reference is <code>null</code>.
+     * The values are not boxed or collected into an array unless the check fails.
+     *
+     * @param reference the reference
+     * @param message   the message
+     * @param first     the first message placeholder value
+     * @param second    the second message placeholder value
+     * @param third     the third message placeholder value
+     * @param <T>       the reference type
+     * @throws NullPointerException if the provided reference is <code>null</code>
+     */
+    @Contract("null, _, _, _, _ -> fail")
+    public static <T> void checkNotNull(@Nullable final T reference, @Nullable final String message, final long first, final long second, final long third) throws NullPointerException {
+
+        if (reference == null)
+            throw new NullPointerException(message != null ? MessageTemplate.compile(message).render(first, second, third) : DEFAULT_CHECK_NOT_NULL_MESSAGE);
+
+    }
+
+    /**
+     * Throws a {@link NullPointerException} with the provided message if the provided reference is <code>null</code>.
+     * The <code>char</code> values are rendered as characters, no value is boxed or collected into an array unless the
+     * check fails.
+     *
+     * @param reference the reference
+     * @param message   the message
+     * @param first     the first message placeholder value
+     * @param second    the second message placeholder value
+     * @param <T>       the reference type
+     * @throws NullPointerException if the provided reference is <code>null</code>
+     */
+    @Contract("null, _, _, _ -> fail")
+    public static <T> void checkNotNull(@Nullable final T reference, @Nullable final String message, final char first, final char second) throws NullPointerException {
+
+        if (reference == null)
+            throw new NullPointerException(message != null ? MessageTemplate.compile(message).render((Object) first, (Object) second) : DEFAULT_CHECK_NOT_NULL_MESSAGE);
+
+    }
+
+    /**
+     * Throws a {@link NullPointerException} with the provided message if the provided reference is <code>null</code>.
+     * The <code>char</code> values are rendered as characters, no value is boxed or collected into an array unless the
+     * check fails.
+     *
+     * @param reference the reference
+     * @param message   the message
+     * @param first     the first message placeholder value
+     * @param second    the second message placeholder value
+     * @param <T>       the reference type
+     * @throws NullPointerException if the provided reference is <code>null</code>
+     */
+    @Contract("null, _, _, _ -> fail")
+    public static <T> void checkNotNull(@Nullable final T reference, @Nullable final String message, final char first, final long second) throws NullPointerException {
+
+        if (reference == null)
+            throw new NullPointerException(message != null ? MessageTemplate.compile(message).render((Object) first, (Object) second) : DEFAULT_CHECK_NOT_NULL_MESSAGE);
+
+    }
+
+    /**
+     * Throws a {@link NullPointerException} with the provided message if the provided reference is <code>null</code>.
+     * The <code>char</code> values are rendered as characters, no value is boxed or collected into an array unless the
+     * check fails.
+     *
+     * @param reference the reference
+     * @param message   the message
+     * @param first     the first message placeholder value
+     * @param second    the second message placeholder value
+     * @param <T>       the reference type
+     * @throws NullPointerException if the provided reference is <code>null</code>
+     */
+    @Contract("null, _, _, _ -> fail")
+    public static <T> void checkNotNull(@Nullable final T reference, @Nullable final String message, final long first, final char second) throws NullPointerException {
+
+        if (reference == null)
+            throw new NullPointerException(message != null ? MessageTemplate.compile(message).render((Object) first, (Object) second) : DEFAULT_CHECK_NOT_NULL_MESSAGE);
+
+    }
+
+    /**
+     * Throws a {@link NullPointerException} with the provided message if the provided reference is <code>null</code>.
+     * The <code>char</code> values are rendered as characters, no value is boxed or collected into an array unless the
+     * check fails.
+     *
+     * @param reference the reference
+     * @param message   the message
+     * @param first     the first message placeholder value
+     * @param second    the second message placeholder value
+     * @param third     the third message placeholder value
+     * @param <T>       the reference type
+     * @throws NullPointerException if the provided reference is <code>null</code>
+     */
+    @Contract("null, _, _, _, _ -> fail")
+    public static <T> void checkNotNull(@Nullable final T reference, @Nullable final String message, final char first, final char second, final char third) throws NullPointerException {
+
+        if (reference == null)
+            throw new NullPointerException(message != null ? MessageTemplate.compile(message).render((Object) first, (Object) second, (Object) third) : DEFAULT_CHECK_NOT_NULL_MESSAGE);
+
+    }
+
+    /**
+     * Throws a {@link NullPointerException} with the provided message if the provided reference is <code>null</code>.
+     * The <code>char</code> values are rendered as characters, no value is boxed or collected into an array unless the
+     * check fails.
+     *
+     * @param reference the reference
+     * @param message   the message
+     * @param first     the first message placeholder value
+     * @param second    the second message placeholder value
+     * @param third     the third message placeholder value
+     * @param <T>       the reference type
+     * @throws NullPointerException if the provided reference is <code>null</code>
+     */
+    @Contract("null, _, _, _, _ -> fail")
+    public static <T> void checkNotNull(@Nullable final T reference, @Nullable final String message, final char first, final char second, final long third) throws NullPointerException {
+
+        if (reference == null)
+            throw new NullPointerException(message != null ? MessageTemplate.compile(message).render((Object) first, (Object) second, (Object) third) : DEFAULT_CHECK_NOT_NULL_MESSAGE);
+
+    }
+
+    /**
+     * Throws a {@link NullPointerException} with the provided message if the provided reference is <code>null</code>.
+     * The <code>char</code> values are rendered as characters, no value is boxed or collected into an array unless the
+     * check fails.
+     *
+     * @param reference the reference
+     * @param message   the message
+     * @param first     the first message placeholder value
+     * @param second    the second message placeholder value
+     * @param third     the third message placeholder value
+     * @param <T>       the reference type
+     * @throws NullPointerException if the provided reference is <code>null</code>
+     */
+    @Contract("null, _, _, _, _ -> fail")
+    public static <T> void checkNotNull(@Nullable final T reference, @Nullable final String message, final char first, final long second, final char third) throws NullPointerException {
+
+        if (reference == null)
+            throw new NullPointerException(message != null ? MessageTemplate.compile(message).render((Object) first, (Object) second, (Object) third) : DEFAULT_CHECK_NOT_NULL_MESSAGE);
+
+    }
+
+    /**
+     * Throws a {@link NullPointerException} with the provided message if the provided reference is <code>null</code>.
+     * The <code>char</code> values are rendered as characters, no value is boxed or collected into an array unless the
+     * check fails.
+     *
+     * @param reference the reference
+     * @param message   the message
+     * @param first     the first message placeholder value
+     * @param second    the second message placeholder value
+     * @param third     the third message placeholder value
+     * @param <T>       the reference type
+     * @throws NullPointerException if the provided reference is <code>null</code>
+     */
+    @Contract("null, _, _, _, _ -> fail")
+    public static <T> void checkNotNull(@Nullable final T reference, @Nullable final String message, final char first, final long second, final long third) throws NullPointerException {
+
+        if (reference == null)
+            throw new NullPointerException(message != null ? MessageTemplate.compile(message).render((Object) first, (Object) second, (Object) third) : DEFAULT_CHECK_NOT_NULL_MESSAGE);
+
+    }
+
+    /**
+     * Throws a {@link NullPointerException} with the provided message if the provided reference is <code>null</code>.
+     * The <code>char</code> values are rendered as characters, no value is boxed or collected into an array unless the
+     * check fails.
+     *
+     * @param reference the reference
+     * @param message   the message
+     * @param first     the first message placeholder value
+     * @param second    the second message placeholder value
+     * @param third     the third message placeholder value
+     * @param <T>       the reference type
+     * @throws NullPointerException if the provided reference is <code>null</code>
+     */
+    @Contract("null, _, _, _, _ -> fail")
+    public static <T> void checkNotNull(@Nullable final T reference, @Nullable final String message, final long first, final char second, final char third) throws NullPointerException {
+
+        if (reference == null)
+            throw new NullPointerException(message != null ? MessageTemplate.compile(message).render((Object) first, (Object) second, (Object) third) : DEFAULT_CHECK_NOT_NULL_MESSAGE);
+
+    }
+
+    /**
+     * Throws a {@link NullPointerException} with the provided message if the provided reference is <code>null</code>.
+     * The <code>char</code> values are rendered as characters, no value is boxed or collected into an array unless the
+     * check fails.
+     *
+     * @param reference the reference
+     * @param message   the message
+     * @param first     the first message placeholder value
+     * @param second    the second message placeholder value
+     * @param third     the third message placeholder value
+     * @param <T>       the reference type
+     * @throws NullPointerException if the provided reference is <code>null</code>
+     */
+    @Contract("null, _, _, _, _ -> fail")
+    public static <T> void checkNotNull(@Nullable final T reference, @Nullable final String message, final long first, final char second, final long third) throws NullPointerException {
+
+        if (reference == null)
+            throw new NullPointerException(message != null ? MessageTemplate.compile(message).render((Object) first, (Object) second, (Object) third) : DEFAULT_CHECK_NOT_NULL_MESSAGE);
+
+    }
+
+    /**
+     * Throws a {@link NullPointerException} with the provided message if the provided reference is <code>null</code>.
+     * The <code>char</code> values are rendered as characters, no value is boxed or collected into an array unless the
+     * check fails.
+     *
+     * @param reference the reference
+     * @param message   the message
+     * @param first     the first message placeholder value
+     * @param second    the second message placeholder value
+     * @param third     the third message placeholder value
+     * @param <T>       the reference type
+     * @throws NullPointerException if the provided reference is <code>null</code>
+     */
+    @Contract("null, _, _, _, _ -> fail")
+    public static <T> void checkNotNull(@Nullable final T reference, @Nullable final String message, final long first, final long second, final char third) throws NullPointerException {
+
+        if (reference == null)
+            throw new NullPointerException(message != null ? MessageTemplate.compile(message).render((Object) first, (Object) second, (Object) third) : DEFAULT_CHECK_NOT_NULL_MESSAGE);
+
+    }
+
+    /**
+     * Throws a {@link NullPointerException} with the provided message if the provided reference is <code>null</code>.
+     * The value is not collected into an array unless the check fails.
+     *
+     * @param reference the reference
+     * @param message   the message
+     * @param value     the message placeholder value
+     * @param <T>       the reference type
+     * @throws NullPointerException if the provided reference is <code>null</code>
+     */
+    @Contract("null, _, _ -> fail")
+    public static <T> void checkNotNull(@Nullable final T reference, @Nullable final String message, @Nullable final Object value) throws NullPointerException {
+
+        if (reference == null)
+            throw new NullPointerException(message != null ? MessageTemplate.compile(message).render(value) : DEFAULT_CHECK_NOT_NULL_MESSAGE);
+
+    }
+
+    /**
+     * Throws a {@link NullPointerException} with the provided message if the provided reference is <code>null</code>.
+     * The values are not collected into an array unless the check fails.
+     *
+     * @param reference the reference
+     * @param message   the message
+     * @param first     the first message placeholder value
+     * @param second    the second message placeholder value
+     * @param <T>       the reference type
+     * @throws NullPointerException if the provided reference is <code>null</code>
+     */
+    @Contract("null, _, _, _ -> fail")
+    public static <T> void checkNotNull(@Nullable final T reference, @Nullable final String message, @Nullable final Object first, @Nullable final Object second) throws NullPointerException {
+
+        if (reference == null)
+            throw new NullPointerException(message != null ? MessageTemplate.compile(message).render(first, second) : DEFAULT_CHECK_NOT_NULL_MESSAGE);
+
+    }
+
+    /**
+     * Throws a {@link NullPointerException} with the provided message if the provided reference is <code>null</code>.
+     * The values are not collected into an array unless the check fails.
+     *
+     * @param reference the reference
+     * @param message   the message
+     * @param first     the first message placeholder value
+     * @param second    the second message placeholder value
+     * @param third     the third message placeholder value
+     * @param <T>       the reference type
+     * @throws NullPointerException if the provided reference is <code>null</code>
+     */
+    @Contract("null, _, _, _, _ -> fail")
+    public static <T> void checkNotNull(@Nullable final T reference, @Nullable final String message, @Nullable final Object first, @Nullable final Object second, @Nullable final Object third) throws NullPointerException {
+
+        if (reference == null)
+            throw new NullPointerException(message != null ? MessageTemplate.compile(message).render(first, second, third) : DEFAULT_CHECK_NOT_NULL_MESSAGE);
+
+    }
+
     /**
      * Throws an {@link IllegalArgumentException} if the provided reference is not <code>null</code>.
      *
@@ -110,27 +472,364 @@ public final class Preconditions {
     }
 
     /**
-     * Throws an {@link IllegalArgumentException} if the provided expression is <code>false</code>.
+     * Throws an {@link IllegalStateException} with the provided message if the provided state is <code>false</code>.
      *
-     * @param expression the expression
-     * @throws IllegalArgumentException if the provided expression is <code>false</code>
+     * @param state   the state
+     * @param message the message
+     * @throws IllegalStateException if the provided state is <code>false</code>
      */
-    @Contract("false -> fail")
-    public static void checkArgument(final boolean expression) throws IllegalArgumentException {
+    @Contract("false, _ -> fail")
+    public static void checkState(final boolean state, @Nullable final String message) throws IllegalStateException {
 
-        if (!expression)
-            throw new IllegalArgumentException();
+        if (!state)
+            throw new IllegalStateException(message != null ? message : DEFAULT_CHECK_STATE_MESSAGE);
 
     }
 
     /**
-     * Throws an {@link IllegalArgumentException} with the provided message if the provided expression is
-     * <code>false</code>.
+     * Throws an {@link IllegalStateException} with the provided message if the provided state is <code>false</code>.
+     * The value is not boxed or collected into an array unless the check fails.
      *
-     * @param expression the expression
-     * @param message    the message
-     * @param values     the message placeholder values
-     * @throws IllegalArgumentException if the provided expression is <code>false</code>
+     * @param state   the state
+     * @param message the message
+     * @param value   the message placeholder value
+     * @throws IllegalStateException if the provided state is <code>false</code>
+     */
+    @Contract("false, _, _ -> fail")
+    public static void checkState(final boolean state, @Nullable final String message, final long value) throws IllegalStateException {
+
+        if (!state)
+            throw new IllegalStateException(message != null ? MessageTemplate.compile(message).render(value) : DEFAULT_CHECK_STATE_MESSAGE);
+
+    }
+
+    /**
+     * Throws an {@link IllegalStateException} with the provided message if the provided state is <code>false</code>.
+     * The value is rendered as a character and is not boxed or collected into an array unless the check fails.
+     *
+     * @param state   the state
+     * @param message the message
+     * @param value   the message placeholder value
+     * @throws IllegalStateException if the provided state is <code>false</code>
+     */
+    @Contract("false, _, _ -> fail")
+    public static void checkState(final boolean state, @Nullable final String message, final char value) throws IllegalStateException {
+
+        if (!state)
+            throw new IllegalStateException(message != null ? MessageTemplate.compile(message).render(value) : DEFAULT_CHECK_STATE_MESSAGE);
+
+    }
+
+    /**
+     * Throws an {@link IllegalStateException} with the provided message if the provided state is <code>false</code>.
+     * The values are not boxed or collected into an array unless the check fails.
+     *
+     * @param state   the state
+     * @param message the message
+     * @param first   the first message placeholder value
+     * @param second  the second message placeholder value
+     * @throws IllegalStateException if the provided state is <code>false</code>
+     */
+    @Contract("false, _, _, _ -> fail")
+    public static void checkState(final boolean state, @Nullable final String message, final long first, final long second) throws IllegalStateException {
+
+        if (!state)
+            throw new IllegalStateException(message != null ? MessageTemplate.compile(message).render(first, second) : DEFAULT_CHECK_STATE_MESSAGE);
+
+    }
+
+    /**
+     * Throws an {@link IllegalStateException} with the provided message if the provided state is <code>false</code>.
+     * The values are not boxed or collected into an array unless the check fails.
+     *
+     * @param state   the state
+     * @param message the message
+     * @param first   the first message placeholder value
+     * @param second  the second message placeholder value
+     * @param third   the third message placeholder value
+     * @throws IllegalStateException if the provided state is <code>false</code>
+     */
+    @Contract("false, _, _, _, _ -> fail")
+    public static void checkState(final boolean state, @Nullable final String message, final long first, final long second, final long third) throws IllegalStateException {
+
+        if (!state)
+            throw new IllegalStateException(message != null ? MessageTemplate.compile(message).render(first, second, third) : DEFAULT_CHECK_STATE_MESSAGE);
+
+    }
+
+    /**
+     * Throws an {@link IllegalStateException} with the provided message if the provided state is <code>false</code>.
+     * The <code>char</code> values are rendered as characters, no value is boxed or collected into an array unless the
+     * check fails.
+     *
+     * @param state   the state
+     * @param message the message
+     * @param first   the first message placeholder value
+     * @param second  the second message placeholder value
+     * @throws IllegalStateException if the provided state is <code>false</code>
+     */
+    @Contract("false, _, _, _ -> fail")
+    public static void checkState(final boolean state, @Nullable final String message, final char first, final char second) throws IllegalStateException {
+
+        if (!state)
+            throw new IllegalStateException(message != null ? MessageTemplate.compile(message).render((Object) first, (Object) second) : DEFAULT_CHECK_STATE_MESSAGE);
+
+    }
+
+    /**
+     * Throws an {@link IllegalStateException} with the provided message if the provided state is <code>false</code>.
+     * The <code>char</code> values are rendered as characters, no value is boxed or collected into an array unless the
+     * check fails.
+     *
+     * @param state   the state
+     * @param message the message
+     * @param first   the first message placeholder value
+     * @param second  the second message placeholder value
+     * @throws IllegalStateException if the provided state is <code>false</code>
+     */
+    @Contract("false, _, _, _ -> fail")
+    public static void checkState(final boolean state, @Nullable final String message, final char first, final long second) throws IllegalStateException {
+
+        if (!state)
+            throw new IllegalStateException(message != null ? MessageTemplate.compile(message).render((Object) first, (Object) second) : DEFAULT_CHECK_STATE_MESSAGE);
+
+    }
+
+    /**
+     * Throws an {@link IllegalStateException} with the provided message if the provided state is <code>false</code>.
+     * The <code>char</code> values are rendered as characters, no value is boxed or collected into an array unless the
+     * check fails.
+     *
+     * @param state   the state
+     * @param message the message
+     * @param first   the first message placeholder value
+     * @param second  the second message placeholder value
+     * @throws IllegalStateException if the provided state is <code>false</code>
+     */
+    @Contract("false, _, _, _ -> fail")
+    public static void checkState(final boolean state, @Nullable final String message, final long first, final char second) throws IllegalStateException {
+
+        if (!state)
+            throw new IllegalStateException(message != null ? MessageTemplate.compile(message).render((Object) first, (Object) second) : DEFAULT_CHECK_STATE_MESSAGE);
+
+    }
+
+    /**
+     * Throws an {@link IllegalStateException} with the provided message if the provided state is <code>false</code>.
+     * The <code>char</code> values are rendered as characters, no value is boxed or collected into an array unless the
+     * check fails.
+     *
+     * @param state   the state
+     * @param message the message
+     * @param first   the first message placeholder value
+     * @param second  the second message placeholder value
+     * @param third   the third message placeholder value
+     * @throws IllegalStateException if the provided state is <code>false</code>
+     */
+    @Contract("false, _, _, _, _ -> fail")
+    public static void checkState(final boolean state, @Nullable final String message, final char first, final char second, final char third) throws IllegalStateException {
+
+        if (!state)
+            throw new IllegalStateException(message != null ? MessageTemplate.compile(message).render((Object) first, (Object) second, (Object) third) : DEFAULT_CHECK_STATE_MESSAGE);
+
+    }
+
+    /**
+     * Throws an {@link IllegalStateException} with the provided message if the provided state is <code>false</code>.
+     * The <code>char</code> values are rendered as characters, no value is boxed or collected into an array unless the
+     * check fails.
+     *
+     * @param state   the state
+     * @param message the message
+     * @param first   the first message placeholder value
+     * @param second  the second message placeholder value
+     * @param third   the third message placeholder value
+     * @throws IllegalStateException if the provided state is <code>false</code>
+     */
+    @Contract("false, _, _, _, _ -> fail")
+    public static void checkState(final boolean state, @Nullable final String message, final char first, final char second, final long third) throws IllegalStateException {
+
+        if (!state)
+            throw new IllegalStateException(message != null ? MessageTemplate.compile(message).render((Object) first, (Object) second, (Object) third) : DEFAULT_CHECK_STATE_MESSAGE);
+
+    }
+
+    /**
+     * Throws an {@link IllegalStateException} with the provided message if the provided state is <code>false</code>.
+     * The <code>char</code> values are rendered as characters, no value is boxed or collected into an array unless the
+     * check fails.
+     *
+     * @param state   the state
+     * @param message the message
+     * @param first   the first message placeholder value
+     * @param second  the second message placeholder value
+     * @param third   the third message placeholder value
+     * @throws IllegalStateException if the provided state is <code>false</code>
+     */
+    @Contract("false, _, _, _, _ -> fail")
+    public static void checkState(final boolean state, @Nullable final String message, final char first, final long second, final char third) throws IllegalStateException {
+
+        if (!state)
+            throw new IllegalStateException(message != null ? MessageTemplate.compile(message).render((Object) first, (Object) second, (Object) third) : DEFAULT_CHECK_STATE_MESSAGE);
+
+    }
+
+    /**
+     * Throws an {@link IllegalStateException} with the provided message if the provided state is <code>false</code>.
+     * The <code>char</code> values are rendered as characters, no value is boxed or collected into an array unless the
+     * check fails.
+     *
+     * @param state   the state
+     * @param message the message
+     * @param first   the first message placeholder value
+     * @param second  the second message placeholder value
+     * @param third   the third message placeholder value
+     * @throws IllegalStateException if the provided state is <code>false</code>
+     */
+    @Contract("false, _, _, _, _ -> fail")
+    public static void checkState(final boolean state, @Nullable final String message, final char first, final long second, final long third) throws IllegalStateException {
+
+        if (!state)
+            throw new IllegalStateException(message != null ? MessageTemplate.compile(message).render((Object) first, (Object) second, (Object) third) : DEFAULT_CHECK_STATE_MESSAGE);
+
+    }
+
+    /**
+     * Throws an {@link IllegalStateException} with the provided message if the provided state is <code>false</code>.
+     * The <code>char</code> values are rendered as characters, no value is boxed or collected into an array unless the
+     * check fails.
+     *
+     * @param state   the state
+     * @param message the message
+     * @param first   the first message placeholder value
+     * @param second  the second message placeholder value
+     * @param third   the third message placeholder value
+     * @throws IllegalStateException if the provided state is <code>false</code>
+     */
+    @Contract("false, _, _, _, _ -> fail")
+    public static void checkState(final boolean state, @Nullable final String message, final long first, final char second, final char third) throws IllegalStateException {
+
+        if (!state)
+            throw new IllegalStateException(message != null ? MessageTemplate.compile(message).render((Object) first, (Object) second, (Object) third) : DEFAULT_CHECK_STATE_MESSAGE);
+
+    }
+
+    /**
+     * Throws an {@link IllegalStateException} with the provided message if the provided state is <code>false</code>.
+     * The <code>char</code> values are rendered as characters, no value is boxed or collected into an array unless the
+     * check fails.
+     *
+     * @param state   the state
+     * @param message the message
+     * @param first   the first message placeholder value
+     * @param second  the second message placeholder value
+     * @param third   the third message placeholder value
+     * @throws IllegalStateException if the provided state is <code>false</code>
+     */
+    @Contract("false, _, _, _, _ -> fail")
+    public static void checkState(final boolean state, @Nullable final String message, final long first, final char second, final long third) throws IllegalStateException {
+
+        if (!state)
+            throw new IllegalStateException(message != null ? MessageTemplate.compile(message).render((Object) first, (Object) second, (Object) third) : DEFAULT_CHECK_STATE_MESSAGE);
+
+    }
+
+    /**
+     * Throws an {@link IllegalStateException} with the provided message if the provided state is <code>false</code>.
+     * The <code>char</code> values are rendered as characters, no value is boxed or collected into an array unless the
+     * check fails.
+     *
+     * @param state   the state
+     * @param message the message
+     * @param first   the first message placeholder value
+     * @param second  the second message placeholder value
+     * @param third   the third message placeholder value
+     * @throws IllegalStateException if the provided state is <code>false</code>
+     */
+    @Contract("false, _, _, _, _ -> fail")
+    public static void checkState(final boolean state, @Nullable final String message, final long first, final long second, final char third) throws IllegalStateException {
+
+        if (!state)
+            throw new IllegalStateException(message != null ? MessageTemplate.compile(message).render((Object) first, (Object) second, (Object) third) : DEFAULT_CHECK_STATE_MESSAGE);
+
+    }
+
+    /**
+     * Throws an {@link IllegalStateException} with the provided message if the provided state is <code>false</code>.
+     * The value is not collected into an array unless the check fails.
+     *
+     * @param state   the state
+     * @param message the message
+     * @param value   the message placeholder value
+     * @throws IllegalStateException if the provided state is <code>false</code>
+     */
+    @Contract("false, _, _ -> fail")
+    public static void checkState(final boolean state, @Nullable final String message, @Nullable final Object value) throws IllegalStateException {
+
+        if (!state)
+            throw new IllegalStateException(message != null ? MessageTemplate.compile(message).render(value) : DEFAULT_CHECK_STATE_MESSAGE);
+
+    }
+
+    /**
+     * Throws an {@link IllegalStateException} with the provided message if the provided state is <code>false</code>.
+     * The values are not collected into an array unless the check fails.
+     *
+     * @param state   the state
+     * @param message the message
+     * @param first   the first message placeholder value
+     * @param second  the second message placeholder value
+     * @throws IllegalStateException if the provided state is <code>false</code>
+     */
+    @Contract("false, _, _, _ -> fail")
+    public static void checkState(final boolean state, @Nullable final String message, @Nullable final Object first, @Nullable final Object second) throws IllegalStateException {
+
+        if (!state)
+            throw new IllegalStateException(message != null ? MessageTemplate.compile(message).render(first, second) : DEFAULT_CHECK_STATE_MESSAGE);
+
+    }
+
+    /**
+     * Throws an {@link IllegalStateException} with the provided message if the provided state is <code>false</code>.
+     * The values are not collected into an array unless the check fails.
+     *
+     * @param state   the state
+     * @param message the message
+     * @param first   the first message placeholder value
+     * @param second  the second message placeholder value
+     * @param third   the third message placeholder value
+     * @throws IllegalStateException if the provided state is <code>false</code>
+     */
+    @Contract("false, _, _, _, _ -> fail")
+    public static void checkState(final boolean state, @Nullable final String message, @Nullable final Object first, @Nullable final Object second, @Nullable final Object third) throws IllegalStateException {
+
+        if (!state)
+            throw new IllegalStateException(message != null ? MessageTemplate.compile(message).render(first, second, third) : DEFAULT_CHECK_STATE_MESSAGE);
+
+    }
+
+    /**
+     * Throws an {@link IllegalArgumentException} if the provided expression is <code>false</code>.
+     *
+     * @param expression the expression
+     * @throws IllegalArgumentException if the provided expression is <code>false</code>
+     */
+    @Contract("false -> fail")
+    public static void checkArgument(final boolean expression) throws IllegalArgumentException {
+
+        if (!expression)
+            throw new IllegalArgumentException();
+
+    }
+
+    /**
+     * Throws an {@link IllegalArgumentException} with the provided message if the provided expression is
+     * <code>false</code>.
+     *
+     * @param expression the expression
+     * @param message    the message
+     * @param values     the message placeholder values
+     * @throws IllegalArgumentException if the provided expression is <code>false</code>
      */
     @Contract("false, _, _ -> fail")
     public static void checkArgument(final boolean expression, @Nullable final String message, @NotNull final Object... values) throws IllegalArgumentException {
@@ -140,6 +839,343 @@ public final class Preconditions {
 
     }
 
+    /**
+     * Throws an {@link IllegalArgumentException} with the provided message if the provided expression is <code>false</code>.
+     *
+     * @param expression the expression
+     * @param message    the message
+     * @throws IllegalArgumentException if the provided expression is <code>false</code>
+     */
+    @Contract("false, _ -> fail")
+    public static void checkArgument(final boolean expression, @Nullable final String message) throws IllegalArgumentException {
+
+        if (!expression)
+            throw new IllegalArgumentException(message != null ? message : DEFAULT_CHECK_ARGUMENT_MESSAGE);
+
+    }
+
+    /**
+     * Throws an {@link IllegalArgumentException} with the provided message if the provided expression is <code>false</code>.
+     * The value is not boxed or collected into an array unless the check fails.
+     *
+     * @param expression the expression
+     * @param message    the message
+     * @param value      the message placeholder value
+     * @throws IllegalArgumentException if the provided expression is <code>false</code>
+     */
+    @Contract("false, _, _ -> fail")
+    public static void checkArgument(final boolean expression, @Nullable final String message, final long value) throws IllegalArgumentException {
+
+        if (!expression)
+            throw new IllegalArgumentException(message != null ? MessageTemplate.compile(message).render(value) : DEFAULT_CHECK_ARGUMENT_MESSAGE);
+
+    }
+
+    /**
+     * Throws an {@link IllegalArgumentException} with the provided message if the provided expression is <code>false</code>.
+     * The value is rendered as a character and is not boxed or collected into an array unless the check fails.
+     *
+     * @param expression the expression
+     * @param message    the message
+     * @param value      the message placeholder value
+     * @throws IllegalArgumentException if the provided expression is <code>false</code>
+     */
+    @Contract("false, _, _ -> fail")
+    public static void checkArgument(final boolean expression, @Nullable final String message, final char value) throws IllegalArgumentException {
+
+        if (!expression)
+            throw new IllegalArgumentException(message != null ? MessageTemplate.compile(message).render(value) : DEFAULT_CHECK_ARGUMENT_MESSAGE);
+
+    }
+
+    /**
+     * Throws an {@link IllegalArgumentException} with the provided message if the provided expression is <code>false</code>.
+     * The values are not boxed or collected into an array unless the check fails.
+     *
+     * @param expression the expression
+     * @param message    the message
+     * @param first      the first message placeholder value
+     * @param second     the second message placeholder value
+     * @throws IllegalArgumentException if the provided expression is <code>false</code>
+     */
+    @Contract("false, _, _, _ -> fail")
+    public static void checkArgument(final boolean expression, @Nullable final String message, final long first, final long second) throws IllegalArgumentException {
+
+        if (!expression)
+            throw new IllegalArgumentException(message != null ? MessageTemplate.compile(message).render(first, second) : DEFAULT_CHECK_ARGUMENT_MESSAGE);
+
+    }
+
+    /**
+     * Throws an {@link IllegalArgumentException} with the provided message if the provided expression is <code>false</code>.
+     * The values are not boxed or collected into an array unless the check fails.
+     *
+     * @param expression the expression
+     * @param message    the message
+     * @param first      the first message placeholder value
+     * @param second     the second message placeholder value
+     * @param third      the third message placeholder value
+     * @throws IllegalArgumentException if the provided expression is <code>false</code>
+     */
+    @Contract("false, _, _, _, _ -> fail")
+    public static void checkArgument(final boolean expression, @Nullable final String message, final long first, final long second, final long third) throws IllegalArgumentException {
+
+        if (!expression)
+            throw new IllegalArgumentException(message != null ? MessageTemplate.compile(message).render(first, second, third) : DEFAULT_CHECK_ARGUMENT_MESSAGE);
+
+    }
+
+    /**
+     * Throws an {@link IllegalArgumentException} with the provided message if the provided expression is <code>false</code>.
+     * The <code>char</code> values are rendered as characters, no value is boxed or collected into an array unless the
+     * check fails.
+     *
+     * @param expression the expression
+     * @param message    the message
+     * @param first      the first message placeholder value
+     * @param second     the second message placeholder value
+     * @throws IllegalArgumentException if the provided expression is <code>false</code>
+     */
+    @Contract("false, _, _, _ -> fail")
+    public static void checkArgument(final boolean expression, @Nullable final String message, final char first, final char second) throws IllegalArgumentException {
+
+        if (!expression)
+            throw new IllegalArgumentException(message != null ? MessageTemplate.compile(message).render((Object) first, (Object) second) : DEFAULT_CHECK_ARGUMENT_MESSAGE);
+
+    }
+
+    /**
+     * Throws an {@link IllegalArgumentException} with the provided message if the provided expression is <code>false</code>.
+     * The <code>char</code> values are rendered as characters, no value is boxed or collected into an array unless the
+     * check fails.
+     *
+     * @param expression the expression
+     * @param message    the message
+     * @param first      the first message placeholder value
+     * @param second     the second message placeholder value
+     * @throws IllegalArgumentException if the provided expression is <code>false</code>
+     */
+    @Contract("false, _, _, _ -> fail")
+    public static void checkArgument(final boolean expression, @Nullable final String message, final char first, final long second) throws IllegalArgumentException {
+
+        if (!expression)
+            throw new IllegalArgumentException(message != null ? MessageTemplate.compile(message).render((Object) first, (Object) second) : DEFAULT_CHECK_ARGUMENT_MESSAGE);
+
+    }
+
+    /**
+     * Throws an {@link IllegalArgumentException} with the provided message if the provided expression is <code>false</code>.
+     * The <code>char</code> values are rendered as characters, no value is boxed or collected into an array unless the
+     * check fails.
+     *
+     * @param expression the expression
+     * @param message    the message
+     * @param first      the first message placeholder value
+     * @param second     the second message placeholder value
+     * @throws IllegalArgumentException if the provided expression is <code>false</code>
+     */
+    @Contract("false, _, _, _ -> fail")
+    public static void checkArgument(final boolean expression, @Nullable final String message, final long first, final char second) throws IllegalArgumentException {
+
+        if (!expression)
+            throw new IllegalArgumentException(message != null ? MessageTemplate.compile(message).render((Object) first, (Object) second) : DEFAULT_CHECK_ARGUMENT_MESSAGE);
+
+    }
+
+    /**
+     * Throws an {@link IllegalArgumentException} with the provided message if the provided expression is <code>false</code>.
+     * The <code>char</code> values are rendered as characters, no value is boxed or collected into an array unless the
+     * check fails.
+     *
+     * @param expression the expression
+     * @param message    the message
+     * @param first      the first message placeholder value
+     * @param second     the second message placeholder value
+     * @param third      the third message placeholder value
+     * @throws IllegalArgumentException if the provided expression is <code>false</code>
+     */
+    @Contract("false, _, _, _, _ -> fail")
+    public static void checkArgument(final boolean expression, @Nullable final String message, final char first, final char second, final char third) throws IllegalArgumentException {
+
+        if (!expression)
+            throw new IllegalArgumentException(message != null ? MessageTemplate.compile(message).render((Object) first, (Object) second, (Object) third) : DEFAULT_CHECK_ARGUMENT_MESSAGE);
+
+    }
+
+    /**
+     * Throws an {@link IllegalArgumentException} with the provided message if the provided expression is <code>false</code>.
+     * The <code>char</code> values are rendered as characters, no value is boxed or collected into an array unless the
+     * check fails.
+     *
+     * @param expression the expression
+     * @param message    the message
+     * @param first      the first message placeholder value
+     * @param second     the second message placeholder value
+     * @param third      the third message placeholder value
+     * @throws IllegalArgumentException if the provided expression is <code>false</code>
+     */
+    @Contract("false, _, _, _, _ -> fail")
+    public static void checkArgument(final boolean expression, @Nullable final String message, final char first, final char second, final long third) throws IllegalArgumentException {
+
+        if (!expression)
+            throw new IllegalArgumentException(message != null ? MessageTemplate.compile(message).render((Object) first, (Object) second, (Object) third) : DEFAULT_CHECK_ARGUMENT_MESSAGE);
+
+    }
+
+    /**
+     * Throws an {@link IllegalArgumentException} with the provided message if the provided expression is <code>false</code>.
+     * The <code>char</code> values are rendered as characters, no value is boxed or collected into an array unless the
+     * check fails.
+     *
+     * @param expression the expression
+     * @param message    the message
+     * @param first      the first message placeholder value
+     * @param second     the second message placeholder value
+     * @param third      the third message placeholder value
+     * @throws IllegalArgumentException if the provided expression is <code>false</code>
+     */
+    @Contract("false, _, _, _, _ -> fail")
+    public static void checkArgument(final boolean expression, @Nullable final String message, final char first, final long second, final char third) throws IllegalArgumentException {
+
+        if (!expression)
+            throw new IllegalArgumentException(message != null ? MessageTemplate.compile(message).render((Object) first, (Object) second, (Object) third) : DEFAULT_CHECK_ARGUMENT_MESSAGE);
+
+    }
+
+    /**
+     * Throws an {@link IllegalArgumentException} with the provided message if the provided expression is <code>false</code>.
+     * The <code>char</code> values are rendered as characters, no value is boxed or collected into an array unless the
+     * check fails.
+     *
+     * @param expression the expression
+     * @param message    the message
+     * @param first      the first message placeholder value
+     * @param second     the second message placeholder value
+     * @param third      the third message placeholder value
+     * @throws IllegalArgumentException if the provided expression is <code>false</code>
+     */
+    @Contract("false, _, _, _, _ -> fail")
+    public static void checkArgument(final boolean expression, @Nullable final String message, final char first, final long second, final long third) throws IllegalArgumentException {
+
+        if (!expression)
+            throw new IllegalArgumentException(message != null ? MessageTemplate.compile(message).render((Object) first, (Object) second, (Object) third) : DEFAULT_CHECK_ARGUMENT_MESSAGE);
+
+    }
+
+    /**
+     * Throws an {@link IllegalArgumentException} with the provided message if the provided expression is <code>false</code>.
+     * The <code>char</code> values are rendered as characters, no value is boxed or collected into an array unless the
+     * check fails.
+     *
+     * @param expression the expression
+     * @param message    the message
+     * @param first      the first message placeholder value
+     * @param second     the second message placeholder value
+     * @param third      the third message placeholder value
+     * @throws IllegalArgumentException if the provided expression is <code>false</code>
+     */
+    @Contract("false, _, _, _, _ -> fail")
+    public static void checkArgument(final boolean expression, @Nullable final String message, final long first, final char second, final char third) throws IllegalArgumentException {
+
+        if (!expression)
+            throw new IllegalArgumentException(message != null ? MessageTemplate.compile(message).render((Object) first, (Object) second, (Object) third) : DEFAULT_CHECK_ARGUMENT_MESSAGE);
+
+    }
+
+    /**
+     * Throws an {@link IllegalArgumentException} with the provided message if the provided expression is <code>false</code>.
+     * The <code>char</code> values are rendered as characters, no value is boxed or collected into an array unless the
+     * check fails.
+     *
+     * @param expression the expression
+     * @param message    the message
+     * @param first      the first message placeholder value
+     * @param second     the second message placeholder value
+     * @param third      the third message placeholder value
+     * @throws IllegalArgumentException if the provided expression is <code>false</code>
+     */
+    @Contract("false, _, _, _, _ -> fail")
+    public static void checkArgument(final boolean expression, @Nullable final String message, final long first, final char second, final long third) throws IllegalArgumentException {
+
+        if (!expression)
+            throw new IllegalArgumentException(message != null ? MessageTemplate.compile(message).render((Object) first, (Object) second, (Object) third) : DEFAULT_CHECK_ARGUMENT_MESSAGE);
+
+    }
+
+    /**
+     * Throws an {@link IllegalArgumentException} with the provided message if the provided expression is <code>false</code>.
+     * The <code>char</code> values are rendered as characters, no value is boxed or collected into an array unless the
+     * check fails.
+     *
+     * @param expression the expression
+     * @param message    the message
+     * @param first      the first message placeholder value
+     * @param second     the second message placeholder value
+     * @param third      the third message placeholder value
+     * @throws IllegalArgumentException if the provided expression is <code>false</code>
+     */
+    @Contract("false, _, _, _, _ -> fail")
+    public static void checkArgument(final boolean expression, @Nullable final String message, final long first, final long second, final char third) throws IllegalArgumentException {
+
+        if (!expression)
+            throw new IllegalArgumentException(message != null ? MessageTemplate.compile(message).render((Object) first, (Object) second, (Object) third) : DEFAULT_CHECK_ARGUMENT_MESSAGE);
+
+    }
+
+    /**
+     * Throws an {@link IllegalArgumentException} with the provided message if the provided expression is <code>false</code>.
+     * The value is not collected into an array unless the check fails.
+     *
+     * @param expression the expression
+     * @param message    the message
+     * @param value      the message placeholder value
+     * @throws IllegalArgumentException if the provided expression is <code>false</code>
+     */
+    @Contract("false, _, _ -> fail")
+    public static void checkArgument(final boolean expression, @Nullable final String message, @Nullable final Object value) throws IllegalArgumentException {
+
+        if (!expression)
+            throw new IllegalArgumentException(message != null ? MessageTemplate.compile(message).render(value) : DEFAULT_CHECK_ARGUMENT_MESSAGE);
+
+    }
+
+    /**
+     * Throws an {@link IllegalArgumentException} with the provided message if the provided expression is <code>false</code>.
+     * The values are not collected into an array unless the check fails.
+     *
+     * @param expression the expression
+     * @param message    the message
+     * @param first      the first message placeholder value
+     * @param second     the second message placeholder value
+     * @throws IllegalArgumentException if the provided expression is <code>false</code>
+     */
+    @Contract("false, _, _, _ -> fail")
+    public static void checkArgument(final boolean expression, @Nullable final String message, @Nullable final Object first, @Nullable final Object second) throws IllegalArgumentException {
+
+        if (!expression)
+            throw new IllegalArgumentException(message != null ? MessageTemplate.compile(message).render(first, second) : DEFAULT_CHECK_ARGUMENT_MESSAGE);
+
+    }
+
+    /**
+     * Throws an {@link IllegalArgumentException} with the provided message if the provided expression is <code>false</code>.
+     * The values are not collected into an array unless the check fails.
+     *
+     * @param expression the expression
+     * @param message    the message
+     * @param first      the first message placeholder value
+     * @param second     the second message placeholder value
+     * @param third      the third message placeholder value
+     * @throws IllegalArgumentException if the provided expression is <code>false</code>
+     */
+    @Contract("false, _, _, _, _ -> fail")
+    public static void checkArgument(final boolean expression, @Nullable final String message, @Nullable final Object first, @Nullable final Object second, @Nullable final Object third) throws IllegalArgumentException {
+
+        if (!expression)
+            throw new IllegalArgumentException(message != null ? MessageTemplate.compile(message).render(first, second, third) : DEFAULT_CHECK_ARGUMENT_MESSAGE);
+
+    }
+
     private Preconditions() {
 
         throw new UnsupportedOperationException();
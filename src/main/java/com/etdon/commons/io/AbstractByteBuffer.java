@@ -0,0 +1,1044 @@
+package com.etdon.commons.io;
+
+import com.etdon.commons.conditional.Preconditions;
+import org.jetbrains.annotations.NotNullByDefault;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.Buffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Base of the growable byte buffers of this package. It implements the encoding of all put methods, the growth policy,
+ * {@link Reservation reservations} and sinks once on top of the storage of its implementations: {@link ByteBuffer}
+ * stores the bytes in a heap byte array and {@link DirectByteBuffer} in a direct {@link java.nio.ByteBuffer}.
+ * <p>
+ * Sink buffers write their content to the target once adding more bytes would exceed the flush threshold and then
+ * reuse their storage. Indices and sizes of a sink always refer to the bytes that haven't been flushed yet, while
+ * reservations are pending the sink keeps growing instead of flushing. I/O failures of a sink are rethrown as
+ * {@link UncheckedIOException}.
+ */
+@NotNullByDefault
+public abstract class AbstractByteBuffer {
+
+    /**
+     * The default flush threshold of sink buffers.
+     */
+    static final int DEFAULT_SINK_THRESHOLD = 8192;
+
+    ByteOrder byteOrder = ByteOrder.LITTLE_ENDIAN;
+    int size;
+    @Nullable
+    private final Sink sink;
+    private final int threshold;
+    private long flushedCount = 0;
+    private final List<Reservation> reservations = new ArrayList<>();
+
+    /**
+     * Initialize using the factory methods of the implementations.
+     *
+     * @param sink      the sink or <code>null</code> if the buffer only grows
+     * @param threshold the flush threshold
+     */
+    AbstractByteBuffer(@Nullable final Sink sink, final int threshold) {
+
+        this.sink = sink;
+        this.threshold = threshold;
+
+    }
+
+    /**
+     * Puts the provided <code>byte</code> value into the buffer resizing it if necessary.
+     *
+     * @param value the <code>byte</code> value
+     */
+    public void put(final byte value) {
+
+        this.ensureSize(1);
+        this.store(this.size++, value);
+
+    }
+
+    /**
+     * Puts the provided <code>byte</code> values into the buffer resizing it if necessary. The order in which the bytes are added
+     * depends on the current {@link AbstractByteBuffer#byteOrder} of the buffer.
+     *
+     * @param values the <code>byte</code> values
+     */
+    public void put(final byte... values) {
+
+        if (values.length == 0)
+            return;
+
+        this.ensureSize(values.length);
+        if (this.byteOrder == ByteOrder.LITTLE_ENDIAN) {
+            this.store(this.size, values, 0, values.length);
+            this.size += values.length;
+        } else {
+            for (int i = values.length - 1; i >= 0; i--)
+                this.store(this.size++, values[i]);
+        }
+
+    }
+
+    /**
+     * Puts the provided <code>boolean</code> value into the buffer by adding a byte with the value <code>1</code> if
+     * the boolean is <code>true</code> or <code>0</code> if it's <code>false</code>.
+     *
+     * @param value the <code>boolean</code> value
+     */
+    public void put(final boolean value) {
+
+        this.put((byte) (value ? 1 : 0));
+
+    }
+
+    /**
+     * Puts the provided <code>char</code> value into the buffer by casting it to a byte.
+     *
+     * @param value the <code>char</code> value
+     */
+    public void put(final char value) {
+
+        this.put((byte) value);
+
+    }
+
+    /**
+     * Puts the provided <code>short</code> value into the buffer in the current {@link AbstractByteBuffer#byteOrder}.
+     *
+     * @param value the <code>short</code> value
+     */
+    public void put(final short value) {
+
+        this.ensureSize(Short.BYTES);
+        this.storeShort(this.size, value);
+        this.size += Short.BYTES;
+
+    }
+
+    /**
+     * Puts the provided <code>int</code> value into the buffer in the current {@link AbstractByteBuffer#byteOrder}.
+     *
+     * @param value the <code>int</code> value
+     */
+    public void put(final int value) {
+
+        this.ensureSize(Integer.BYTES);
+        this.storeInt(this.size, value);
+        this.size += Integer.BYTES;
+
+    }
+
+    /**
+     * Puts the provided <code>float</code> value into the buffer in the current {@link AbstractByteBuffer#byteOrder}.
+     *
+     * @param value the <code>float</code> value
+     */
+    public void put(final float value) {
+
+        this.put(Float.floatToIntBits(value));
+
+    }
+
+    /**
+     * Puts the provided <code>long</code> value into the buffer in the current {@link AbstractByteBuffer#byteOrder}.
+     *
+     * @param value the <code>long</code> value
+     */
+    public void put(final long value) {
+
+        this.ensureSize(Long.BYTES);
+        this.storeLong(this.size, value);
+        this.size += Long.BYTES;
+
+    }
+
+    /**
+     * Puts the provided <code>double</code> value into the buffer in the current {@link AbstractByteBuffer#byteOrder}.
+     *
+     * @param value the <code>double</code> value
+     */
+    public void put(final double value) {
+
+        this.put(Double.doubleToLongBits(value));
+
+    }
+
+    /**
+     * Puts the provided unsigned <code>long</code> value into the buffer using the LEB128 variable length encoding.
+     *
+     * @param value the unsigned <code>long</code> value
+     * @see VariableLength#writeUnsigned(long)
+     */
+    public void putVarLong(final long value) {
+
+        this.ensureSize(VariableLength.sizeUnsigned(value));
+        this.size = this.storeUnsigned(this.size, value);
+
+    }
+
+    /**
+     * Puts the provided <code>int</code> value interpreted as unsigned into the buffer using the LEB128 variable length
+     * encoding.
+     *
+     * @param value the unsigned <code>int</code> value
+     * @see VariableLength#writeUnsigned(long)
+     */
+    public void putVarInt(final int value) {
+
+        this.putVarLong(value & 0xFFFFFFFFL);
+
+    }
+
+    /**
+     * Puts the provided signed <code>long</code> value into the buffer using the signed LEB128 variable length
+     * encoding.
+     *
+     * @param value the signed <code>long</code> value
+     * @see VariableLength#writeSigned(long)
+     */
+    public void putSignedVarLong(final long value) {
+
+        this.ensureSize(VariableLength.sizeSigned(value));
+        this.size = this.storeSigned(this.size, value);
+
+    }
+
+    /**
+     * Puts the provided signed <code>int</code> value into the buffer using the signed LEB128 variable length
+     * encoding.
+     *
+     * @param value the signed <code>int</code> value
+     * @see VariableLength#writeSigned(long)
+     */
+    public void putSignedVarInt(final int value) {
+
+        this.putSignedVarLong(value);
+
+    }
+
+    /**
+     * Puts the provided characters into the buffer using the UTF-8 encoding. Unpaired surrogates are encoded as
+     * <code>?</code>.
+     *
+     * @param value the characters
+     */
+    public void putUtf8(final CharSequence value) {
+
+        final int length = Utf8.encodedLength(value);
+        this.ensureSize(length);
+        this.size = this.storeUtf8(this.size, value, length);
+
+    }
+
+    /**
+     * Puts the provided characters into the buffer using the UTF-8 encoding prefixed with the encoded byte count as
+     * unsigned LEB128 variable length value.
+     *
+     * @param value the characters
+     * @see ByteReader#readVarLengthString()
+     */
+    public void putVarLengthString(final CharSequence value) {
+
+        final int length = Utf8.encodedLength(value);
+        this.putVarInt(length);
+        this.ensureSize(length);
+        this.size = this.storeUtf8(this.size, value, length);
+
+    }
+
+    /**
+     * Puts the provided <code>short</code> values into the buffer in the current {@link AbstractByteBuffer#byteOrder}.
+     *
+     * @param values the <code>short</code> values
+     * @see AbstractByteBuffer#put(short[], int, int)
+     */
+    public void put(final short[] values) {
+
+        this.put(values, 0, values.length);
+
+    }
+
+    /**
+     * Puts the provided range of <code>short</code> values into the buffer in the current
+     * {@link AbstractByteBuffer#byteOrder}. The buffer is resized at most once for the whole batch.
+     *
+     * @param values the <code>short</code> values
+     * @param offset the offset of the first value
+     * @param length the value count
+     */
+    public void put(final short[] values, final int offset, final int length) {
+
+        this.ensureBatch(values.length, offset, length, Short.BYTES);
+        for (int i = offset; i < offset + length; i++, this.size += Short.BYTES)
+            this.storeShort(this.size, values[i]);
+
+    }
+
+    /**
+     * Puts the provided <code>int</code> values into the buffer in the current {@link AbstractByteBuffer#byteOrder}.
+     *
+     * @param values the <code>int</code> values
+     * @see AbstractByteBuffer#put(int[], int, int)
+     */
+    public void put(final int[] values) {
+
+        this.put(values, 0, values.length);
+
+    }
+
+    /**
+     * Puts the provided range of <code>int</code> values into the buffer in the current
+     * {@link AbstractByteBuffer#byteOrder}. The buffer is resized at most once for the whole batch.
+     *
+     * @param values the <code>int</code> values
+     * @param offset the offset of the first value
+     * @param length the value count
+     */
+    public void put(final int[] values, final int offset, final int length) {
+
+        this.ensureBatch(values.length, offset, length, Integer.BYTES);
+        for (int i = offset; i < offset + length; i++, this.size += Integer.BYTES)
+            this.storeInt(this.size, values[i]);
+
+    }
+
+    /**
+     * Puts the provided <code>long</code> values into the buffer in the current {@link AbstractByteBuffer#byteOrder}.
+     *
+     * @param values the <code>long</code> values
+     * @see AbstractByteBuffer#put(long[], int, int)
+     */
+    public void put(final long[] values) {
+
+        this.put(values, 0, values.length);
+
+    }
+
+    /**
+     * Puts the provided range of <code>long</code> values into the buffer in the current
+     * {@link AbstractByteBuffer#byteOrder}. The buffer is resized at most once for the whole batch.
+     *
+     * @param values the <code>long</code> values
+     * @param offset the offset of the first value
+     * @param length the value count
+     */
+    public void put(final long[] values, final int offset, final int length) {
+
+        this.ensureBatch(values.length, offset, length, Long.BYTES);
+        for (int i = offset; i < offset + length; i++, this.size += Long.BYTES)
+            this.storeLong(this.size, values[i]);
+
+    }
+
+    /**
+     * Puts the provided <code>float</code> values into the buffer in the current {@link AbstractByteBuffer#byteOrder}.
+     *
+     * @param values the <code>float</code> values
+     * @see AbstractByteBuffer#put(float[], int, int)
+     */
+    public void put(final float[] values) {
+
+        this.put(values, 0, values.length);
+
+    }
+
+    /**
+     * Puts the provided range of <code>float</code> values into the buffer in the current
+     * {@link AbstractByteBuffer#byteOrder}. The buffer is resized at most once for the whole batch.
+     *
+     * @param values the <code>float</code> values
+     * @param offset the offset of the first value
+     * @param length the value count
+     */
+    public void put(final float[] values, final int offset, final int length) {
+
+        this.ensureBatch(values.length, offset, length, Float.BYTES);
+        for (int i = offset; i < offset + length; i++, this.size += Float.BYTES)
+            this.storeInt(this.size, Float.floatToIntBits(values[i]));
+
+    }
+
+    /**
+     * Puts the provided <code>double</code> values into the buffer in the current
+     * {@link AbstractByteBuffer#byteOrder}.
+     *
+     * @param values the <code>double</code> values
+     * @see AbstractByteBuffer#put(double[], int, int)
+     */
+    public void put(final double[] values) {
+
+        this.put(values, 0, values.length);
+
+    }
+
+    /**
+     * Puts the provided range of <code>double</code> values into the buffer in the current
+     * {@link AbstractByteBuffer#byteOrder}. The buffer is resized at most once for the whole batch.
+     *
+     * @param values the <code>double</code> values
+     * @param offset the offset of the first value
+     * @param length the value count
+     */
+    public void put(final double[] values, final int offset, final int length) {
+
+        this.ensureBatch(values.length, offset, length, Double.BYTES);
+        for (int i = offset; i < offset + length; i++, this.size += Double.BYTES)
+            this.storeLong(this.size, Double.doubleToLongBits(values[i]));
+
+    }
+
+    /**
+     * Overwrites the already written <code>byte</code> at the provided index with the provided <code>byte</code> value.
+     *
+     * @param index the index
+     * @param value the <code>byte</code> value
+     * @throws IllegalStateException if the index is not within the written bytes
+     */
+    public void putAt(final int index, final byte value) {
+
+        this.checkWritten(index, Byte.BYTES);
+        this.store(index, value);
+
+    }
+
+    /**
+     * Overwrites the already written <code>byte</code> at the provided index with <code>1</code> if the provided
+     * boolean is <code>true</code> or <code>0</code> if it's <code>false</code>.
+     *
+     * @param index the index
+     * @param value the <code>boolean</code> value
+     */
+    public void putAt(final int index, final boolean value) {
+
+        this.putAt(index, (byte) (value ? 1 : 0));
+
+    }
+
+    /**
+     * Overwrites the already written <code>byte</code> at the provided index with the provided <code>char</code> value
+     * by casting it to a byte.
+     *
+     * @param index the index
+     * @param value the <code>char</code> value
+     */
+    public void putAt(final int index, final char value) {
+
+        this.putAt(index, (byte) value);
+
+    }
+
+    /**
+     * Overwrites the already written bytes at the provided index with the provided <code>short</code> value in the
+     * current {@link AbstractByteBuffer#byteOrder}.
+     *
+     * @param index the index
+     * @param value the <code>short</code> value
+     */
+    public void putAt(final int index, final short value) {
+
+        this.checkWritten(index, Short.BYTES);
+        this.storeShort(index, value);
+
+    }
+
+    /**
+     * Overwrites the already written bytes at the provided index with the provided <code>int</code> value in the
+     * current {@link AbstractByteBuffer#byteOrder}.
+     *
+     * @param index the index
+     * @param value the <code>int</code> value
+     */
+    public void putAt(final int index, final int value) {
+
+        this.checkWritten(index, Integer.BYTES);
+        this.storeInt(index, value);
+
+    }
+
+    /**
+     * Overwrites the already written bytes at the provided index with the provided <code>float</code> value in the
+     * current {@link AbstractByteBuffer#byteOrder}.
+     *
+     * @param index the index
+     * @param value the <code>float</code> value
+     */
+    public void putAt(final int index, final float value) {
+
+        this.putAt(index, Float.floatToIntBits(value));
+
+    }
+
+    /**
+     * Overwrites the already written bytes at the provided index with the provided <code>long</code> value in the
+     * current {@link AbstractByteBuffer#byteOrder}.
+     *
+     * @param index the index
+     * @param value the <code>long</code> value
+     */
+    public void putAt(final int index, final long value) {
+
+        this.checkWritten(index, Long.BYTES);
+        this.storeLong(index, value);
+
+    }
+
+    /**
+     * Overwrites the already written bytes at the provided index with the provided <code>double</code> value in the
+     * current {@link AbstractByteBuffer#byteOrder}.
+     *
+     * @param index the index
+     * @param value the <code>double</code> value
+     */
+    public void putAt(final int index, final double value) {
+
+        this.putAt(index, Double.doubleToLongBits(value));
+
+    }
+
+    /**
+     * Reserves two bytes at the end of the buffer that are written later on using
+     * {@link Reservation#resolve(long)}, e.g. the length or checksum of the following bytes.
+     *
+     * @return the reservation
+     */
+    public Reservation reserveShort() {
+
+        return this.reserve(Short.BYTES, false);
+
+    }
+
+    /**
+     * Reserves four bytes at the end of the buffer that are written later on using
+     * {@link Reservation#resolve(long)}, e.g. the length or checksum of the following bytes.
+     *
+     * @return the reservation
+     */
+    public Reservation reserveInt() {
+
+        return this.reserve(Integer.BYTES, false);
+
+    }
+
+    /**
+     * Reserves eight bytes at the end of the buffer that are written later on using
+     * {@link Reservation#resolve(long)}, e.g. the length or checksum of the following bytes.
+     *
+     * @return the reservation
+     */
+    public Reservation reserveLong() {
+
+        return this.reserve(Long.BYTES, false);
+
+    }
+
+    /**
+     * Reserves the provided maximum count of bytes at the end of the buffer for an unsigned LEB128 variable length
+     * value that is written later on using {@link Reservation#resolve(long)}. If the value turns out to need fewer
+     * bytes, the bytes following the reservation are moved back in place.
+     *
+     * @param maxBytes the maximum byte count of the value, between <code>1</code> and <code>5</code>
+     * @return the reservation
+     */
+    public Reservation reserveVarInt(final int maxBytes) {
+
+        Preconditions.checkArgument(maxBytes > 0 && maxBytes <= VariableLength.sizeUnsigned(0xFFFFFFFFL), "The provided maximum byte count ({}) is out of range for a variable length int.", maxBytes);
+        return this.reserve(maxBytes, true);
+
+    }
+
+    private Reservation reserve(final int width, final boolean variable) {
+
+        this.ensureSize(width);
+        this.clear(this.size, width);
+        final Reservation reservation = new Reservation(this, this.size, width, variable);
+        this.size += width;
+        this.reservations.add(reservation);
+
+        return reservation;
+
+    }
+
+    /**
+     * Discards all written bytes and pending reservations so that the buffer can be reused. The capacity of the
+     * storage and the {@link AbstractByteBuffer#byteOrder} are retained.
+     */
+    public void reset() {
+
+        this.size = 0;
+        this.reservations.clear();
+
+    }
+
+    /**
+     * Returns the capacity of the storage, i.e. the count of bytes that can be written before resizing.
+     *
+     * @return the capacity
+     */
+    public abstract int getCapacity();
+
+    /**
+     * Writes all bytes that haven't been flushed yet to the sink and flushes the sink itself. Does nothing if the
+     * buffer isn't a sink. All reservations have to be resolved first, since their placeholders would otherwise be
+     * written to the sink.
+     *
+     * @throws IllegalStateException if a reservation is still pending
+     * @throws UncheckedIOException  if the sink fails to write
+     */
+    public void flush() {
+
+        if (this.sink == null)
+            return;
+
+        Preconditions.checkState(this.reservations.isEmpty(), "The {} pending reservations have to be resolved before the buffer is flushed.", this.reservations.size());
+        this.flushBuffer();
+        try {
+            this.sink.flush();
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+
+    }
+
+    /**
+     * Checks if the buffer flushes into a sink.
+     *
+     * @return <code>true</code> if the buffer is a sink, <code>false</code> otherwise
+     */
+    public boolean isSink() {
+
+        return this.sink != null;
+
+    }
+
+    /**
+     * Returns the count of bytes that have been flushed to the sink. Always <code>0</code> if the buffer isn't a sink.
+     *
+     * @return the flushed byte count
+     */
+    public long getFlushedCount() {
+
+        return this.flushedCount;
+
+    }
+
+    /**
+     * Returns the count of bytes written to the buffer.
+     *
+     * @return the size
+     */
+    public int getSize() {
+
+        return this.size;
+
+    }
+
+    /**
+     * Sets the {@link AbstractByteBuffer#byteOrder} value to the provided {@link ByteOrder}.
+     *
+     * @param byteOrder the byte order
+     */
+    public void setByteOrder(final ByteOrder byteOrder) {
+
+        Preconditions.checkNotNull(byteOrder);
+        this.byteOrder = byteOrder;
+
+    }
+
+    /**
+     * Returns the current {@link AbstractByteBuffer#byteOrder} value.
+     *
+     * @return the byte order
+     */
+    public ByteOrder getByteOrder() {
+
+        return this.byteOrder;
+
+    }
+
+    /**
+     * Resizes the storage to the provided capacity retaining the written bytes.
+     *
+     * @param capacity the new capacity
+     */
+    abstract void grow(int capacity);
+
+    /**
+     * Writes the provided <code>byte</code> value at the provided index without validating it.
+     *
+     * @param index the index
+     * @param value the <code>byte</code> value
+     */
+    abstract void store(int index, byte value);
+
+    /**
+     * Copies the provided range of bytes in order to the provided index without validating it.
+     *
+     * @param index  the index
+     * @param bytes  the bytes
+     * @param offset the offset of the first byte
+     * @param length the byte count
+     */
+    abstract void store(int index, byte[] bytes, int offset, int length);
+
+    /**
+     * Writes the provided <code>short</code> value at the provided index in the current
+     * {@link AbstractByteBuffer#byteOrder} without validating it.
+     *
+     * @param index the index
+     * @param value the <code>short</code> value
+     */
+    abstract void storeShort(int index, short value);
+
+    /**
+     * Writes the provided <code>int</code> value at the provided index in the current
+     * {@link AbstractByteBuffer#byteOrder} without validating it.
+     *
+     * @param index the index
+     * @param value the <code>int</code> value
+     */
+    abstract void storeInt(int index, int value);
+
+    /**
+     * Writes the provided <code>long</code> value at the provided index in the current
+     * {@link AbstractByteBuffer#byteOrder} without validating it.
+     *
+     * @param index the index
+     * @param value the <code>long</code> value
+     */
+    abstract void storeLong(int index, long value);
+
+    /**
+     * Writes the provided unsigned LEB128 variable length value at the provided index without validating it.
+     *
+     * @param index the index
+     * @param value the unsigned value
+     * @return the index following the last written byte
+     */
+    abstract int storeUnsigned(int index, long value);
+
+    /**
+     * Writes the provided signed LEB128 variable length value at the provided index without validating it.
+     *
+     * @param index the index
+     * @param value the signed value
+     * @return the index following the last written byte
+     */
+    abstract int storeSigned(int index, long value);
+
+    /**
+     * Writes the provided characters using the UTF-8 encoding at the provided index without validating it.
+     *
+     * @param index  the index
+     * @param value  the characters
+     * @param length the encoded byte count
+     * @return the index following the last written byte
+     */
+    abstract int storeUtf8(int index, CharSequence value, int length);
+
+    /**
+     * Moves the provided count of bytes from the provided source index back to the provided lower target index.
+     *
+     * @param from   the source index
+     * @param to     the target index, not greater than the source index
+     * @param length the byte count
+     */
+    abstract void move(int from, int to, int length);
+
+    /**
+     * Sets the provided count of bytes starting at the provided index to <code>0</code>.
+     *
+     * @param index the index
+     * @param count the byte count
+     */
+    abstract void clear(int index, int count);
+
+    /**
+     * Writes all bytes written to the buffer to the provided sink.
+     *
+     * @param sink the sink
+     * @throws IOException if the sink fails to write
+     */
+    abstract void drainTo(Sink sink) throws IOException;
+
+    /**
+     * Ensures that the storage has the capacity to add the provided byte count and resizes it if not. Sinks flush
+     * first if adding the bytes would exceed their threshold and no reservation is pending.
+     *
+     * @param count the byte count
+     */
+    void ensureSize(final int count) {
+
+        if (this.sink != null && this.size > 0 && this.size + count > this.threshold && this.reservations.isEmpty())
+            this.flushBuffer();
+        final int capacity = this.getCapacity();
+        if (capacity >= (this.size + count)) return;
+        final int growth = Math.max((this.size + count) - capacity, capacity);
+        this.grow(capacity + growth);
+
+    }
+
+    /**
+     * Writes all bytes that haven't been flushed yet to the sink and resets the size so the storage is reused.
+     */
+    private void flushBuffer() {
+
+        if (this.sink == null || this.size == 0)
+            return;
+
+        try {
+            this.drainTo(this.sink);
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        this.flushedCount += this.size;
+        this.size = 0;
+
+    }
+
+    /**
+     * Validates the provided source range and ensures that the storage has the capacity to add the provided count of
+     * elements of the provided size.
+     *
+     * @param sourceLength the source array length
+     * @param offset       the source offset
+     * @param length       the element count
+     * @param elementSize  the element size in bytes
+     */
+    private void ensureBatch(final int sourceLength, final int offset, final int length, final int elementSize) {
+
+        Preconditions.checkArgument(offset >= 0 && length >= 0 && offset <= sourceLength - length, "The provided range (offset: {}, length: {}) is out of bounds for the source array (length: {}).", offset, length, sourceLength);
+        final long count = (long) length * elementSize;
+        Preconditions.checkState(count <= Integer.MAX_VALUE - this.size, "The byte buffer cannot exceed the maximum array size.");
+        this.ensureSize((int) count);
+
+    }
+
+    /**
+     * Validates that the provided count of bytes starting at the provided index has already been written.
+     *
+     * @param index the index
+     * @param count the byte count
+     */
+    private void checkWritten(final int index, final int count) {
+
+        Preconditions.checkState(index >= 0 && index <= this.size - count, "The provided index ({}) is out of bounds for {} bytes in the written range (size: {}).", index, count, this.size);
+
+    }
+
+    /**
+     * Placeholder for a value at a fixed position of a byte buffer that is written once the bytes following it are
+     * known. Created using {@link AbstractByteBuffer#reserveShort()}, {@link AbstractByteBuffer#reserveInt()},
+     * {@link AbstractByteBuffer#reserveLong()} or {@link AbstractByteBuffer#reserveVarInt(int)}. Reservations may be
+     * nested, resolving a variable length reservation adjusts the positions of all other pending reservations.
+     * <p>
+     * Nested reservations have to be resolved innermost first: a reservation cannot be resolved while a variable
+     * length reservation following it is still pending, since compacting the latter would move or shorten the bytes the
+     * value of the former was derived from. Fixed size reservations following it don't move any bytes and may be
+     * resolved later on.
+     */
+    public static final class Reservation {
+
+        private final AbstractByteBuffer byteBuffer;
+        private int index;
+        private final int width;
+        private final boolean variable;
+        private boolean resolved = false;
+
+        private Reservation(final AbstractByteBuffer byteBuffer, final int index, final int width, final boolean variable) {
+
+            this.byteBuffer = byteBuffer;
+            this.index = index;
+            this.width = width;
+            this.variable = variable;
+
+        }
+
+        /**
+         * Writes the provided value into the reserved bytes. Fixed size reservations write the value truncated to
+         * their size in the current byte order of the buffer, variable length reservations write it as unsigned LEB128
+         * value and compact the following bytes if it needs fewer bytes than reserved.
+         *
+         * @param value the value
+         * @throws IllegalStateException if the reservation is no longer pending, a variable length reservation
+         *                               following it is still pending or the value doesn't fit
+         */
+        public void resolve(final long value) {
+
+            final AbstractByteBuffer target = this.byteBuffer;
+            Preconditions.checkState(!this.resolved && target.reservations.contains(this), "The reservation has already been resolved or was discarded by a reset.");
+            for (final Reservation reservation : target.reservations)
+                Preconditions.checkState(!reservation.variable || reservation.index <= this.index, "The variable length reservation at index {} has to be resolved before the reservation at index {}.", reservation.index, this.index);
+            if (this.variable) {
+                final int length = VariableLength.sizeUnsigned(value);
+                Preconditions.checkState(length <= this.width, "The provided value ({}) needs {} bytes but only {} bytes are reserved.", value, length, this.width);
+                target.storeUnsigned(this.index, value);
+                final int shift = this.width - length;
+                if (shift > 0) {
+                    final int end = this.index + this.width;
+                    target.move(end, end - shift, target.size - end);
+                    target.size -= shift;
+                    for (final Reservation reservation : target.reservations) {
+                        if (reservation.index > this.index)
+                            reservation.index -= shift;
+                    }
+                }
+            } else if (this.width == Short.BYTES) {
+                target.storeShort(this.index, (short) value);
+            } else if (this.width == Integer.BYTES) {
+                target.storeInt(this.index, (int) value);
+            } else {
+                target.storeLong(this.index, value);
+            }
+            target.reservations.remove(this);
+            this.resolved = true;
+
+        }
+
+        /**
+         * Writes the count of bytes put after the reservation into the reserved bytes.
+         *
+         * @see Reservation#resolve(long)
+         */
+        public void resolveLength() {
+
+            this.resolve(this.getLength());
+
+        }
+
+        /**
+         * Returns the count of bytes put after the reservation so far.
+         *
+         * @return the byte count
+         */
+        public int getLength() {
+
+            return this.byteBuffer.size - this.index - this.width;
+
+        }
+
+        /**
+         * Returns the current index of the reserved bytes.
+         *
+         * @return the index
+         */
+        public int getIndex() {
+
+            return this.index;
+
+        }
+
+        /**
+         * Checks if the reservation has been resolved.
+         *
+         * @return <code>true</code> if it has been resolved, <code>false</code> otherwise
+         */
+        public boolean isResolved() {
+
+            return this.resolved;
+
+        }
+
+    }
+
+    /**
+     * Target the content of a sink buffer is flushed to.
+     */
+    interface Sink {
+
+        void write(byte[] source, int offset, int count) throws IOException;
+
+        void write(java.nio.ByteBuffer source) throws IOException;
+
+        void flush() throws IOException;
+
+    }
+
+    /**
+     * {@link Sink} implementation writing to an output stream. Direct sources are copied through a reused chunk.
+     */
+    static final class StreamSink implements Sink {
+
+        private final OutputStream outputStream;
+        private byte[] chunk = new byte[0];
+
+        StreamSink(final OutputStream outputStream) {
+
+            this.outputStream = outputStream;
+
+        }
+
+        @Override
+        public void write(final byte[] source, final int offset, final int count) throws IOException {
+
+            this.outputStream.write(source, offset, count);
+
+        }
+
+        @Override
+        public void write(final java.nio.ByteBuffer source) throws IOException {
+
+            if (this.chunk.length < Math.min(source.remaining(), DEFAULT_SINK_THRESHOLD))
+                this.chunk = new byte[Math.min(source.remaining(), DEFAULT_SINK_THRESHOLD)];
+            while (source.hasRemaining()) {
+                final int count = Math.min(this.chunk.length, source.remaining());
+                source.get(this.chunk, 0, count);
+                this.outputStream.write(this.chunk, 0, count);
+            }
+
+        }
+
+        @Override
+        public void flush() throws IOException {
+
+            this.outputStream.flush();
+
+        }
+
+    }
+
+    /**
+     * {@link Sink} implementation writing to a channel, heap sources go through a reused wrapper of the source array.
+     */
+    static final class ChannelSink implements Sink {
+
+        private final WritableByteChannel channel;
+        private java.nio.ByteBuffer wrapper = java.nio.ByteBuffer.allocate(0);
+
+        ChannelSink(final WritableByteChannel channel) {
+
+            this.channel = channel;
+
+        }
+
+        @Override
+        public void write(final byte[] source, final int offset, final int count) throws IOException {
+
+            if (!this.wrapper.hasArray() || this.wrapper.array() != source)
+                this.wrapper = java.nio.ByteBuffer.wrap(source);
+            ((Buffer) this.wrapper).limit(offset + count).position(offset);
+            this.write(this.wrapper);
+
+        }
+
+        @Override
+        public void write(final java.nio.ByteBuffer source) throws IOException {
+
+            while (source.hasRemaining())
+                this.channel.write(source);
+
+        }
+
+        @Override
+        public void flush() {
+
+        }
+
+    }
+
+}
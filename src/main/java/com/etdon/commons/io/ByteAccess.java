@@ -0,0 +1,133 @@
+package com.etdon.commons.io;
+
+/**
+ * Unchecked primitive access to byte arrays in the endianness of choice. Callers are responsible for validating the
+ * accessed range, an out-of-range index results in an {@link ArrayIndexOutOfBoundsException}.
+ */
+final class ByteAccess {
+
+    /**
+     * Reads a short at the provided index.
+     *
+     * @param bytes     the byte array
+     * @param index     the index
+     * @param byteOrder the byte order
+     * @return the short
+     */
+    static short getShort(final byte[] bytes, final int index, final ByteOrder byteOrder) {
+
+        if (byteOrder == ByteOrder.LITTLE_ENDIAN) {
+            return (short) (bytes[index] & 0xFF | bytes[index + 1] << 8);
+        } else {
+            return (short) (bytes[index] << 8 | bytes[index + 1] & 0xFF);
+        }
+
+    }
+
+    /**
+     * Reads an integer at the provided index.
+     *
+     * @param bytes     the byte array
+     * @param index     the index
+     * @param byteOrder the byte order
+     * @return the integer
+     */
+    static int getInt(final byte[] bytes, final int index, final ByteOrder byteOrder) {
+
+        if (byteOrder == ByteOrder.LITTLE_ENDIAN) {
+            return bytes[index] & 0xFF | (bytes[index + 1] & 0xFF) << 8 | (bytes[index + 2] & 0xFF) << 16 | bytes[index + 3] << 24;
+        } else {
+            return bytes[index] << 24 | (bytes[index + 1] & 0xFF) << 16 | (bytes[index + 2] & 0xFF) << 8 | bytes[index + 3] & 0xFF;
+        }
+
+    }
+
+    /**
+     * Reads a long at the provided index.
+     *
+     * @param bytes     the byte array
+     * @param index     the index
+     * @param byteOrder the byte order
+     * @return the long
+     */
+    static long getLong(final byte[] bytes, final int index, final ByteOrder byteOrder) {
+
+        if (byteOrder == ByteOrder.LITTLE_ENDIAN) {
+            return (long) getInt(bytes, index, byteOrder) & 0xFFFFFFFFL | (long) getInt(bytes, index + 4, byteOrder) << 32;
+        } else {
+            return (long) getInt(bytes, index, byteOrder) << 32 | (long) getInt(bytes, index + 4, byteOrder) & 0xFFFFFFFFL;
+        }
+
+    }
+
+    /**
+     * Writes the provided short at the provided index.
+     *
+     * @param bytes     the byte array
+     * @param index     the index
+     * @param value     the short
+     * @param byteOrder the byte order
+     */
+    static void putShort(final byte[] bytes, final int index, final short value, final ByteOrder byteOrder) {
+
+        if (byteOrder == ByteOrder.LITTLE_ENDIAN) {
+            bytes[index] = (byte) value;
+            bytes[index + 1] = (byte) (value >>> 8);
+        } else {
+            bytes[index] = (byte) (value >>> 8);
+            bytes[index + 1] = (byte) value;
+        }
+
+    }
+
+    /**
+     * Writes the provided integer at the provided index.
+     *
+     * @param bytes     the byte array
+     * @param index     the index
+     * @param value     the integer
+     * @param byteOrder the byte order
+     */
+    static void putInt(final byte[] bytes, final int index, final int value, final ByteOrder byteOrder) {
+
+        if (byteOrder == ByteOrder.LITTLE_ENDIAN) {
+            bytes[index] = (byte) value;
+            bytes[index + 1] = (byte) (value >>> 8);
+            bytes[index + 2] = (byte) (value >>> 16);
+            bytes[index + 3] = (byte) (value >>> 24);
+        } else {
+            bytes[index] = (byte) (value >>> 24);
+            bytes[index + 1] = (byte) (value >>> 16);
+            bytes[index + 2] = (byte) (value >>> 8);
+            bytes[index + 3] = (byte) value;
+        }
+
+    }
+
+    /**
+     * Writes the provided long at the provided index.
+     *
+     * @param bytes     the byte array
+     * @param index     the index
+     * @param value     the long
+     * @param byteOrder the byte order
+     */
+    static void putLong(final byte[] bytes, final int index, final long value, final ByteOrder byteOrder) {
+
+        if (byteOrder == ByteOrder.LITTLE_ENDIAN) {
+            putInt(bytes, index, (int) value, byteOrder);
+            putInt(bytes, index + 4, (int) (value >>> 32), byteOrder);
+        } else {
+            putInt(bytes, index, (int) (value >>> 32), byteOrder);
+            putInt(bytes, index + 4, (int) value, byteOrder);
+        }
+
+    }
+
+    private ByteAccess() {
+
+        throw new UnsupportedOperationException();
+
+    }
+
+}
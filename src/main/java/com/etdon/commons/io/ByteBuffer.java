@@ -3,19 +3,33 @@ package com.etdon.commons.io;
 import com.etdon.commons.conditional.Preconditions;
 import com.etdon.commons.util.Exceptional;
 import org.jetbrains.annotations.NotNullByDefault;
+import org.jetbrains.annotations.Nullable;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.WritableByteChannel;
 import java.util.Arrays;
 
 /**
  * Byte buffer implementation used to construct byte arrays in the endianness of choice. Put methods exist for all
- * primitive types.
+ * primitive types, the encoding is shared with {@link DirectByteBuffer} through {@link AbstractByteBuffer}.
+ * <p>
+ * Buffers created using {@link ByteBuffer#sink(OutputStream, int)} or {@link ByteBuffer#sink(WritableByteChannel, int)}
+ * flush their content to the target and then reuse their internal byte array.
  */
 @NotNullByDefault
-public class ByteBuffer {
+public class ByteBuffer extends AbstractByteBuffer {
 
-    private ByteOrder byteOrder = ByteOrder.LITTLE_ENDIAN;
     private byte[] buffer;
-    private int size;
+    /**
+     * Whether the buffer is currently held by a {@link ByteBufferPool}.
+     */
+    boolean pooled;
+    /**
+     * The leak detection lease of the pool that handed out the buffer, if leak detection is enabled.
+     */
+    @Nullable
+    ByteBufferPool.Lease lease;
 
     /**
      * Initialize using {@link ByteBuffer#auto()} or {@link ByteBuffer#size(int)}.
@@ -24,248 +38,343 @@ public class ByteBuffer {
      */
     private ByteBuffer(final int initialSize) {
 
+        super(null, Integer.MAX_VALUE);
         this.buffer = new byte[initialSize];
 
     }
 
     /**
-     * Puts the provided <code>byte</code> value into the buffer resizing it if necessary.
+     * Initialize using {@link ByteBuffer#sink(OutputStream, int)} or {@link ByteBuffer#sink(WritableByteChannel, int)}.
      *
-     * @param value the <code>byte</code> value
+     * @param sink      the sink
+     * @param threshold the flush threshold
      */
-    public void put(final byte value) {
+    private ByteBuffer(final Sink sink, final int threshold) {
 
-        this.ensureSize(1);
-        this.buffer[this.size++] = value;
+        super(sink, threshold);
+        this.buffer = new byte[threshold];
 
     }
 
     /**
-     * Puts the provided <code>byte</code> values into the buffer resizing it if necessary. The order in which the bytes are added
-     * depends on the current {@link ByteBuffer#byteOrder} of the {@link ByteBuffer}.
+     * Sets the <code>byte</code> at the provided index to the provided <code>byte</code> value. Unlike
+     * {@link ByteBuffer#putAt(int, byte)} any index below the capacity is accepted, bytes set beyond the size are not
+     * part of the written bytes and are overwritten by the next puts.
      *
-     * @param values the <code>byte</code> values
+     * @param index the index
+     * @param value the value
+     * @deprecated use {@link ByteBuffer#putAt(int, byte)} which only accepts indices of already written bytes
      */
-    public void put(final byte... values) {
-
-        if (values.length == 0)
-            return;
-
-        this.ensureSize(values.length);
-        if (this.byteOrder == ByteOrder.LITTLE_ENDIAN) {
-            for (final byte value : values)
-                this.buffer[this.size++] = value;
-        } else {
-            for (int i = values.length - 1; i >= 0; i--)
-                this.buffer[this.size++] = values[i];
-        }
+    @Deprecated
+    public void set(final int index, final byte value) {
+
+        if (this.buffer.length <= index)
+            throw Exceptional.of(RuntimeException.class, "Cannot size index '{}' for buffer with length '{}'.", index, this.buffer.length);
+        this.buffer[index] = value;
 
     }
 
     /**
-     * Puts the provided <code>boolean</code> value into the buffer by adding a byte with the value <code>1</code> if
-     * the boolean is <code>true</code> or <code>0</code> if it's <code>false</code>.
+     * Exports the byte buffer to an accurately sized byte array.
      *
-     * @param value the <code>boolean</code> value
+     * @return the byte array
      */
-    public void put(final boolean value) {
+    public byte[] get() {
 
-        this.put((byte) (value ? 1 : 0));
+        final byte[] resizedBuffer = new byte[this.size];
+        System.arraycopy(this.buffer, 0, resizedBuffer, 0, this.size);
+
+        return resizedBuffer;
 
     }
 
     /**
-     * Puts the provided <code>char</code> value into the buffer by casting it to a byte.
+     * Checks the internal byte array against the provided byte array for equality. The bytes are compared in place
+     * without copying.
      *
-     * @param value the <code>char</code> value
+     * @param other the other byte array
+     * @return <code>true</code> if the contents are equal, <code>false</code> otherwise
      */
-    public void put(final char value) {
+    public boolean contentEquals(final byte[] other) {
 
-        this.put((byte) value);
+        if (this.size != other.length)
+            return false;
+
+        int index = 0;
+        for (; index <= this.size - Long.BYTES; index += Long.BYTES) {
+            if (ByteAccess.getLong(this.buffer, index, ByteOrder.LITTLE_ENDIAN) != ByteAccess.getLong(other, index, ByteOrder.LITTLE_ENDIAN))
+                return false;
+        }
+        for (; index < this.size; index++) {
+            if (this.buffer[index] != other[index])
+                return false;
+        }
+
+        return true;
 
     }
 
     /**
-     * Puts the provided <code>short</code> value into the buffer by putting the individual bytes of the
-     * <code>short</code> into a local buffer and calling {@link ByteBuffer#put(byte...)}.
+     * Creates a {@link ByteReader} over the bytes written so far using the current
+     * {@link AbstractByteBuffer#byteOrder}. The reader shares the internal byte array without copying it and its range
+     * is fixed to the current size: bytes appended later on lie outside of it, but every later write into that range
+     * of the array is visible to the reader. This includes overwrites using {@link ByteBuffer#putAt(int, byte)},
+     * resolved and compacted {@link Reservation reservations} and bytes put after a {@link ByteBuffer#reset()} or, for
+     * sinks, after a flush since both reuse the array. Only resizing the buffer detaches it from the reader. Copy the
+     * bytes using {@link ByteBuffer#get()} if the buffer is modified while the reader is in use.
      *
-     * @param value the <code>short</code> value
+     * @return the byte reader
      */
-    public void put(final short value) {
+    public ByteReader toByteReader() {
 
-        final byte[] buffer = new byte[Short.BYTES];
-        for (int i = 0; i < Short.BYTES; i++)
-            buffer[i] = (byte) ((value >>> (i * 8)) & 0xFF);
-        this.put(buffer);
+        return new ByteReader(this.byteOrder, this.buffer, 0, this.size);
 
     }
 
     /**
-     * Puts the provided <code>int</code> value into the buffer by putting the individual bytes of the <code>int</code>
-     * into a local buffer and calling {@link ByteBuffer#put(byte...)}.
+     * Wraps the bytes written so far in a read-only {@link java.nio.ByteBuffer} without copying them. The position of
+     * the view is <code>0</code>, its limit is the size and its order matches the current
+     * {@link AbstractByteBuffer#byteOrder}. The view aliases the internal byte array just like {@link ByteBuffer#toByteReader()} does.
      *
-     * @param value the <code>int</code> value
+     * @return the read-only view
      */
-    public void put(final int value) {
+    public java.nio.ByteBuffer asNioBuffer() {
 
-        final byte[] buffer = new byte[Integer.BYTES];
-        for (int i = 0; i < Integer.BYTES; i++)
-            buffer[i] = (byte) ((value >>> (i * 8)) & 0xFF);
-        this.put(buffer);
+        return java.nio.ByteBuffer.wrap(this.buffer, 0, this.size)
+                .asReadOnlyBuffer()
+                .order(this.byteOrder == ByteOrder.LITTLE_ENDIAN ? java.nio.ByteOrder.LITTLE_ENDIAN : java.nio.ByteOrder.BIG_ENDIAN);
 
     }
 
     /**
-     * Puts the provided <code>float</code> value into the buffer by putting the individual bytes of the
-     * <code>float</code> into a local buffer and calling {@link ByteBuffer#put(byte...)}.
+     * Writes the bytes written so far to the provided output stream without copying them.
      *
-     * @param value the <code>float</code> value
+     * @param outputStream the target output stream
+     * @throws IOException if the output stream fails to write
      */
-    public void put(final float value) {
+    public void writeTo(final OutputStream outputStream) throws IOException {
 
-        final int floatBits = Float.floatToIntBits(value);
-        final byte[] buffer = new byte[Float.BYTES];
-        for (int i = 0; i < Float.BYTES; i++)
-            buffer[i] = (byte) ((floatBits >>> (i * 8)) & 0xFF);
-        this.put(buffer);
+        Preconditions.checkNotNull(outputStream);
+        outputStream.write(this.buffer, 0, this.size);
 
     }
 
     /**
-     * Puts the provided <code>long</code> value into the buffer by putting the individual bytes of the
-     * <code>long</code> into a local buffer and calling {@link ByteBuffer#put(byte...)}.
+     * Returns the length of the internal byte array, i.e. the count of bytes that can be written before resizing.
      *
-     * @param value the <code>long</code> value
+     * @return the capacity
      */
-    public void put(final long value) {
+    @Override
+    public int getCapacity() {
 
-        final byte[] buffer = new byte[Long.BYTES];
-        for (int i = 0; i < Long.BYTES; i++)
-            buffer[i] = (byte) ((value >>> (i * 8)) & 0xFF);
-        this.put(buffer);
+        return this.buffer.length;
 
     }
 
     /**
-     * Puts the provided <code>double</code> value into the buffer by putting the individual bytes of the
-     * <code>double</code> into a local buffer and calling {@link ByteBuffer#put(byte...)}.
+     * Ensures that the internal byte array has the capacity to add the provided byte count and returns it. Used by
+     * codecs of this package that encode in place before committing the new size using
+     * {@link ByteBuffer#setSize(int)}.
      *
-     * @param value the <code>double</code> value
+     * @param count the byte count
+     * @return the internal byte array
      */
-    public void put(final double value) {
+    byte[] ensureWritable(final int count) {
 
-        final long doubleBits = Double.doubleToLongBits(value);
-        final byte[] buffer = new byte[Double.BYTES];
-        for (int i = 0; i < Double.BYTES; i++)
-            buffer[i] = (byte) ((doubleBits >>> (i * 8)) & 0xFF);
-        this.put(buffer);
+        this.ensureSize(count);
+        return this.buffer;
 
     }
 
     /**
-     * Sets the <code>byte</code> at the provided index to the provided <code>byte</code> value.
+     * Returns the internal byte array without copying it. Only the first {@link ByteBuffer#getSize()} bytes are valid.
      *
-     * @param index the index
-     * @param value the value
+     * @return the internal byte array
      */
-    public void set(final int index, final byte value) {
+    byte[] array() {
 
-        if (this.buffer.length <= index)
-            throw Exceptional.of(RuntimeException.class, "Cannot size index '{}' for buffer with length '{}'.", index, this.buffer.length);
-        this.buffer[index] = value;
+        return this.buffer;
 
     }
 
     /**
-     * Exports the byte buffer to an accurately sized byte array.
+     * Sets the count of bytes written to the buffer without validating it.
      *
-     * @return the byte array
+     * @param size the size
      */
-    public byte[] get() {
+    void setSize(final int size) {
 
-        final byte[] resizedBuffer = new byte[this.size];
-        System.arraycopy(this.buffer, 0, resizedBuffer, 0, this.size);
+        this.size = size;
 
-        return resizedBuffer;
+    }
+
+    @Override
+    void grow(final int capacity) {
+
+        this.buffer = Arrays.copyOf(this.buffer, capacity);
+
+    }
+
+    @Override
+    void store(final int index, final byte value) {
+
+        this.buffer[index] = value;
+
+    }
+
+    @Override
+    void store(final int index, final byte[] bytes, final int offset, final int length) {
+
+        System.arraycopy(bytes, offset, this.buffer, index, length);
+
+    }
+
+    @Override
+    void storeShort(final int index, final short value) {
+
+        ByteAccess.putShort(this.buffer, index, value, this.byteOrder);
+
+    }
+
+    @Override
+    void storeInt(final int index, final int value) {
+
+        ByteAccess.putInt(this.buffer, index, value, this.byteOrder);
+
+    }
+
+    @Override
+    void storeLong(final int index, final long value) {
+
+        ByteAccess.putLong(this.buffer, index, value, this.byteOrder);
+
+    }
+
+    @Override
+    int storeUnsigned(final int index, final long value) {
+
+        return VariableLength.writeUnsigned(this.buffer, index, value);
+
+    }
+
+    @Override
+    int storeSigned(final int index, final long value) {
+
+        return VariableLength.writeSigned(this.buffer, index, value);
+
+    }
+
+    @Override
+    int storeUtf8(final int index, final CharSequence value, final int length) {
+
+        return Utf8.encode(value, this.buffer, index);
+
+    }
+
+    @Override
+    void move(final int from, final int to, final int length) {
+
+        System.arraycopy(this.buffer, from, this.buffer, to, length);
+
+    }
+
+    @Override
+    void clear(final int index, final int count) {
+
+        Arrays.fill(this.buffer, index, index + count, (byte) 0);
+
+    }
+
+    @Override
+    void drainTo(final Sink sink) throws IOException {
+
+        sink.write(this.buffer, 0, this.size);
 
     }
 
     /**
-     * Checks the internal byte array against the provided byte array for equality.
+     * Creates a new {@link ByteBuffer} with an initial size of <code>64</code>.
      *
-     * @param other the other byte array
-     * @return <code>true</code> if the contents are equal, <code>false</code> otherwise
+     * @return the new {@link ByteBuffer}
      */
-    public boolean contentEquals(final byte[] other) {
-
-        if (this.size != other.length)
-            return false;
+    public static ByteBuffer auto() {
 
-        final byte[] resizedBuffer = new byte[this.size];
-        System.arraycopy(this.buffer, 0, resizedBuffer, 0, this.size);
-        return Arrays.equals(resizedBuffer, other);
+        return new ByteBuffer(64);
 
     }
 
     /**
-     * Ensures that the internal byte array has the capacity to add the provided byte count and resizes it if not.
+     * Creates a new {@link ByteBuffer} with the provided initial size.
      *
-     * @param count the byte count
+     * @param initialSize the initial size
+     * @return the new {@link ByteBuffer}.
      */
-    private void ensureSize(final int count) {
+    public static ByteBuffer size(final int initialSize) {
 
-        if (this.buffer.length >= (this.size + count)) return;
-        final int growth = Math.max((this.size + count) - this.buffer.length, this.buffer.length);
-        final byte[] resizedBuffer = new byte[this.buffer.length + growth];
-        System.arraycopy(this.buffer, 0, resizedBuffer, 0, this.buffer.length);
-        this.buffer = resizedBuffer;
+        Preconditions.checkState(initialSize >= 0, "The size of a byte buffer cannot be negative.");
+        return new ByteBuffer(initialSize);
 
     }
 
     /**
-     * Sets the {@link ByteBuffer#byteOrder} value to the provided {@link ByteOrder}.
+     * Creates a new {@link ByteBuffer} that flushes to the provided output stream using the default threshold of
+     * <code>8192</code> bytes.
      *
-     * @param byteOrder the byte order
+     * @param outputStream the target output stream
+     * @return the new {@link ByteBuffer}
+     * @see ByteBuffer#sink(OutputStream, int)
      */
-    public void setByteOrder(final ByteOrder byteOrder) {
+    public static ByteBuffer sink(final OutputStream outputStream) {
 
-        Preconditions.checkNotNull(byteOrder);
-        this.byteOrder = byteOrder;
+        return sink(outputStream, DEFAULT_SINK_THRESHOLD);
 
     }
 
     /**
-     * Returns the current {@link ByteBuffer#byteOrder} value.
+     * Creates a new {@link ByteBuffer} that writes its content to the provided output stream once adding more bytes
+     * would exceed the provided threshold. The output stream isn't closed by the buffer, {@link ByteBuffer#flush()}
+     * has to be called once all bytes have been put.
      *
-     * @return the byte order
+     * @param outputStream the target output stream
+     * @param threshold    the flush threshold
+     * @return the new {@link ByteBuffer}
      */
-    public ByteOrder getByteOrder() {
+    public static ByteBuffer sink(final OutputStream outputStream, final int threshold) {
 
-        return this.byteOrder;
+        Preconditions.checkNotNull(outputStream);
+        Preconditions.checkArgument(threshold > 0, "The flush threshold ({}) has to be positive.", threshold);
+        return new ByteBuffer(new StreamSink(outputStream), threshold);
 
     }
 
     /**
-     * Creates a new {@link ByteBuffer} with an initial size of <code>64</code>.
+     * Creates a new {@link ByteBuffer} that flushes to the provided channel using the default threshold of
+     * <code>8192</code> bytes.
      *
+     * @param channel the target channel
      * @return the new {@link ByteBuffer}
+     * @see ByteBuffer#sink(WritableByteChannel, int)
      */
-    public static ByteBuffer auto() {
+    public static ByteBuffer sink(final WritableByteChannel channel) {
 
-        return new ByteBuffer(64);
+        return sink(channel, DEFAULT_SINK_THRESHOLD);
 
     }
 
     /**
-     * Creates a new {@link ByteBuffer} with the provided initial size.
+     * Creates a new {@link ByteBuffer} that writes its content to the provided channel once adding more bytes would
+     * exceed the provided threshold. The channel isn't closed by the buffer, {@link ByteBuffer#flush()} has to be
+     * called once all bytes have been put.
      *
-     * @param initialSize the initial size
-     * @return the new {@link ByteBuffer}.
+     * @param channel   the target channel
+     * @param threshold the flush threshold
+     * @return the new {@link ByteBuffer}
      */
-    public static ByteBuffer size(final int initialSize) {
+    public static ByteBuffer sink(final WritableByteChannel channel, final int threshold) {
 
-        Preconditions.checkState(initialSize >= 0, "The size of a byte buffer cannot be negative.");
-        return new ByteBuffer(initialSize);
+        Preconditions.checkNotNull(channel);
+        Preconditions.checkArgument(threshold > 0, "The flush threshold ({}) has to be positive.", threshold);
+        return new ByteBuffer(new ChannelSink(channel), threshold);
 
     }
 
@@ -0,0 +1,303 @@
+package com.etdon.commons.io;
+
+import com.etdon.commons.builder.FluentBuilder;
+import com.etdon.commons.conditional.Preconditions;
+import org.jetbrains.annotations.NotNullByDefault;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.Consumer;
+
+/**
+ * Pool of reusable {@link ByteBuffer} instances grouped into power-of-two size classes. Released buffers are cached
+ * per thread first and overflow into a bounded stage shared by all threads, buffers exceeding both are dropped and
+ * left to the garbage collector. Acquired buffers are always empty and use {@link ByteOrder#LITTLE_ENDIAN}.
+ * <p>
+ * Releasing a buffer twice is always rejected. With leak detection enabled every acquired buffer is tracked using a
+ * weak reference, buffers that are garbage collected without being released are reported to the leak listener
+ * together with the stack trace of their acquisition.
+ */
+@NotNullByDefault
+public class ByteBufferPool {
+
+    private final int minimumShift;
+    private final int maximumShift;
+    private final int threadLocalCapacity;
+    private final int sharedCapacity;
+    private final ThreadLocal<LocalCache> localCache;
+    private final List<ConcurrentLinkedQueue<ByteBuffer>> shared = new ArrayList<>();
+    private final AtomicIntegerArray sharedSizes;
+    private final boolean leakDetection;
+    private final Consumer<Throwable> leakListener;
+    private final ReferenceQueue<ByteBuffer> leakQueue = new ReferenceQueue<>();
+    private final Set<Lease> leases = ConcurrentHashMap.newKeySet();
+
+    private ByteBufferPool(final Builder builder) {
+
+        this.minimumShift = Integer.numberOfTrailingZeros(builder.minimumSize);
+        this.maximumShift = Integer.numberOfTrailingZeros(builder.maximumSize);
+        this.threadLocalCapacity = builder.threadLocalCapacity;
+        this.sharedCapacity = builder.sharedCapacity;
+        final int classCount = this.maximumShift - this.minimumShift + 1;
+        this.localCache = ThreadLocal.withInitial(() -> new LocalCache(classCount, this.threadLocalCapacity));
+        for (int i = 0; i < classCount; i++)
+            this.shared.add(new ConcurrentLinkedQueue<>());
+        this.sharedSizes = new AtomicIntegerArray(classCount);
+        this.leakDetection = builder.leakDetection;
+        this.leakListener = builder.leakListener;
+
+    }
+
+    /**
+     * Acquires an empty buffer of the minimum size class.
+     *
+     * @return the buffer
+     */
+    public ByteBuffer acquire() {
+
+        return this.acquire(1 << this.minimumShift);
+
+    }
+
+    /**
+     * Acquires an empty buffer with a capacity of at least the provided count of bytes. Requests exceeding the maximum
+     * size class are served with a new unpooled buffer.
+     *
+     * @param capacity the minimum capacity
+     * @return the buffer
+     */
+    public ByteBuffer acquire(final int capacity) {
+
+        Preconditions.checkArgument(capacity >= 0, "The requested capacity ({}) cannot be negative.", capacity);
+        ByteBuffer byteBuffer = null;
+        final int shift = Math.max(this.minimumShift, Integer.SIZE - Integer.numberOfLeadingZeros(Math.max(capacity, 1) - 1));
+        if (shift <= this.maximumShift) {
+            final int sizeClass = shift - this.minimumShift;
+            byteBuffer = this.localCache.get().poll(sizeClass);
+            if (byteBuffer == null) {
+                byteBuffer = this.shared.get(sizeClass).poll();
+                if (byteBuffer != null)
+                    this.sharedSizes.decrementAndGet(sizeClass);
+            }
+            if (byteBuffer == null)
+                byteBuffer = ByteBuffer.size(1 << shift);
+        } else {
+            byteBuffer = ByteBuffer.size(capacity);
+        }
+
+        byteBuffer.pooled = false;
+        if (this.leakDetection) {
+            this.reportLeaks();
+            final Lease lease = new Lease(byteBuffer, this.leakQueue, new Throwable("A byte buffer of capacity " + byteBuffer.getCapacity() + " was acquired here but never released."));
+            this.leases.add(lease);
+            byteBuffer.lease = lease;
+        }
+
+        return byteBuffer;
+
+    }
+
+    /**
+     * Releases the provided buffer back into the pool. The buffer must not be used after releasing it. Buffers that
+     * weren't acquired from this pool are accepted as well and cached if they fit a size class. Sink buffers are
+     * rejected since they stay attached to their sink and would flush into it on behalf of the next owner.
+     *
+     * @param byteBuffer the buffer
+     * @throws IllegalArgumentException if the buffer is a sink
+     * @throws IllegalStateException    if the buffer has already been released
+     */
+    public void release(final ByteBuffer byteBuffer) {
+
+        Preconditions.checkNotNull(byteBuffer);
+        Preconditions.checkArgument(!byteBuffer.isSink(), "Sink buffers cannot be released into a pool.");
+        Preconditions.checkState(!byteBuffer.pooled, "The provided byte buffer has already been released.");
+        byteBuffer.pooled = true;
+        final Lease lease = byteBuffer.lease;
+        if (lease != null) {
+            this.leases.remove(lease);
+            lease.clear();
+            byteBuffer.lease = null;
+        }
+        if (this.leakDetection)
+            this.reportLeaks();
+
+        final int capacity = byteBuffer.getCapacity();
+        final int shift = Integer.SIZE - 1 - Integer.numberOfLeadingZeros(capacity);
+        if (capacity == 0 || shift < this.minimumShift || shift > this.maximumShift)
+            return;
+
+        byteBuffer.reset();
+        byteBuffer.setByteOrder(ByteOrder.LITTLE_ENDIAN);
+        final int sizeClass = shift - this.minimumShift;
+        if (this.localCache.get().offer(sizeClass, byteBuffer))
+            return;
+
+        if (this.sharedSizes.incrementAndGet(sizeClass) <= this.sharedCapacity) {
+            this.shared.get(sizeClass).offer(byteBuffer);
+        } else {
+            this.sharedSizes.decrementAndGet(sizeClass);
+        }
+
+    }
+
+    /**
+     * Returns the count of acquired buffers that are tracked by the leak detection and haven't been released or
+     * reported yet. Always <code>0</code> if leak detection is disabled.
+     *
+     * @return the tracked buffer count
+     */
+    public int getTrackedCount() {
+
+        return this.leases.size();
+
+    }
+
+    /**
+     * Reports all tracked buffers that have been garbage collected without being released to the leak listener.
+     */
+    private void reportLeaks() {
+
+        Reference<? extends ByteBuffer> reference;
+        while ((reference = this.leakQueue.poll()) != null) {
+            final Lease lease = (Lease) reference;
+            if (this.leases.remove(lease))
+                this.leakListener.accept(lease.trace);
+        }
+
+    }
+
+    public static Builder builder() {
+
+        return new Builder();
+
+    }
+
+    /**
+     * Weak reference to an acquired buffer holding the stack trace of the acquisition.
+     */
+    static final class Lease extends WeakReference<ByteBuffer> {
+
+        private final Throwable trace;
+
+        private Lease(final ByteBuffer referent, final ReferenceQueue<ByteBuffer> queue, final Throwable trace) {
+
+            super(referent, queue);
+            this.trace = trace;
+
+        }
+
+    }
+
+    /**
+     * Bounded per-thread stacks of released buffers for every size class.
+     */
+    private static final class LocalCache {
+
+        private final ByteBuffer[][] stacks;
+        private final int[] sizes;
+
+        private LocalCache(final int classCount, final int capacity) {
+
+            this.stacks = new ByteBuffer[classCount][capacity];
+            this.sizes = new int[classCount];
+
+        }
+
+        @Nullable
+        private ByteBuffer poll(final int sizeClass) {
+
+            if (this.sizes[sizeClass] == 0)
+                return null;
+
+            final int index = --this.sizes[sizeClass];
+            final ByteBuffer byteBuffer = this.stacks[sizeClass][index];
+            this.stacks[sizeClass][index] = null;
+            return byteBuffer;
+
+        }
+
+        private boolean offer(final int sizeClass, final ByteBuffer byteBuffer) {
+
+            if (this.sizes[sizeClass] == this.stacks[sizeClass].length)
+                return false;
+
+            this.stacks[sizeClass][this.sizes[sizeClass]++] = byteBuffer;
+            return true;
+
+        }
+
+    }
+
+    public static class Builder implements FluentBuilder<ByteBufferPool> {
+
+        private int minimumSize = 256;
+        private int maximumSize = 1 << 20;
+        private int threadLocalCapacity = 8;
+        private int sharedCapacity = 64;
+        private boolean leakDetection = false;
+        private Consumer<Throwable> leakListener = Throwable::printStackTrace;
+
+        public Builder minimumSize(final int minimumSize) {
+
+            this.minimumSize = minimumSize;
+            return this;
+
+        }
+
+        public Builder maximumSize(final int maximumSize) {
+
+            this.maximumSize = maximumSize;
+            return this;
+
+        }
+
+        public Builder threadLocalCapacity(final int threadLocalCapacity) {
+
+            this.threadLocalCapacity = threadLocalCapacity;
+            return this;
+
+        }
+
+        public Builder sharedCapacity(final int sharedCapacity) {
+
+            this.sharedCapacity = sharedCapacity;
+            return this;
+
+        }
+
+        public Builder leakDetection() {
+
+            this.leakDetection = true;
+            return this;
+
+        }
+
+        public Builder leakListener(final Consumer<Throwable> leakListener) {
+
+            Preconditions.checkNotNull(leakListener);
+            this.leakListener = leakListener;
+            return this;
+
+        }
+
+        @Override
+        public ByteBufferPool build() {
+
+            Preconditions.checkArgument(this.minimumSize > 0 && Integer.bitCount(this.minimumSize) == 1, "The minimum size ({}) has to be a positive power of two.", this.minimumSize);
+            Preconditions.checkArgument(this.maximumSize >= this.minimumSize && Integer.bitCount(this.maximumSize) == 1, "The maximum size ({}) has to be a power of two of at least the minimum size.", this.maximumSize);
+            Preconditions.checkArgument(this.threadLocalCapacity >= 0 && this.sharedCapacity >= 0, "The cache capacities cannot be negative.");
+            return new ByteBufferPool(this);
+
+        }
+
+    }
+
+}
@@ -6,13 +6,19 @@ import org.jetbrains.annotations.NotNullByDefault;
 /**
  * Byte reader implementation used to sequentially read primitive types from a byte array in the endianness of choice.
  * Read methods advance the internal offset while peek methods leave it untouched.
+ * <p>
+ * A byte reader can be restricted to a range of its byte array. Slices created using
+ * {@link ByteReader#slice(int, int)} and {@link ByteReader#readSlice(int)} share the byte array of their parent and
+ * only see their own range, offsets are always relative to the start of that range.
  */
 @NotNullByDefault
 public class ByteReader {
 
     private ByteOrder byteOrder = ByteOrder.LITTLE_ENDIAN;
     private final byte[] bytes;
-    private int offset = 0;
+    private final int start;
+    private final int limit;
+    private int offset;
 
     /**
      * Creates a new byte reader for the provided byte array using {@link ByteOrder#LITTLE_ENDIAN}.
@@ -21,7 +27,7 @@ public class ByteReader {
      */
     public ByteReader(final byte[] bytes) {
 
-        this.bytes = bytes;
+        this(ByteOrder.LITTLE_ENDIAN, bytes);
 
     }
 
@@ -34,9 +40,31 @@ public class ByteReader {
     public ByteReader(final ByteOrder byteOrder,
                       final byte[] bytes) {
 
+        this(byteOrder, bytes, 0, bytes.length);
+
+    }
+
+    /**
+     * Creates a new byte reader for the provided range of the provided byte array using the provided byte order. The
+     * byte array is shared, not copied.
+     *
+     * @param byteOrder the byte order
+     * @param bytes     the byte array
+     * @param start     the start of the range
+     * @param length    the length of the range
+     */
+    ByteReader(final ByteOrder byteOrder,
+               final byte[] bytes,
+               final int start,
+               final int length) {
+
         Preconditions.checkNotNull(byteOrder);
+        Preconditions.checkArgument(start >= 0 && length >= 0 && start <= bytes.length - length, "The provided range (start: {}, length: {}) is out of bounds for the byte array (length: {}).", start, length, bytes.length);
         this.byteOrder = byteOrder;
         this.bytes = bytes;
+        this.start = start;
+        this.limit = start + length;
+        this.offset = start;
 
     }
 
@@ -47,7 +75,7 @@ public class ByteReader {
      */
     public void skip(final int count) {
 
-        Preconditions.checkState(this.offset + count < this.bytes.length, "The provided byte count ({}) added to the internal offset ({}) is too large for the internal byte array (length: {})", count, this.offset, this.bytes.length);
+        Preconditions.checkState(this.offset + count < this.limit && this.offset + count >= this.start, "The provided byte count ({}) added to the internal offset ({}) is too large for the internal byte array (length: {})", count, this.getOffset(), this.getLength());
         this.offset += count;
 
     }
@@ -59,8 +87,8 @@ public class ByteReader {
      */
     public void jump(final int offset) {
 
-        Preconditions.checkState(offset < this.bytes.length, "The provided offset ({}) is too large for the internal byte array (length: {}).", offset, this.bytes.length);
-        this.offset = offset;
+        Preconditions.checkState(offset >= 0 && offset < this.getLength(), "The provided offset ({}) is too large for the internal byte array (length: {}).", offset, this.getLength());
+        this.offset = this.start + offset;
 
     }
 
@@ -112,7 +140,7 @@ public class ByteReader {
      */
     public byte readByte() {
 
-        Preconditions.checkState(this.offset < this.bytes.length, "The byte reader has reached the end of the internal byte array.");
+        Preconditions.checkState(this.offset < this.limit, "The byte reader has reached the end of the internal byte array.");
         return this.bytes[this.offset++];
 
     }
@@ -124,7 +152,7 @@ public class ByteReader {
      */
     public byte peekByte() {
 
-        Preconditions.checkState(this.offset < this.bytes.length);
+        Preconditions.checkState(this.offset < this.limit);
         return this.bytes[this.offset];
 
     }
@@ -137,7 +165,7 @@ public class ByteReader {
      */
     public byte readOffsetByte(final int offset) {
 
-        Preconditions.checkState(this.offset + offset < this.bytes.length);
+        Preconditions.checkState(this.offset + offset < this.limit && this.offset + offset >= this.start);
         return this.bytes[this.offset += offset];
 
     }
@@ -150,7 +178,7 @@ public class ByteReader {
      */
     public byte peekOffsetByte(final int offset) {
 
-        Preconditions.checkState(this.offset + offset < this.bytes.length);
+        Preconditions.checkState(this.offset + offset < this.limit && this.offset + offset >= this.start);
         return this.bytes[this.offset + offset];
 
     }
@@ -163,7 +191,7 @@ public class ByteReader {
      */
     public byte[] readBytes(final int count) {
 
-        Preconditions.checkState(this.offset + count - 1 < this.bytes.length, "The byte reader has reached the end of the internal byte array.");
+        Preconditions.checkState(this.offset + count - 1 < this.limit, "The byte reader has reached the end of the internal byte array.");
         final byte[] bytes = new byte[count];
         System.arraycopy(this.bytes, this.offset, bytes, 0, count);
         this.offset += count;
@@ -180,7 +208,7 @@ public class ByteReader {
      */
     public byte[] peekBytes(final int count) {
 
-        Preconditions.checkState(this.offset + count - 1 < this.bytes.length, "The byte reader has reached the end of the internal byte array.");
+        Preconditions.checkState(this.offset + count - 1 < this.limit, "The byte reader has reached the end of the internal byte array.");
         final byte[] bytes = new byte[count];
         System.arraycopy(this.bytes, this.offset, bytes, 0, count);
 
@@ -198,7 +226,7 @@ public class ByteReader {
      */
     public byte[] readOffsetBytes(final int count, final int offset) {
 
-        Preconditions.checkState(this.offset + offset + count - 1 < this.bytes.length);
+        Preconditions.checkState(this.offset + offset + count - 1 < this.limit && this.offset + offset >= this.start);
         final byte[] bytes = new byte[count];
         System.arraycopy(this.bytes, this.offset + offset, bytes, 0, count);
         this.offset += offset + count;
@@ -217,7 +245,7 @@ public class ByteReader {
      */
     public byte[] peekOffsetBytes(final int count, final int offset) {
 
-        Preconditions.checkState(this.offset + offset + count - 1 < this.bytes.length);
+        Preconditions.checkState(this.offset + offset + count - 1 < this.limit && this.offset + offset >= this.start);
         final byte[] bytes = new byte[count];
         System.arraycopy(this.bytes, this.offset + offset, bytes, 0, count);
 
@@ -225,6 +253,71 @@ public class ByteReader {
 
     }
 
+    /**
+     * Copies the provided count of bytes into the provided target array starting at the provided target offset and
+     * advances the internal offset.
+     *
+     * @param target the target array
+     * @param offset the target offset
+     * @param length the byte count
+     */
+    public void readInto(final byte[] target, final int offset, final int length) {
+
+        System.arraycopy(this.bytes, this.claim(target.length, offset, length, Byte.BYTES), target, offset, length);
+
+    }
+
+    /**
+     * Creates a new byte reader over the provided count of bytes at the provided offset without advancing the internal
+     * offset. The slice shares the internal byte array, inherits the current byte order and starts at offset
+     * <code>0</code>.
+     *
+     * @param offset the offset
+     * @param length the byte count
+     * @return the slice
+     */
+    public ByteReader slice(final int offset, final int length) {
+
+        Preconditions.checkState(length >= 0 && this.offset + offset >= this.start && this.offset + offset <= this.limit - length, "The requested slice (offset: {}, length: {}) exceeds the internal byte array (length: {}).", offset, length, this.getLength());
+        return new ByteReader(this.byteOrder, this.bytes, this.offset + offset, length);
+
+    }
+
+    /**
+     * Creates a new byte reader over the provided count of bytes and advances the internal offset past them. The
+     * slice shares the internal byte array, inherits the current byte order and starts at offset <code>0</code>.
+     *
+     * @param length the byte count
+     * @return the slice
+     */
+    public ByteReader readSlice(final int length) {
+
+        final ByteReader slice = this.slice(0, length);
+        this.offset += length;
+
+        return slice;
+
+    }
+
+    /**
+     * Validates that the provided count of bytes is available, advances the internal offset past them and returns a
+     * region over them. Reads from the region only compare the region offset against the region end instead of
+     * validating against the byte reader, reading past the end of the region throws an
+     * {@link IllegalStateException}.
+     *
+     * @param count the byte count
+     * @return the region
+     */
+    public Region require(final int count) {
+
+        Preconditions.checkState(count >= 0 && count <= this.limit - this.offset, "The byte reader cannot provide {} bytes at offset {} (length: {}).", count, this.getOffset(), this.getLength());
+        final Region region = new Region(this.bytes, this.byteOrder, this.offset, count);
+        this.offset += count;
+
+        return region;
+
+    }
+
     /**
      * Reads a boolean and advances the internal offset.
      *
@@ -254,11 +347,10 @@ public class ByteReader {
      */
     public short readShort() {
 
-        if (this.byteOrder == ByteOrder.LITTLE_ENDIAN) {
-            return (short) (this.readByte() & 0xFF | (this.readByte() & 0xFF) << 8);
-        } else {
-            return (short) (this.readByte() << 8 | this.readByte() & 0xFF);
-        }
+        final short value = ByteAccess.getShort(this.bytes, this.index(0, Short.BYTES), this.byteOrder);
+        this.offset += Short.BYTES;
+
+        return value;
 
     }
 
@@ -269,11 +361,7 @@ public class ByteReader {
      */
     public short peekShort() {
 
-        if (this.byteOrder == ByteOrder.LITTLE_ENDIAN) {
-            return (short) (this.peekByte() & 0xFF | (this.peekOffsetByte(1) & 0xFF) << 8);
-        } else {
-            return (short) (this.peekByte() << 8 | this.peekOffsetByte(1) & 0xFF);
-        }
+        return ByteAccess.getShort(this.bytes, this.index(0, Short.BYTES), this.byteOrder);
 
     }
 
@@ -283,13 +371,9 @@ public class ByteReader {
      * @param offset the offset
      * @return the short
      */
-    public short peekOffsetShort(int offset) {
+    public short peekOffsetShort(final int offset) {
 
-        if (this.byteOrder == ByteOrder.LITTLE_ENDIAN) {
-            return (short) (this.peekOffsetByte(offset++) & 0xFF | (this.peekOffsetByte(offset) & 0xFF) << 8);
-        } else {
-            return (short) (this.peekOffsetByte(offset++) << 8 | this.peekOffsetByte(offset) & 0xFF);
-        }
+        return ByteAccess.getShort(this.bytes, this.index(offset, Short.BYTES), this.byteOrder);
 
     }
 
@@ -300,11 +384,10 @@ public class ByteReader {
      */
     public int readInteger() {
 
-        if (this.byteOrder == ByteOrder.LITTLE_ENDIAN) {
-            return (this.readByte() & 0xFF | (this.readByte() & 0xFF) << 8 | (this.readByte() & 0xFF) << 16 | this.readByte() << 24);
-        } else {
-            return (this.readByte() << 24 | (this.readByte() & 0xFF) << 16 | (this.readByte() & 0xFF) << 8 | this.readByte() & 0xFF);
-        }
+        final int value = ByteAccess.getInt(this.bytes, this.index(0, Integer.BYTES), this.byteOrder);
+        this.offset += Integer.BYTES;
+
+        return value;
 
     }
 
@@ -315,11 +398,7 @@ public class ByteReader {
      */
     public int peekInteger() {
 
-        if (this.byteOrder == ByteOrder.LITTLE_ENDIAN) {
-            return (this.peekOffsetByte(0) & 0xFF | (this.peekOffsetByte(1) & 0xFF) << 8 | (this.peekOffsetByte(2) & 0xFF) << 16 | this.peekOffsetByte(3) << 24);
-        } else {
-            return (this.peekOffsetByte(0) << 24 | (this.peekOffsetByte(1) & 0xFF) << 16 | (this.peekOffsetByte(2) & 0xFF) << 8 | this.peekOffsetByte(3) & 0xFF);
-        }
+        return ByteAccess.getInt(this.bytes, this.index(0, Integer.BYTES), this.byteOrder);
 
     }
 
@@ -329,13 +408,9 @@ public class ByteReader {
      * @param offset the offset
      * @return the integer
      */
-    public int peekOffsetInteger(int offset) {
+    public int peekOffsetInteger(final int offset) {
 
-        if (this.byteOrder == ByteOrder.LITTLE_ENDIAN) {
-            return (this.peekOffsetByte(offset++) & 0xFF | (this.peekOffsetByte(offset++) & 0xFF) << 8 | (this.peekOffsetByte(offset++) & 0xFF) << 16 | this.peekOffsetByte(offset) << 24);
-        } else {
-            return (this.peekOffsetByte(offset++) << 24 | (this.peekOffsetByte(offset++) & 0xFF) << 16 | (this.peekOffsetByte(offset++) & 0xFF) << 8 | this.peekOffsetByte(offset) & 0xFF);
-        }
+        return ByteAccess.getInt(this.bytes, this.index(offset, Integer.BYTES), this.byteOrder);
 
     }
 
@@ -346,11 +421,10 @@ public class ByteReader {
      */
     public long readLong() {
 
-        if (this.byteOrder == ByteOrder.LITTLE_ENDIAN) {
-            return (long) this.readInteger() & 0xFFFFFFFFL | ((long) this.readInteger() << 32);
-        } else {
-            return ((long) this.readInteger() << 32) | (long) this.readInteger() & 0xFFFFFFFFL;
-        }
+        final long value = ByteAccess.getLong(this.bytes, this.index(0, Long.BYTES), this.byteOrder);
+        this.offset += Long.BYTES;
+
+        return value;
 
     }
 
@@ -361,11 +435,7 @@ public class ByteReader {
      */
     public long peekLong() {
 
-        if (this.byteOrder == ByteOrder.LITTLE_ENDIAN) {
-            return (long) this.peekInteger() & 0xFFFFFFFFL | ((long) this.peekOffsetInteger(4) << 32);
-        } else {
-            return ((long) this.peekInteger() << 32) | (long) this.peekOffsetInteger(4) & 0xFFFFFFFFL;
-        }
+        return ByteAccess.getLong(this.bytes, this.index(0, Long.BYTES), this.byteOrder);
 
     }
 
@@ -375,14 +445,308 @@ public class ByteReader {
      * @param offset the offset
      * @return the long
      */
-    public long peekOffsetLong(int offset) {
+    public long peekOffsetLong(final int offset) {
+
+        return ByteAccess.getLong(this.bytes, this.index(offset, Long.BYTES), this.byteOrder);
+
+    }
+
+    /**
+     * Reads a float and advances the internal offset.
+     *
+     * @return the float
+     */
+    public float readFloat() {
 
-        if (this.byteOrder == ByteOrder.LITTLE_ENDIAN) {
-            return (long) this.peekOffsetInteger(offset += 4) & 0xFFFFFFFFL | ((long) this.peekOffsetInteger(offset) << 32);
-        } else {
-            return ((long) this.peekOffsetInteger(offset += 4) << 32) | (long) this.peekOffsetInteger(offset) & 0xFFFFFFFFL;
+        return Float.intBitsToFloat(this.readInteger());
+
+    }
+
+    /**
+     * Reads a float without advancing the internal offset.
+     *
+     * @return the float
+     */
+    public float peekFloat() {
+
+        return Float.intBitsToFloat(this.peekInteger());
+
+    }
+
+    /**
+     * Reads a double and advances the internal offset.
+     *
+     * @return the double
+     */
+    public double readDouble() {
+
+        return Double.longBitsToDouble(this.readLong());
+
+    }
+
+    /**
+     * Reads a double without advancing the internal offset.
+     *
+     * @return the double
+     */
+    public double peekDouble() {
+
+        return Double.longBitsToDouble(this.peekLong());
+
+    }
+
+    /**
+     * Reads an unsigned LEB128 variable length value and advances the internal offset past it.
+     *
+     * @return the unsigned value
+     * @see VariableLength#readUnsigned(byte[])
+     */
+    public long readVarLong() {
+
+        int index = this.offset;
+        long result = 0;
+        int shift = 0;
+        byte current;
+        do {
+            Preconditions.checkState(index < this.limit, "Invalid input: continuation bit set on the last byte of the sequence.");
+            Preconditions.checkState(shift < Long.SIZE, "Invalid input: the encoded value exceeds the maximum length of a long.");
+            current = this.bytes[index++];
+            result |= (long) (current & VariableLength.SEGMENT_MASK) << shift;
+            shift += VariableLength.SHIFT;
+        } while ((current & VariableLength.CONTINUATION_BIT) != 0);
+        this.offset = index;
+
+        return result;
+
+    }
+
+    /**
+     * Reads an unsigned LEB128 variable length value that fits into an unsigned <code>int</code> and advances the
+     * internal offset past it.
+     *
+     * @return the unsigned value
+     */
+    public int readVarInt() {
+
+        final int offset = this.offset;
+        final long result = this.readVarLong();
+        if ((result >>> Integer.SIZE) != 0) {
+            this.offset = offset;
+            throw new IllegalStateException("Invalid input: the encoded value exceeds the maximum length of an int.");
         }
 
+        return (int) result;
+
+    }
+
+    /**
+     * Reads a signed LEB128 variable length value and advances the internal offset past it.
+     *
+     * @return the signed value
+     * @see VariableLength#readSigned(byte[])
+     */
+    public long readSignedVarLong() {
+
+        int index = this.offset;
+        long result = 0;
+        int shift = 0;
+        byte current;
+        do {
+            Preconditions.checkState(index < this.limit, "Invalid input: continuation bit set on the last byte of the sequence.");
+            Preconditions.checkState(shift < Long.SIZE, "Invalid input: the encoded value exceeds the maximum length of a long.");
+            current = this.bytes[index++];
+            result |= (long) (current & VariableLength.SEGMENT_MASK) << shift;
+            shift += VariableLength.SHIFT;
+        } while ((current & VariableLength.CONTINUATION_BIT) != 0);
+        this.offset = index;
+
+        if (shift < Long.SIZE && (current & VariableLength.SIGN_BIT) != 0)
+            result |= -(1L << shift);
+
+        return result;
+
+    }
+
+    /**
+     * Reads a signed LEB128 variable length value that fits into an <code>int</code> and advances the internal offset
+     * past it.
+     *
+     * @return the signed value
+     */
+    public int readSignedVarInt() {
+
+        final int offset = this.offset;
+        final long result = this.readSignedVarLong();
+        if (result != (int) result) {
+            this.offset = offset;
+            throw new IllegalStateException("Invalid input: the encoded value exceeds the maximum length of an int.");
+        }
+
+        return (int) result;
+
+    }
+
+    /**
+     * Reads the provided count of bytes as UTF-8 encoded string and advances the internal offset past them. Pure ASCII
+     * input is decoded without a charset decoder and without copying the bytes first.
+     *
+     * @param length the byte count
+     * @return the decoded string
+     */
+    public String readUtf8(final int length) {
+
+        Preconditions.checkArgument(length >= 0, "The byte count ({}) cannot be negative.", length);
+        final int index = this.index(0, length);
+        final String value = Utf8.decode(this.bytes, index, length);
+        this.offset = index + length;
+
+        return value;
+
+    }
+
+    /**
+     * Reads the provided count of bytes as UTF-8 encoded string using the provided cache and advances the internal
+     * offset past them.
+     *
+     * @param length the byte count
+     * @param cache  the string cache
+     * @return the decoded or cached string
+     */
+    public String readUtf8(final int length, final StringCache cache) {
+
+        Preconditions.checkArgument(length >= 0, "The byte count ({}) cannot be negative.", length);
+        final int index = this.index(0, length);
+        final String value = cache.decode(this.bytes, index, length);
+        this.offset = index + length;
+
+        return value;
+
+    }
+
+    /**
+     * Reads a UTF-8 encoded string prefixed with its byte count as unsigned LEB128 variable length value and advances
+     * the internal offset past it.
+     *
+     * @return the decoded string
+     * @see ByteBuffer#putVarLengthString(CharSequence)
+     */
+    public String readVarLengthString() {
+
+        return this.readUtf8(this.readStringLength());
+
+    }
+
+    /**
+     * Reads a UTF-8 encoded string prefixed with its byte count as unsigned LEB128 variable length value using the
+     * provided cache and advances the internal offset past it.
+     *
+     * @param cache the string cache
+     * @return the decoded or cached string
+     * @see ByteBuffer#putVarLengthString(CharSequence)
+     */
+    public String readVarLengthString(final StringCache cache) {
+
+        return this.readUtf8(this.readStringLength(), cache);
+
+    }
+
+    /**
+     * Reads the byte count prefix of a variable length string and validates that the string is available, the
+     * internal offset is left untouched on failure.
+     *
+     * @return the byte count
+     */
+    private int readStringLength() {
+
+        final int offset = this.offset;
+        final int length = this.readVarInt();
+        if (length < 0 || length > this.limit - this.offset) {
+            this.offset = offset;
+            throw new IllegalStateException("The byte reader has reached the end of the internal byte array.");
+        }
+
+        return length;
+
+    }
+
+    /**
+     * Reads the provided count of shorts into the provided target array starting at the provided target offset and
+     * advances the internal offset. The available bytes are validated once for the whole batch.
+     *
+     * @param target the target array
+     * @param offset the target offset
+     * @param length the short count
+     */
+    public void readShorts(final short[] target, final int offset, final int length) {
+
+        int index = this.claim(target.length, offset, length, Short.BYTES);
+        for (int i = offset; i < offset + length; i++, index += Short.BYTES)
+            target[i] = ByteAccess.getShort(this.bytes, index, this.byteOrder);
+
+    }
+
+    /**
+     * Reads the provided count of integers into the provided target array starting at the provided target offset and
+     * advances the internal offset. The available bytes are validated once for the whole batch.
+     *
+     * @param target the target array
+     * @param offset the target offset
+     * @param length the integer count
+     */
+    public void readIntegers(final int[] target, final int offset, final int length) {
+
+        int index = this.claim(target.length, offset, length, Integer.BYTES);
+        for (int i = offset; i < offset + length; i++, index += Integer.BYTES)
+            target[i] = ByteAccess.getInt(this.bytes, index, this.byteOrder);
+
+    }
+
+    /**
+     * Reads the provided count of longs into the provided target array starting at the provided target offset and
+     * advances the internal offset. The available bytes are validated once for the whole batch.
+     *
+     * @param target the target array
+     * @param offset the target offset
+     * @param length the long count
+     */
+    public void readLongs(final long[] target, final int offset, final int length) {
+
+        int index = this.claim(target.length, offset, length, Long.BYTES);
+        for (int i = offset; i < offset + length; i++, index += Long.BYTES)
+            target[i] = ByteAccess.getLong(this.bytes, index, this.byteOrder);
+
+    }
+
+    /**
+     * Reads the provided count of floats into the provided target array starting at the provided target offset and
+     * advances the internal offset. The available bytes are validated once for the whole batch.
+     *
+     * @param target the target array
+     * @param offset the target offset
+     * @param length the float count
+     */
+    public void readFloats(final float[] target, final int offset, final int length) {
+
+        int index = this.claim(target.length, offset, length, Float.BYTES);
+        for (int i = offset; i < offset + length; i++, index += Float.BYTES)
+            target[i] = Float.intBitsToFloat(ByteAccess.getInt(this.bytes, index, this.byteOrder));
+
+    }
+
+    /**
+     * Reads the provided count of doubles into the provided target array starting at the provided target offset and
+     * advances the internal offset. The available bytes are validated once for the whole batch.
+     *
+     * @param target the target array
+     * @param offset the target offset
+     * @param length the double count
+     */
+    public void readDoubles(final double[] target, final int offset, final int length) {
+
+        int index = this.claim(target.length, offset, length, Double.BYTES);
+        for (int i = offset; i < offset + length; i++, index += Double.BYTES)
+            target[i] = Double.longBitsToDouble(ByteAccess.getLong(this.bytes, index, this.byteOrder));
+
     }
 
     /**
@@ -415,7 +779,89 @@ public class ByteReader {
      */
     public int getOffset() {
 
-        return this.offset;
+        return this.offset - this.start;
+
+    }
+
+    /**
+     * Returns the length of the readable range.
+     *
+     * @return the length
+     */
+    public int getLength() {
+
+        return this.limit - this.start;
+
+    }
+
+    /**
+     * Returns the count of bytes between the internal offset and the end of the readable range.
+     *
+     * @return the remaining byte count
+     */
+    public int getRemaining() {
+
+        return this.limit - this.offset;
+
+    }
+
+    /**
+     * Validates that the provided count of bytes is available at the provided offset relative to the internal offset.
+     *
+     * @param offset the relative offset
+     * @param count  the byte count
+     * @return the index of the first byte
+     */
+    int index(final int offset, final int count) {
+
+        final int index = this.offset + offset;
+        Preconditions.checkState(index >= this.start && index <= this.limit - count, "The byte reader has reached the end of the internal byte array.");
+        return index;
+
+    }
+
+    /**
+     * Returns the internal byte array. Used by codecs of this package that decode in place after validating the range
+     * using {@link ByteReader#index(int, int)}.
+     *
+     * @return the internal byte array
+     */
+    byte[] array() {
+
+        return this.bytes;
+
+    }
+
+    /**
+     * Adds the provided count of bytes to the internal offset without validating it.
+     *
+     * @param count the byte count
+     */
+    void advance(final int count) {
+
+        this.offset += count;
+
+    }
+
+    /**
+     * Validates the provided target range as well as the availability of the provided count of elements and advances
+     * the internal offset past them.
+     *
+     * @param targetLength the target array length
+     * @param offset       the target offset
+     * @param length       the element count
+     * @param elementSize  the element size in bytes
+     * @return the index of the first element byte
+     */
+    private int claim(final int targetLength, final int offset, final int length, final int elementSize) {
+
+        Preconditions.checkArgument(offset >= 0 && length >= 0 && offset <= targetLength - length, "The provided range (offset: {}, length: {}) is out of bounds for the target array (length: {}).", offset, length, targetLength);
+        final long count = (long) length * elementSize;
+        Preconditions.checkState(count <= this.limit - this.offset, "The byte reader has reached the end of the internal byte array.");
+        final int index = this.offset;
+        this.offset += (int) count;
+
+        return index;
 
     }
 
@@ -445,6 +891,160 @@ public class ByteReader {
 
     }
 
+    /**
+     * Pre-validated region of a byte reader created using {@link ByteReader#require(int)}. The region shares the
+     * internal byte array of its byte reader and reads sequentially in the byte order the byte reader had on creation.
+     * Every read only checks that it stays within the region, bytes of the byte reader following the region are never
+     * exposed.
+     */
+    public static final class Region {
+
+        private final byte[] bytes;
+        private final ByteOrder byteOrder;
+        private final int end;
+        private int index;
+
+        private Region(final byte[] bytes,
+                       final ByteOrder byteOrder,
+                       final int index,
+                       final int count) {
+
+            this.bytes = bytes;
+            this.byteOrder = byteOrder;
+            this.index = index;
+            this.end = index + count;
+
+        }
+
+        /**
+         * Adds the provided count of bytes to the region offset.
+         *
+         * @param count the byte count
+         */
+        public void skip(final int count) {
+
+            this.advance(count);
+
+        }
+
+        /**
+         * Reads the current byte and advances the region offset.
+         *
+         * @return the byte
+         */
+        public byte readByte() {
+
+            return this.bytes[this.advance(Byte.BYTES)];
+
+        }
+
+        /**
+         * Reads a boolean and advances the region offset.
+         *
+         * @return the boolean
+         */
+        public boolean readBoolean() {
+
+            return this.readByte() == 0x01;
+
+        }
+
+        /**
+         * Reads a short and advances the region offset.
+         *
+         * @return the short
+         */
+        public short readShort() {
+
+            return ByteAccess.getShort(this.bytes, this.advance(Short.BYTES), this.byteOrder);
+
+        }
+
+        /**
+         * Reads an integer and advances the region offset.
+         *
+         * @return the integer
+         */
+        public int readInteger() {
+
+            return ByteAccess.getInt(this.bytes, this.advance(Integer.BYTES), this.byteOrder);
+
+        }
+
+        /**
+         * Reads a long and advances the region offset.
+         *
+         * @return the long
+         */
+        public long readLong() {
+
+            return ByteAccess.getLong(this.bytes, this.advance(Long.BYTES), this.byteOrder);
+
+        }
+
+        /**
+         * Reads a float and advances the region offset.
+         *
+         * @return the float
+         */
+        public float readFloat() {
+
+            return Float.intBitsToFloat(this.readInteger());
+
+        }
+
+        /**
+         * Reads a double and advances the region offset.
+         *
+         * @return the double
+         */
+        public double readDouble() {
+
+            return Double.longBitsToDouble(this.readLong());
+
+        }
+
+        /**
+         * Advances the region offset by the provided count of bytes and returns the previous offset.
+         *
+         * @param count the byte count
+         * @return the previous offset
+         * @throws IllegalStateException if the region has less than the provided count of bytes left
+         */
+        private int advance(final int count) {
+
+            Preconditions.checkState(count >= 0 && count <= this.end - this.index, "The region cannot provide {} bytes (remaining: {}).", count, this.end - this.index);
+            final int index = this.index;
+            this.index += count;
+
+            return index;
+
+        }
+
+        /**
+         * Returns the count of bytes left in the region.
+         *
+         * @return the remaining byte count
+         */
+        public int getRemaining() {
+
+            return this.end - this.index;
+
+        }
+
+        /**
+         * Returns the byte order of the region.
+         *
+         * @return the byte order
+         */
+        public ByteOrder getByteOrder() {
+
+            return this.byteOrder;
+
+        }
+
+    }
+
     /**
      * Auto-closeable session that captures the byte order and offset of a byte reader on creation and restores them
      * once the session is closed, either manually or by leaving its try-with-resources scope. Created using the
@@ -0,0 +1,326 @@
+package com.etdon.commons.io;
+
+import com.etdon.commons.conditional.Preconditions;
+import org.jetbrains.annotations.NotNullByDefault;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Provides methods to encode sorted <code>long</code> sequences (e.g. identifiers or timestamps) as deltas in
+ * fixed-size blocks and to iterate them without materializing the whole sequence.
+ * <p>
+ * Every block stores the deltas between its consecutive values using frame-of-reference bit packing: the smallest
+ * delta of the block is stored as a reference followed by the bit width required for the largest difference to that
+ * reference and the packed differences. A skip index in front of the blocks holds the first value and the byte offset
+ * of every block which allows a {@link Cursor} to jump straight to the block that may contain a target value.
+ * <p>
+ * Layout (variable length values use {@link VariableLength}):
+ * <pre>
+ * count (unsigned) | block size (unsigned) | data length (unsigned)
+ * block count * [first value (signed) | block offset (unsigned)]
+ * block count * [reference delta (unsigned) | bit width (byte) | packed differences]
+ * </pre>
+ */
+@NotNullByDefault
+public final class DeltaSequence {
+
+    /**
+     * The default count of values per block.
+     */
+    public static final int DEFAULT_BLOCK_SIZE = 128;
+
+    /**
+     * Encodes the provided range of sorted values into the provided buffer using the
+     * {@link DeltaSequence#DEFAULT_BLOCK_SIZE}.
+     *
+     * @param values the sorted values
+     * @param offset the offset of the first value
+     * @param length the value count
+     * @param target the target buffer
+     */
+    public static void encode(final long[] values, final int offset, final int length, final ByteBuffer target) {
+
+        encode(values, offset, length, DEFAULT_BLOCK_SIZE, target);
+
+    }
+
+    /**
+     * Encodes the provided range of sorted values into the provided buffer using the provided block size.
+     *
+     * @param values    the sorted values
+     * @param offset    the offset of the first value
+     * @param length    the value count
+     * @param blockSize the count of values per block
+     * @param target    the target buffer
+     */
+    public static void encode(final long[] values, final int offset, final int length, final int blockSize, final ByteBuffer target) {
+
+        Preconditions.checkArgument(offset >= 0 && length >= 0 && offset <= values.length - length, "The provided range (offset: {}, length: {}) is out of bounds for the array (length: {}).", offset, length, values.length);
+        Preconditions.checkArgument(blockSize > 0, "The block size ({}) has to be positive.", blockSize);
+        final int blockCount = (int) (((long) length + blockSize - 1) / blockSize);
+        final int[] blockOffsets = new int[blockCount];
+        final ByteBuffer data = ByteBuffer.auto();
+        for (int block = 0; block < blockCount; block++) {
+            final int start = offset + block * blockSize;
+            final int end = Math.min(start + blockSize, offset + length);
+            Preconditions.checkArgument(block == 0 || values[start] >= values[start - 1], "The provided values are not sorted (index: {}).", start);
+            blockOffsets[block] = data.getSize();
+            encodeBlock(values, start, end, data);
+        }
+
+        target.putVarInt(length);
+        target.putVarInt(blockSize);
+        target.putVarInt(data.getSize());
+        for (int block = 0; block < blockCount; block++) {
+            target.putSignedVarLong(values[offset + block * blockSize]);
+            target.putVarInt(blockOffsets[block]);
+        }
+        final byte[] buffer = target.ensureWritable(data.getSize());
+        System.arraycopy(data.array(), 0, buffer, target.getSize(), data.getSize());
+        target.setSize(target.getSize() + data.getSize());
+
+    }
+
+    /**
+     * Opens a cursor over the sequence at the current offset of the provided reader and advances the reader past the
+     * whole sequence. Only the skip index is read eagerly, blocks are decoded on demand from the shared byte array.
+     *
+     * @param source the source reader
+     * @return the cursor
+     */
+    public static Cursor open(final ByteReader source) {
+
+        Preconditions.checkNotNull(source);
+        final int count = source.readVarInt();
+        final int blockSize = source.readVarInt();
+        final int dataLength = source.readVarInt();
+        Preconditions.checkState(count >= 0 && blockSize > 0 && dataLength >= 0, "Invalid input: malformed delta sequence header.");
+        final int blockCount = (int) (((long) count + blockSize - 1) / blockSize);
+        final long[] firstValues = new long[blockCount];
+        final int[] blockOffsets = new int[blockCount];
+        for (int block = 0; block < blockCount; block++) {
+            firstValues[block] = source.readSignedVarLong();
+            blockOffsets[block] = source.readVarInt();
+        }
+
+        return new Cursor(source.readSlice(dataLength), count, blockSize, firstValues, blockOffsets);
+
+    }
+
+    private static void encodeBlock(final long[] values, final int start, final int end, final ByteBuffer data) {
+
+        long reference = -1;
+        long maximum = 0;
+        for (int i = start + 1; i < end; i++) {
+            Preconditions.checkArgument(values[i] >= values[i - 1], "The provided values are not sorted (index: {}).", i);
+            final long delta = values[i] - values[i - 1];
+            if (Long.compareUnsigned(delta, reference) < 0)
+                reference = delta;
+            if (Long.compareUnsigned(delta, maximum) > 0)
+                maximum = delta;
+        }
+        if (end - start < 2)
+            reference = 0;
+
+        final int bitWidth = Long.SIZE - Long.numberOfLeadingZeros(maximum - reference);
+        data.putVarLong(reference);
+        data.put((byte) bitWidth);
+        int current = 0;
+        int bitPosition = 0;
+        for (int i = start + 1; i < end; i++) {
+            long value = values[i] - values[i - 1] - reference;
+            int remaining = bitWidth;
+            while (remaining > 0) {
+                final int take = Math.min(Byte.SIZE - bitPosition, remaining);
+                current |= (int) (value & ((1 << take) - 1)) << bitPosition;
+                value >>>= take;
+                remaining -= take;
+                bitPosition += take;
+                if (bitPosition == Byte.SIZE) {
+                    data.put((byte) current);
+                    current = 0;
+                    bitPosition = 0;
+                }
+            }
+        }
+        if (bitPosition > 0)
+            data.put((byte) current);
+
+    }
+
+    private DeltaSequence() {
+
+        throw new UnsupportedOperationException();
+
+    }
+
+    /**
+     * Forward-only cursor over an encoded delta sequence created using {@link DeltaSequence#open(ByteReader)}. Values
+     * are decoded one block at a time into a reused buffer.
+     */
+    public static final class Cursor {
+
+        private final ByteReader data;
+        private final int count;
+        private final int blockSize;
+        private final long[] firstValues;
+        private final int[] blockOffsets;
+        private final long[] blockValues;
+        private int currentBlock = -1;
+        private int position = 0;
+
+        private Cursor(final ByteReader data,
+                       final int count,
+                       final int blockSize,
+                       final long[] firstValues,
+                       final int[] blockOffsets) {
+
+            this.data = data;
+            this.count = count;
+            this.blockSize = blockSize;
+            this.firstValues = firstValues;
+            this.blockOffsets = blockOffsets;
+            this.blockValues = new long[Math.min(blockSize, count)];
+
+        }
+
+        /**
+         * Checks if the cursor has more values.
+         *
+         * @return <code>true</code> if more values are available, <code>false</code> otherwise
+         */
+        public boolean hasNext() {
+
+            return this.position < this.count;
+
+        }
+
+        /**
+         * Returns the next value without advancing the cursor.
+         *
+         * @return the next value
+         * @throws NoSuchElementException if the cursor has no more values
+         */
+        public long peek() {
+
+            if (!this.hasNext())
+                throw new NoSuchElementException();
+
+            return this.load(this.position);
+
+        }
+
+        /**
+         * Returns the next value and advances the cursor.
+         *
+         * @return the next value
+         * @throws NoSuchElementException if the cursor has no more values
+         */
+        public long next() {
+
+            final long value = this.peek();
+            this.position++;
+
+            return value;
+
+        }
+
+        /**
+         * Advances the cursor to the first value that is greater than or equal to the provided target. Blocks that
+         * cannot contain the target are skipped using the skip index without being decoded.
+         *
+         * @param target the target value
+         * @return <code>true</code> if such a value exists and is returned by the following {@link Cursor#next()}
+         * call, <code>false</code> if the cursor is exhausted
+         */
+        public boolean advanceTo(final long target) {
+
+            if (!this.hasNext() || this.load(this.position) >= target)
+                return this.hasNext();
+
+            int low = this.position / this.blockSize;
+            int high = this.firstValues.length - 1;
+            while (low < high) {
+                final int middle = (low + high + 1) >>> 1;
+                if (this.firstValues[middle] < target) {
+                    low = middle;
+                } else {
+                    high = middle - 1;
+                }
+            }
+            this.position = Math.max(this.position, low * this.blockSize);
+            while (this.hasNext() && this.load(this.position) < target)
+                this.position++;
+
+            return this.hasNext();
+
+        }
+
+        /**
+         * Returns the index of the next value.
+         *
+         * @return the index
+         */
+        public int getPosition() {
+
+            return this.position;
+
+        }
+
+        /**
+         * Returns the total count of values.
+         *
+         * @return the count
+         */
+        public int getCount() {
+
+            return this.count;
+
+        }
+
+        private long load(final int position) {
+
+            final int block = position / this.blockSize;
+            if (block != this.currentBlock)
+                this.decodeBlock(block);
+
+            return this.blockValues[position - block * this.blockSize];
+
+        }
+
+        private void decodeBlock(final int block) {
+
+            final int length = Math.min(this.blockSize, this.count - block * this.blockSize);
+            this.data.jump(this.blockOffsets[block]);
+            final long reference = this.data.readVarLong();
+            final int bitWidth = this.data.readByte() & 0xFF;
+            Preconditions.checkState(bitWidth <= Long.SIZE, "Invalid input: bit width {} exceeds the size of a long.", bitWidth);
+            final int packedLength = (int) (((long) (length - 1) * bitWidth + Byte.SIZE - 1) / Byte.SIZE);
+            final byte[] bytes = this.data.array();
+            int index = this.data.index(0, packedLength);
+            int bitPosition = 0;
+            long previous = this.firstValues[block];
+            this.blockValues[0] = previous;
+            for (int i = 1; i < length; i++) {
+                long value = 0;
+                int read = 0;
+                while (read < bitWidth) {
+                    final int take = Math.min(Byte.SIZE - bitPosition, bitWidth - read);
+                    value |= (long) ((bytes[index] >>> bitPosition) & ((1 << take) - 1)) << read;
+                    read += take;
+                    bitPosition += take;
+                    if (bitPosition == Byte.SIZE) {
+                        index++;
+                        bitPosition = 0;
+                    }
+                }
+                previous += reference + value;
+                this.blockValues[i] = previous;
+            }
+            this.currentBlock = block;
+
+        }
+
+    }
+
+}
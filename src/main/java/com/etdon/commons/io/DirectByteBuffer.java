@@ -0,0 +1,333 @@
+package com.etdon.commons.io;
+
+import com.etdon.commons.conditional.Preconditions;
+import org.jetbrains.annotations.NotNullByDefault;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.Buffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Off-heap counterpart of {@link ByteBuffer} backed by a direct {@link java.nio.ByteBuffer}. It shares the put
+ * methods, reservations, sinks and growth policy of {@link AbstractByteBuffer}, the written bytes can be handed to
+ * channels using {@link DirectByteBuffer#writeTo(WritableByteChannel)} and
+ * {@link DirectByteBuffer#writeTo(FileChannel, long)} without being copied to or from the heap.
+ */
+@NotNullByDefault
+public class DirectByteBuffer extends AbstractByteBuffer {
+
+    private java.nio.ByteBuffer buffer;
+    /**
+     * Scratch array used to encode variable length values before copying them into the direct buffer.
+     */
+    private final byte[] scratch = new byte[VariableLength.sizeUnsigned(-1L)];
+
+    /**
+     * Initialize using {@link DirectByteBuffer#auto()} or {@link DirectByteBuffer#size(int)}.
+     *
+     * @param initialSize the initial size.
+     */
+    private DirectByteBuffer(final int initialSize) {
+
+        super(null, Integer.MAX_VALUE);
+        this.buffer = allocate(initialSize, this.byteOrder);
+
+    }
+
+    /**
+     * Initialize using {@link DirectByteBuffer#sink(OutputStream, int)} or
+     * {@link DirectByteBuffer#sink(WritableByteChannel, int)}.
+     *
+     * @param sink      the sink
+     * @param threshold the flush threshold
+     */
+    private DirectByteBuffer(final Sink sink, final int threshold) {
+
+        super(sink, threshold);
+        this.buffer = allocate(threshold, this.byteOrder);
+
+    }
+
+    /**
+     * Writes all bytes written to the buffer to the provided channel, starting at its current position.
+     *
+     * @param channel the target channel
+     * @throws IOException if the channel fails to write
+     */
+    public void writeTo(final WritableByteChannel channel) throws IOException {
+
+        Preconditions.checkNotNull(channel);
+        final java.nio.ByteBuffer source = this.written();
+        while (source.hasRemaining())
+            channel.write(source);
+
+    }
+
+    /**
+     * Writes all bytes written to the buffer to the provided file channel starting at the provided file position. The
+     * position of the channel is not modified.
+     *
+     * @param channel  the target file channel
+     * @param position the file position
+     * @throws IOException if the channel fails to write
+     */
+    public void writeTo(final FileChannel channel, final long position) throws IOException {
+
+        Preconditions.checkNotNull(channel);
+        Preconditions.checkArgument(position >= 0, "The provided position ({}) cannot be negative.", position);
+        final java.nio.ByteBuffer source = this.written();
+        while (source.hasRemaining())
+            channel.write(source, position + source.position());
+
+    }
+
+    /**
+     * Exports the byte buffer to an accurately sized heap byte array.
+     *
+     * @return the byte array
+     */
+    public byte[] get() {
+
+        final byte[] bytes = new byte[this.size];
+        this.written().get(bytes);
+
+        return bytes;
+
+    }
+
+    /**
+     * Returns the capacity of the direct buffer, i.e. the count of bytes that can be written before resizing.
+     *
+     * @return the capacity
+     */
+    @Override
+    public int getCapacity() {
+
+        return this.buffer.capacity();
+
+    }
+
+    @Override
+    public void setByteOrder(final ByteOrder byteOrder) {
+
+        super.setByteOrder(byteOrder);
+        this.buffer.order(toNative(byteOrder));
+
+    }
+
+    /**
+     * Returns a read-only view of the written bytes with its position set to <code>0</code> and its limit set to the
+     * size.
+     *
+     * @return the view
+     */
+    private java.nio.ByteBuffer written() {
+
+        final java.nio.ByteBuffer view = this.buffer.asReadOnlyBuffer();
+        ((Buffer) view).limit(this.size).position(0);
+        return view;
+
+    }
+
+    @Override
+    void grow(final int capacity) {
+
+        final java.nio.ByteBuffer resizedBuffer = allocate(capacity, this.byteOrder);
+        resizedBuffer.put(this.written());
+        this.buffer = resizedBuffer;
+
+    }
+
+    @Override
+    void store(final int index, final byte value) {
+
+        this.buffer.put(index, value);
+
+    }
+
+    @Override
+    void store(final int index, final byte[] bytes, final int offset, final int length) {
+
+        ((Buffer) this.buffer).position(index);
+        this.buffer.put(bytes, offset, length);
+
+    }
+
+    @Override
+    void storeShort(final int index, final short value) {
+
+        this.buffer.putShort(index, value);
+
+    }
+
+    @Override
+    void storeInt(final int index, final int value) {
+
+        this.buffer.putInt(index, value);
+
+    }
+
+    @Override
+    void storeLong(final int index, final long value) {
+
+        this.buffer.putLong(index, value);
+
+    }
+
+    @Override
+    int storeUnsigned(final int index, final long value) {
+
+        final int length = VariableLength.writeUnsigned(this.scratch, 0, value);
+        this.store(index, this.scratch, 0, length);
+        return index + length;
+
+    }
+
+    @Override
+    int storeSigned(final int index, final long value) {
+
+        final int length = VariableLength.writeSigned(this.scratch, 0, value);
+        this.store(index, this.scratch, 0, length);
+        return index + length;
+
+    }
+
+    @Override
+    int storeUtf8(final int index, final CharSequence value, final int length) {
+
+        return Utf8.encode(value, this.buffer, index);
+
+    }
+
+    /**
+     * Copies forward in long sized steps, which is safe for the overlapping ranges of a compaction since the target
+     * never lies behind the source.
+     */
+    @Override
+    void move(final int from, final int to, final int length) {
+
+        int offset = 0;
+        for (; offset <= length - Long.BYTES; offset += Long.BYTES)
+            this.buffer.putLong(to + offset, this.buffer.getLong(from + offset));
+        for (; offset < length; offset++)
+            this.buffer.put(to + offset, this.buffer.get(from + offset));
+
+    }
+
+    @Override
+    void clear(final int index, final int count) {
+
+        for (int i = index; i < index + count; i++)
+            this.buffer.put(i, (byte) 0);
+
+    }
+
+    @Override
+    void drainTo(final Sink sink) throws IOException {
+
+        sink.write(this.written());
+
+    }
+
+    private static java.nio.ByteBuffer allocate(final int capacity, final ByteOrder byteOrder) {
+
+        return java.nio.ByteBuffer.allocateDirect(capacity).order(toNative(byteOrder));
+
+    }
+
+    private static java.nio.ByteOrder toNative(final ByteOrder byteOrder) {
+
+        return byteOrder == ByteOrder.LITTLE_ENDIAN ? java.nio.ByteOrder.LITTLE_ENDIAN : java.nio.ByteOrder.BIG_ENDIAN;
+
+    }
+
+    /**
+     * Creates a new direct byte buffer with the default initial size of 64.
+     *
+     * @return the direct byte buffer
+     */
+    public static DirectByteBuffer auto() {
+
+        return new DirectByteBuffer(64);
+
+    }
+
+    /**
+     * Creates a new direct byte buffer with the provided initial size.
+     *
+     * @param initialSize the initial size
+     * @return the direct byte buffer
+     */
+    public static DirectByteBuffer size(final int initialSize) {
+
+        Preconditions.checkState(initialSize >= 0, "The size of a byte buffer cannot be negative.");
+        return new DirectByteBuffer(initialSize);
+
+    }
+
+    /**
+     * Creates a new direct byte buffer that flushes to the provided output stream using the default threshold of
+     * <code>8192</code> bytes.
+     *
+     * @param outputStream the target output stream
+     * @return the direct byte buffer
+     * @see DirectByteBuffer#sink(OutputStream, int)
+     */
+    public static DirectByteBuffer sink(final OutputStream outputStream) {
+
+        return sink(outputStream, DEFAULT_SINK_THRESHOLD);
+
+    }
+
+    /**
+     * Creates a new direct byte buffer that writes its content to the provided output stream once adding more bytes
+     * would exceed the provided threshold. The bytes are copied to the stream through a reused heap chunk, the output
+     * stream isn't closed by the buffer and {@link DirectByteBuffer#flush()} has to be called once all bytes have been
+     * put.
+     *
+     * @param outputStream the target output stream
+     * @param threshold    the flush threshold
+     * @return the direct byte buffer
+     */
+    public static DirectByteBuffer sink(final OutputStream outputStream, final int threshold) {
+
+        Preconditions.checkNotNull(outputStream);
+        Preconditions.checkArgument(threshold > 0, "The flush threshold ({}) has to be positive.", threshold);
+        return new DirectByteBuffer(new StreamSink(outputStream), threshold);
+
+    }
+
+    /**
+     * Creates a new direct byte buffer that flushes to the provided channel using the default threshold of
+     * <code>8192</code> bytes.
+     *
+     * @param channel the target channel
+     * @return the direct byte buffer
+     * @see DirectByteBuffer#sink(WritableByteChannel, int)
+     */
+    public static DirectByteBuffer sink(final WritableByteChannel channel) {
+
+        return sink(channel, DEFAULT_SINK_THRESHOLD);
+
+    }
+
+    /**
+     * Creates a new direct byte buffer that writes its content to the provided channel once adding more bytes would
+     * exceed the provided threshold without copying it to the heap. The channel isn't closed by the buffer,
+     * {@link DirectByteBuffer#flush()} has to be called once all bytes have been put.
+     *
+     * @param channel   the target channel
+     * @param threshold the flush threshold
+     * @return the direct byte buffer
+     */
+    public static DirectByteBuffer sink(final WritableByteChannel channel, final int threshold) {
+
+        Preconditions.checkNotNull(channel);
+        Preconditions.checkArgument(threshold > 0, "The flush threshold ({}) has to be positive.", threshold);
+        return new DirectByteBuffer(new ChannelSink(channel), threshold);
+
+    }
+
+}
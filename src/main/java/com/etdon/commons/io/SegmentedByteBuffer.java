@@ -0,0 +1,576 @@
+package com.etdon.commons.io;
+
+import com.etdon.commons.conditional.Preconditions;
+import org.jetbrains.annotations.NotNullByDefault;
+
+import java.io.IOException;
+import java.nio.channels.GatheringByteChannel;
+import java.util.Arrays;
+
+/**
+ * Byte buffer implementation that grows by appending fixed-size chunks instead of resizing and copying a single byte
+ * array. Written bytes are never moved which keeps the peak memory of large payloads close to their actual size. Put
+ * methods exist for all primitive types, values that straddle the boundary of two chunks are split byte by byte.
+ * <p>
+ * The chunks can be handed to a {@link GatheringByteChannel} using
+ * {@link SegmentedByteBuffer#writeTo(GatheringByteChannel)} or read using a {@link SegmentedByteReader} created by
+ * {@link SegmentedByteBuffer#toByteReader()}, both without copying.
+ */
+@NotNullByDefault
+public class SegmentedByteBuffer {
+
+    /**
+     * The default chunk size expressed as a shift (<code>64 KB</code>).
+     */
+    static final int DEFAULT_CHUNK_SHIFT = 16;
+
+    private ByteOrder byteOrder = ByteOrder.LITTLE_ENDIAN;
+    private final int chunkShift;
+    private final int chunkSize;
+    private final int chunkMask;
+    private byte[][] chunks = new byte[8][];
+    private int chunkCount = 0;
+    private long size = 0;
+    /**
+     * Scratch array used to encode values that straddle a chunk boundary.
+     */
+    private final byte[] scratch = new byte[VariableLength.sizeUnsigned(-1L)];
+
+    /**
+     * Initialize using {@link SegmentedByteBuffer#auto()} or {@link SegmentedByteBuffer#chunkSize(int)}.
+     *
+     * @param chunkShift the chunk size expressed as a shift
+     */
+    private SegmentedByteBuffer(final int chunkShift) {
+
+        this.chunkShift = chunkShift;
+        this.chunkSize = 1 << chunkShift;
+        this.chunkMask = this.chunkSize - 1;
+
+    }
+
+    /**
+     * Puts the provided <code>byte</code> value into the buffer appending a chunk if necessary.
+     *
+     * @param value the <code>byte</code> value
+     */
+    public void put(final byte value) {
+
+        this.chunk()[(int) this.size & this.chunkMask] = value;
+        this.size++;
+
+    }
+
+    /**
+     * Puts the provided <code>byte</code> values into the buffer appending chunks if necessary. The order in which the
+     * bytes are added depends on the current {@link SegmentedByteBuffer#byteOrder} of the {@link SegmentedByteBuffer}.
+     *
+     * @param values the <code>byte</code> values
+     * @see ByteBuffer#put(byte...)
+     */
+    public void put(final byte... values) {
+
+        if (this.byteOrder == ByteOrder.LITTLE_ENDIAN) {
+            this.putRaw(values, 0, values.length);
+        } else {
+            for (int i = values.length - 1; i >= 0; i--)
+                this.put(values[i]);
+        }
+
+    }
+
+    /**
+     * Puts the provided <code>boolean</code> value into the buffer by adding a byte with the value <code>1</code> if
+     * the boolean is <code>true</code> or <code>0</code> if it's <code>false</code>.
+     *
+     * @param value the <code>boolean</code> value
+     */
+    public void put(final boolean value) {
+
+        this.put((byte) (value ? 1 : 0));
+
+    }
+
+    /**
+     * Puts the provided <code>char</code> value into the buffer by casting it to a byte.
+     *
+     * @param value the <code>char</code> value
+     */
+    public void put(final char value) {
+
+        this.put((byte) value);
+
+    }
+
+    /**
+     * Puts the provided <code>short</code> value into the buffer in the current {@link SegmentedByteBuffer#byteOrder}.
+     *
+     * @param value the <code>short</code> value
+     */
+    public void put(final short value) {
+
+        final int index = (int) this.size & this.chunkMask;
+        if (index <= this.chunkSize - Short.BYTES) {
+            ByteAccess.putShort(this.chunk(), index, value, this.byteOrder);
+            this.size += Short.BYTES;
+        } else {
+            ByteAccess.putShort(this.scratch, 0, value, this.byteOrder);
+            this.putRaw(this.scratch, 0, Short.BYTES);
+        }
+
+    }
+
+    /**
+     * Puts the provided <code>int</code> value into the buffer in the current {@link SegmentedByteBuffer#byteOrder}.
+     *
+     * @param value the <code>int</code> value
+     */
+    public void put(final int value) {
+
+        final int index = (int) this.size & this.chunkMask;
+        if (index <= this.chunkSize - Integer.BYTES) {
+            ByteAccess.putInt(this.chunk(), index, value, this.byteOrder);
+            this.size += Integer.BYTES;
+        } else {
+            ByteAccess.putInt(this.scratch, 0, value, this.byteOrder);
+            this.putRaw(this.scratch, 0, Integer.BYTES);
+        }
+
+    }
+
+    /**
+     * Puts the provided <code>float</code> value into the buffer in the current {@link SegmentedByteBuffer#byteOrder}.
+     *
+     * @param value the <code>float</code> value
+     */
+    public void put(final float value) {
+
+        this.put(Float.floatToIntBits(value));
+
+    }
+
+    /**
+     * Puts the provided <code>long</code> value into the buffer in the current {@link SegmentedByteBuffer#byteOrder}.
+     *
+     * @param value the <code>long</code> value
+     */
+    public void put(final long value) {
+
+        final int index = (int) this.size & this.chunkMask;
+        if (index <= this.chunkSize - Long.BYTES) {
+            ByteAccess.putLong(this.chunk(), index, value, this.byteOrder);
+            this.size += Long.BYTES;
+        } else {
+            ByteAccess.putLong(this.scratch, 0, value, this.byteOrder);
+            this.putRaw(this.scratch, 0, Long.BYTES);
+        }
+
+    }
+
+    /**
+     * Puts the provided <code>double</code> value into the buffer in the current {@link SegmentedByteBuffer#byteOrder}.
+     *
+     * @param value the <code>double</code> value
+     */
+    public void put(final double value) {
+
+        this.put(Double.doubleToLongBits(value));
+
+    }
+
+    /**
+     * Puts the provided unsigned <code>long</code> value into the buffer using the LEB128 variable length encoding.
+     *
+     * @param value the unsigned <code>long</code> value
+     * @see VariableLength#writeUnsigned(long)
+     */
+    public void putVarLong(final long value) {
+
+        this.putRaw(this.scratch, 0, VariableLength.writeUnsigned(this.scratch, 0, value));
+
+    }
+
+    /**
+     * Puts the provided <code>int</code> value interpreted as unsigned into the buffer using the LEB128 variable length
+     * encoding.
+     *
+     * @param value the unsigned <code>int</code> value
+     * @see VariableLength#writeUnsigned(long)
+     */
+    public void putVarInt(final int value) {
+
+        this.putVarLong(value & 0xFFFFFFFFL);
+
+    }
+
+    /**
+     * Puts the provided signed <code>long</code> value into the buffer using the signed LEB128 variable length
+     * encoding.
+     *
+     * @param value the signed <code>long</code> value
+     * @see VariableLength#writeSigned(long)
+     */
+    public void putSignedVarLong(final long value) {
+
+        this.putRaw(this.scratch, 0, VariableLength.writeSigned(this.scratch, 0, value));
+
+    }
+
+    /**
+     * Puts the provided signed <code>int</code> value into the buffer using the signed LEB128 variable length
+     * encoding.
+     *
+     * @param value the signed <code>int</code> value
+     * @see VariableLength#writeSigned(long)
+     */
+    public void putSignedVarInt(final int value) {
+
+        this.putSignedVarLong(value);
+
+    }
+
+    /**
+     * Puts the provided <code>short</code> values into the buffer in the current {@link SegmentedByteBuffer#byteOrder}.
+     *
+     * @param values the <code>short</code> values
+     * @see SegmentedByteBuffer#put(short[], int, int)
+     */
+    public void put(final short[] values) {
+
+        this.put(values, 0, values.length);
+
+    }
+
+    /**
+     * Puts the provided range of <code>short</code> values into the buffer in the current
+     * {@link SegmentedByteBuffer#byteOrder}.
+     *
+     * @param values the <code>short</code> values
+     * @param offset the offset of the first value
+     * @param length the value count
+     */
+    public void put(final short[] values, final int offset, final int length) {
+
+        checkRange(values.length, offset, length);
+        for (int i = offset; i < offset + length; i++)
+            this.put(values[i]);
+
+    }
+
+    /**
+     * Puts the provided <code>int</code> values into the buffer in the current {@link SegmentedByteBuffer#byteOrder}.
+     *
+     * @param values the <code>int</code> values
+     * @see SegmentedByteBuffer#put(int[], int, int)
+     */
+    public void put(final int[] values) {
+
+        this.put(values, 0, values.length);
+
+    }
+
+    /**
+     * Puts the provided range of <code>int</code> values into the buffer in the current
+     * {@link SegmentedByteBuffer#byteOrder}.
+     *
+     * @param values the <code>int</code> values
+     * @param offset the offset of the first value
+     * @param length the value count
+     */
+    public void put(final int[] values, final int offset, final int length) {
+
+        checkRange(values.length, offset, length);
+        for (int i = offset; i < offset + length; i++)
+            this.put(values[i]);
+
+    }
+
+    /**
+     * Puts the provided <code>long</code> values into the buffer in the current {@link SegmentedByteBuffer#byteOrder}.
+     *
+     * @param values the <code>long</code> values
+     * @see SegmentedByteBuffer#put(long[], int, int)
+     */
+    public void put(final long[] values) {
+
+        this.put(values, 0, values.length);
+
+    }
+
+    /**
+     * Puts the provided range of <code>long</code> values into the buffer in the current
+     * {@link SegmentedByteBuffer#byteOrder}.
+     *
+     * @param values the <code>long</code> values
+     * @param offset the offset of the first value
+     * @param length the value count
+     */
+    public void put(final long[] values, final int offset, final int length) {
+
+        checkRange(values.length, offset, length);
+        for (int i = offset; i < offset + length; i++)
+            this.put(values[i]);
+
+    }
+
+    /**
+     * Puts the provided <code>float</code> values into the buffer in the current {@link SegmentedByteBuffer#byteOrder}.
+     *
+     * @param values the <code>float</code> values
+     * @see SegmentedByteBuffer#put(float[], int, int)
+     */
+    public void put(final float[] values) {
+
+        this.put(values, 0, values.length);
+
+    }
+
+    /**
+     * Puts the provided range of <code>float</code> values into the buffer in the current
+     * {@link SegmentedByteBuffer#byteOrder}.
+     *
+     * @param values the <code>float</code> values
+     * @param offset the offset of the first value
+     * @param length the value count
+     */
+    public void put(final float[] values, final int offset, final int length) {
+
+        checkRange(values.length, offset, length);
+        for (int i = offset; i < offset + length; i++)
+            this.put(values[i]);
+
+    }
+
+    /**
+     * Puts the provided <code>double</code> values into the buffer in the current
+     * {@link SegmentedByteBuffer#byteOrder}.
+     *
+     * @param values the <code>double</code> values
+     * @see SegmentedByteBuffer#put(double[], int, int)
+     */
+    public void put(final double[] values) {
+
+        this.put(values, 0, values.length);
+
+    }
+
+    /**
+     * Puts the provided range of <code>double</code> values into the buffer in the current
+     * {@link SegmentedByteBuffer#byteOrder}.
+     *
+     * @param values the <code>double</code> values
+     * @param offset the offset of the first value
+     * @param length the value count
+     */
+    public void put(final double[] values, final int offset, final int length) {
+
+        checkRange(values.length, offset, length);
+        for (int i = offset; i < offset + length; i++)
+            this.put(values[i]);
+
+    }
+
+    /**
+     * Writes all bytes written to the buffer to the provided channel using gathering writes over the chunks.
+     *
+     * @param channel the target channel
+     * @throws IOException if the channel fails to write
+     */
+    public void writeTo(final GatheringByteChannel channel) throws IOException {
+
+        Preconditions.checkNotNull(channel);
+        final java.nio.ByteBuffer[] buffers = this.asNioBuffers();
+        int first = 0;
+        while (first < buffers.length) {
+            channel.write(buffers, first, buffers.length - first);
+            while (first < buffers.length && !buffers[first].hasRemaining())
+                first++;
+        }
+
+    }
+
+    /**
+     * Returns read-only {@link java.nio.ByteBuffer} views of the chunks that contain written bytes. The limit of the
+     * last view is set to the count of bytes written to its chunk.
+     *
+     * @return the chunk views
+     */
+    public java.nio.ByteBuffer[] asNioBuffers() {
+
+        final int count = (int) ((this.size + this.chunkMask) >>> this.chunkShift);
+        final java.nio.ByteBuffer[] buffers = new java.nio.ByteBuffer[count];
+        for (int i = 0; i < count; i++) {
+            final int length = (int) Math.min(this.chunkSize, this.size - ((long) i << this.chunkShift));
+            buffers[i] = java.nio.ByteBuffer.wrap(this.chunks[i], 0, length).asReadOnlyBuffer();
+        }
+
+        return buffers;
+
+    }
+
+    /**
+     * Creates a {@link SegmentedByteReader} over the bytes written so far using the current
+     * {@link SegmentedByteBuffer#byteOrder}. The reader shares the chunks with the buffer, its length is fixed to the
+     * current size.
+     *
+     * @return the segmented byte reader
+     */
+    public SegmentedByteReader toByteReader() {
+
+        final int count = (int) ((this.size + this.chunkMask) >>> this.chunkShift);
+        final java.nio.ByteBuffer[] segments = new java.nio.ByteBuffer[count];
+        for (int i = 0; i < count; i++)
+            segments[i] = java.nio.ByteBuffer.wrap(this.chunks[i]).asReadOnlyBuffer();
+
+        return new SegmentedByteReader(this.byteOrder, segments, this.chunkShift, this.size);
+
+    }
+
+    /**
+     * Exports the byte buffer to an accurately sized byte array.
+     *
+     * @return the byte array
+     * @throws IllegalStateException if the size exceeds the maximum array size
+     */
+    public byte[] get() {
+
+        Preconditions.checkState(this.size <= Integer.MAX_VALUE, "The segmented byte buffer (size: {}) exceeds the maximum array size.", this.size);
+        final byte[] bytes = new byte[(int) this.size];
+        int copied = 0;
+        for (int i = 0; copied < bytes.length; i++) {
+            final int length = Math.min(this.chunkSize, bytes.length - copied);
+            System.arraycopy(this.chunks[i], 0, bytes, copied, length);
+            copied += length;
+        }
+
+        return bytes;
+
+    }
+
+    /**
+     * Discards all written bytes so that the buffer can be reused. Allocated chunks and the
+     * {@link SegmentedByteBuffer#byteOrder} are retained.
+     */
+    public void reset() {
+
+        this.size = 0;
+
+    }
+
+    /**
+     * Returns the count of bytes written to the buffer.
+     *
+     * @return the size
+     */
+    public long getSize() {
+
+        return this.size;
+
+    }
+
+    /**
+     * Returns the size of a single chunk.
+     *
+     * @return the chunk size
+     */
+    public int getChunkSize() {
+
+        return this.chunkSize;
+
+    }
+
+    /**
+     * Sets the {@link SegmentedByteBuffer#byteOrder} value to the provided {@link ByteOrder}.
+     *
+     * @param byteOrder the byte order
+     */
+    public void setByteOrder(final ByteOrder byteOrder) {
+
+        Preconditions.checkNotNull(byteOrder);
+        this.byteOrder = byteOrder;
+
+    }
+
+    /**
+     * Returns the current {@link SegmentedByteBuffer#byteOrder} value.
+     *
+     * @return the byte order
+     */
+    public ByteOrder getByteOrder() {
+
+        return this.byteOrder;
+
+    }
+
+    /**
+     * Returns the chunk containing the current size, appending a new chunk if the size is at the end of the last one.
+     *
+     * @return the chunk
+     */
+    private byte[] chunk() {
+
+        final int chunk = (int) (this.size >>> this.chunkShift);
+        if (chunk == this.chunkCount) {
+            if (this.chunkCount == this.chunks.length)
+                this.chunks = Arrays.copyOf(this.chunks, this.chunks.length * 2);
+            if (this.chunks[this.chunkCount] == null)
+                this.chunks[this.chunkCount] = new byte[this.chunkSize];
+            this.chunkCount++;
+        }
+
+        return this.chunks[chunk];
+
+    }
+
+    /**
+     * Copies the provided range of bytes in order to the end of the buffer, splitting it across chunks if necessary.
+     *
+     * @param bytes  the bytes
+     * @param offset the offset of the first byte
+     * @param length the byte count
+     */
+    private void putRaw(final byte[] bytes, final int offset, final int length) {
+
+        int copied = 0;
+        while (copied < length) {
+            final byte[] chunk = this.chunk();
+            final int index = (int) this.size & this.chunkMask;
+            final int count = Math.min(length - copied, this.chunkSize - index);
+            System.arraycopy(bytes, offset + copied, chunk, index, count);
+            copied += count;
+            this.size += count;
+        }
+
+    }
+
+    private static void checkRange(final int arrayLength, final int offset, final int length) {
+
+        Preconditions.checkArgument(offset >= 0 && length >= 0 && offset <= arrayLength - length, "The provided range (offset: {}, length: {}) is out of bounds for the source array (length: {}).", offset, length, arrayLength);
+
+    }
+
+    /**
+     * Creates a new segmented byte buffer with the default chunk size of <code>64 KB</code>.
+     *
+     * @return the segmented byte buffer
+     */
+    public static SegmentedByteBuffer auto() {
+
+        return new SegmentedByteBuffer(DEFAULT_CHUNK_SHIFT);
+
+    }
+
+    /**
+     * Creates a new segmented byte buffer with the provided chunk size.
+     *
+     * @param chunkSize the chunk size, has to be a power of two of at least <code>2</code>
+     * @return the segmented byte buffer
+     */
+    public static SegmentedByteBuffer chunkSize(final int chunkSize) {
+
+        Preconditions.checkArgument(chunkSize > 1 && Integer.bitCount(chunkSize) == 1, "The chunk size ({}) has to be a power of two of at least 2.", chunkSize);
+        return new SegmentedByteBuffer(Integer.numberOfTrailingZeros(chunkSize));
+
+    }
+
+}
@@ -0,0 +1,693 @@
+package com.etdon.commons.io;
+
+import com.etdon.commons.conditional.Preconditions;
+import org.jetbrains.annotations.NotNullByDefault;
+
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Byte reader implementation used to sequentially read primitive types from a sequence of equally sized
+ * {@link java.nio.ByteBuffer} segments in the endianness of choice. Offsets are tracked as <code>long</code> values
+ * which allows reading sources that exceed the <code>2 GB</code> limit of a byte array, most commonly memory-mapped
+ * files created using {@link SegmentedByteReader#map(Path)}. Read methods advance the internal offset while peek
+ * methods leave it untouched.
+ * <p>
+ * Values that straddle the boundary of two segments are assembled byte by byte, all other values are read straight
+ * from their segment.
+ */
+@NotNullByDefault
+public class SegmentedByteReader {
+
+    /**
+     * The default segment size used for memory-mapped files expressed as a shift (<code>1 GB</code>).
+     */
+    static final int DEFAULT_SEGMENT_SHIFT = 30;
+
+    private ByteOrder byteOrder = ByteOrder.LITTLE_ENDIAN;
+    private final java.nio.ByteBuffer[] segments;
+    private final int segmentShift;
+    private final long segmentMask;
+    private final long length;
+    private long offset = 0;
+
+    /**
+     * Creates a new segmented byte reader for the provided segments. All segments except for the last one need to
+     * have a capacity of exactly <code>1 &lt;&lt; segmentShift</code> bytes and are accessed using absolute indices.
+     *
+     * @param byteOrder    the byte order
+     * @param segments     the segments
+     * @param segmentShift the segment size expressed as a shift
+     * @param length       the total length
+     */
+    SegmentedByteReader(final ByteOrder byteOrder,
+                        final java.nio.ByteBuffer[] segments,
+                        final int segmentShift,
+                        final long length) {
+
+        Preconditions.checkNotNull(byteOrder);
+        Preconditions.checkNotNull(segments);
+        Preconditions.checkArgument(segmentShift > 0 && segmentShift < Integer.SIZE - 1, "The segment shift ({}) is out of range.", segmentShift);
+        this.byteOrder = byteOrder;
+        this.segments = segments;
+        this.segmentShift = segmentShift;
+        this.segmentMask = (1L << segmentShift) - 1;
+        this.length = length;
+        for (final java.nio.ByteBuffer segment : segments)
+            segment.order(java.nio.ByteOrder.BIG_ENDIAN);
+
+    }
+
+    /**
+     * Adds the provided count of bytes to the internal offset.
+     *
+     * @param count the byte count
+     */
+    public void skip(final long count) {
+
+        Preconditions.checkState(this.offset + count < this.length && this.offset + count >= 0, "The provided byte count ({}) added to the internal offset ({}) is too large for the segmented source (length: {})", count, this.offset, this.length);
+        this.offset += count;
+
+    }
+
+    /**
+     * Sets the internal offset to the provided offset.
+     *
+     * @param offset the offset
+     */
+    public void jump(final long offset) {
+
+        Preconditions.checkState(offset >= 0 && offset < this.length, "The provided offset ({}) is too large for the segmented source (length: {}).", offset, this.length);
+        this.offset = offset;
+
+    }
+
+    /**
+     * Creates a new auto-closeable explorer session that can be used to jump to a specific offset and automatically
+     * jump back to the previous offset once it's out of try-with scope or closed manually.
+     *
+     * @param offset the target offset
+     * @return the auto-closeable explorer session
+     */
+    public Explorer explore(final long offset) {
+
+        return Explorer.of(this, offset);
+
+    }
+
+    /**
+     * Creates a new auto-closeable explorer session that can be used to change the byte order and automatically jump
+     * back to the previous one once it's out of try-with scope or closed manually.
+     *
+     * @param byteOrder the target byte order
+     * @return the auto-closeable explorer session
+     */
+    public Explorer explore(final ByteOrder byteOrder) {
+
+        return Explorer.of(this, byteOrder);
+
+    }
+
+    /**
+     * Creates a new auto-closeable explorer session that can be used to jump to a specific offset as well as change
+     * the byte order and automatically jump back to the previous offset as well as change back the byte order once
+     * it's out of try-with scope or closed manually.
+     *
+     * @param byteOrder the target byte order
+     * @param offset    the target offset
+     * @return the auto-closeable explorer session
+     */
+    public Explorer explore(final ByteOrder byteOrder, final long offset) {
+
+        return Explorer.of(this, byteOrder, offset);
+
+    }
+
+    /**
+     * Reads the current byte before advancing the internal offset.
+     *
+     * @return the byte
+     */
+    public byte readByte() {
+
+        Preconditions.checkState(this.offset < this.length, "The byte reader has reached the end of the segmented source.");
+        return this.get(this.offset++);
+
+    }
+
+    /**
+     * Reads the current byte without advancing the internal offset.
+     *
+     * @return the byte
+     */
+    public byte peekByte() {
+
+        Preconditions.checkState(this.offset < this.length);
+        return this.get(this.offset);
+
+    }
+
+    /**
+     * Reads the byte at the provided offset and respectively advances the internal offset.
+     *
+     * @param offset the offset
+     * @return the byte
+     */
+    public byte readOffsetByte(final long offset) {
+
+        Preconditions.checkState(this.offset + offset < this.length);
+        return this.get(this.offset += offset);
+
+    }
+
+    /**
+     * Reads the byte at the provided offset without advancing the internal offset.
+     *
+     * @param offset the offset
+     * @return the byte
+     */
+    public byte peekOffsetByte(final long offset) {
+
+        Preconditions.checkState(this.offset + offset < this.length);
+        return this.get(this.offset + offset);
+
+    }
+
+    /**
+     * Reads the provided count of bytes from the segmented source before advancing the internal offset.
+     *
+     * @param count the byte count
+     * @return the bytes
+     */
+    public byte[] readBytes(final int count) {
+
+        final byte[] bytes = this.peekOffsetBytes(count, 0);
+        this.offset += count;
+
+        return bytes;
+
+    }
+
+    /**
+     * Reads the provided count of bytes from the segmented source without advancing the internal offset.
+     *
+     * @param count the byte count
+     * @return the bytes
+     */
+    public byte[] peekBytes(final int count) {
+
+        return this.peekOffsetBytes(count, 0);
+
+    }
+
+    /**
+     * Reads the provided count of bytes at the provided offset from the segmented source and respectively advances
+     * the internal offset.
+     *
+     * @param count  the byte count
+     * @param offset the offset
+     * @return the bytes
+     */
+    public byte[] readOffsetBytes(final int count, final long offset) {
+
+        final byte[] bytes = this.peekOffsetBytes(count, offset);
+        this.offset += offset + count;
+
+        return bytes;
+
+    }
+
+    /**
+     * Reads the provided count of bytes at the provided offset from the segmented source without advancing the
+     * internal offset.
+     *
+     * @param count  the byte count
+     * @param offset the offset
+     * @return the bytes
+     */
+    public byte[] peekOffsetBytes(final int count, final long offset) {
+
+        Preconditions.checkState(count >= 0 && this.offset + offset + count - 1 < this.length, "The byte reader has reached the end of the segmented source.");
+        final byte[] bytes = new byte[count];
+        long position = this.offset + offset;
+        int copied = 0;
+        while (copied < count) {
+            final java.nio.ByteBuffer segment = this.segments[(int) (position >>> this.segmentShift)].duplicate();
+            final int index = (int) (position & this.segmentMask);
+            final int chunk = Math.min(count - copied, segment.capacity() - index);
+            ((Buffer) segment).position(index);
+            segment.get(bytes, copied, chunk);
+            copied += chunk;
+            position += chunk;
+        }
+
+        return bytes;
+
+    }
+
+    /**
+     * Reads a boolean and advances the internal offset.
+     *
+     * @return the boolean
+     */
+    public boolean readBoolean() {
+
+        return this.readByte() == 0x01;
+
+    }
+
+    /**
+     * Reads a boolean without advancing the internal offset.
+     *
+     * @return the boolean
+     */
+    public boolean peekBoolean() {
+
+        return this.peekByte() == 0x01;
+
+    }
+
+    /**
+     * Reads a short and advances the internal offset.
+     *
+     * @return the short
+     */
+    public short readShort() {
+
+        final short value = this.peekOffsetShort(0);
+        this.offset += Short.BYTES;
+
+        return value;
+
+    }
+
+    /**
+     * Reads a short without advancing the internal offset.
+     *
+     * @return the short
+     */
+    public short peekShort() {
+
+        return this.peekOffsetShort(0);
+
+    }
+
+    /**
+     * Reads a short from the provided offset without advancing the internal offset.
+     *
+     * @param offset the offset
+     * @return the short
+     */
+    public short peekOffsetShort(final long offset) {
+
+        final long position = this.checkRange(offset, Short.BYTES);
+        final short value = this.fits(position, Short.BYTES)
+                ? this.segments[(int) (position >>> this.segmentShift)].getShort((int) (position & this.segmentMask))
+                : (short) this.assemble(position, Short.BYTES);
+
+        return this.byteOrder == ByteOrder.LITTLE_ENDIAN ? Short.reverseBytes(value) : value;
+
+    }
+
+    /**
+     * Reads an integer and advances the internal offset.
+     *
+     * @return the integer
+     */
+    public int readInteger() {
+
+        final int value = this.peekOffsetInteger(0);
+        this.offset += Integer.BYTES;
+
+        return value;
+
+    }
+
+    /**
+     * Reads an integer without advancing the internal offset.
+     *
+     * @return the integer
+     */
+    public int peekInteger() {
+
+        return this.peekOffsetInteger(0);
+
+    }
+
+    /**
+     * Reads an integer from the provided offset without advancing the internal offset.
+     *
+     * @param offset the offset
+     * @return the integer
+     */
+    public int peekOffsetInteger(final long offset) {
+
+        final long position = this.checkRange(offset, Integer.BYTES);
+        final int value = this.fits(position, Integer.BYTES)
+                ? this.segments[(int) (position >>> this.segmentShift)].getInt((int) (position & this.segmentMask))
+                : (int) this.assemble(position, Integer.BYTES);
+
+        return this.byteOrder == ByteOrder.LITTLE_ENDIAN ? Integer.reverseBytes(value) : value;
+
+    }
+
+    /**
+     * Reads a long and advances the internal offset.
+     *
+     * @return the long
+     */
+    public long readLong() {
+
+        final long value = this.peekOffsetLong(0);
+        this.offset += Long.BYTES;
+
+        return value;
+
+    }
+
+    /**
+     * Reads a long without advancing the internal offset.
+     *
+     * @return the long
+     */
+    public long peekLong() {
+
+        return this.peekOffsetLong(0);
+
+    }
+
+    /**
+     * Reads a long from the provided offset without advancing the internal offset.
+     *
+     * @param offset the offset
+     * @return the long
+     */
+    public long peekOffsetLong(final long offset) {
+
+        final long position = this.checkRange(offset, Long.BYTES);
+        final long value = this.fits(position, Long.BYTES)
+                ? this.segments[(int) (position >>> this.segmentShift)].getLong((int) (position & this.segmentMask))
+                : this.assemble(position, Long.BYTES);
+
+        return this.byteOrder == ByteOrder.LITTLE_ENDIAN ? Long.reverseBytes(value) : value;
+
+    }
+
+    /**
+     * Sets the byte order to the provided byte order.
+     *
+     * @param byteOrder the byte order
+     */
+    public void setByteOrder(final ByteOrder byteOrder) {
+
+        Preconditions.checkNotNull(byteOrder);
+        this.byteOrder = byteOrder;
+
+    }
+
+    /**
+     * Returns the current byte order.
+     *
+     * @return the byte order
+     */
+    public ByteOrder getByteOrder() {
+
+        return this.byteOrder;
+
+    }
+
+    /**
+     * Returns the internal offset.
+     *
+     * @return the internal offset
+     */
+    public long getOffset() {
+
+        return this.offset;
+
+    }
+
+    /**
+     * Returns the total length of the segmented source.
+     *
+     * @return the length
+     */
+    public long getLength() {
+
+        return this.length;
+
+    }
+
+    /**
+     * Validates that the provided count of bytes is available at the provided offset relative to the internal offset.
+     *
+     * @param offset the relative offset
+     * @param count  the byte count
+     * @return the absolute position
+     */
+    private long checkRange(final long offset, final int count) {
+
+        final long position = this.offset + offset;
+        Preconditions.checkState(position >= 0 && position + count <= this.length, "The byte reader has reached the end of the segmented source.");
+        return position;
+
+    }
+
+    /**
+     * Checks if the provided count of bytes at the provided absolute position is located in a single segment.
+     *
+     * @param position the absolute position
+     * @param count    the byte count
+     * @return <code>true</code> if the bytes are located in a single segment, <code>false</code> otherwise
+     */
+    private boolean fits(final long position, final int count) {
+
+        return (position & this.segmentMask) + count <= this.segmentMask + 1;
+
+    }
+
+    /**
+     * Reads the byte at the provided absolute position.
+     *
+     * @param position the absolute position
+     * @return the byte
+     */
+    private byte get(final long position) {
+
+        return this.segments[(int) (position >>> this.segmentShift)].get((int) (position & this.segmentMask));
+
+    }
+
+    /**
+     * Assembles the provided count of bytes at the provided absolute position into a big endian value. Used for
+     * values that straddle a segment boundary.
+     *
+     * @param position the absolute position
+     * @param count    the byte count
+     * @return the big endian value
+     */
+    private long assemble(final long position, final int count) {
+
+        long value = 0;
+        for (int i = 0; i < count; i++)
+            value = value << 8 | (this.get(position + i) & 0xFF);
+
+        return value;
+
+    }
+
+    /**
+     * Creates a new segmented byte reader for the provided file using {@link ByteOrder#LITTLE_ENDIAN}. The file is
+     * mapped into memory in read-only mode, the underlying channel is closed once all segments are mapped.
+     *
+     * @param path the file path
+     * @return the segmented byte reader
+     * @throws IOException if the file could not be opened or mapped
+     */
+    public static SegmentedByteReader map(final Path path) throws IOException {
+
+        return map(ByteOrder.LITTLE_ENDIAN, path);
+
+    }
+
+    /**
+     * Creates a new segmented byte reader for the provided file using the provided byte order. The file is mapped into
+     * memory in read-only mode, the underlying channel is closed once all segments are mapped.
+     *
+     * @param byteOrder the byte order
+     * @param path      the file path
+     * @return the segmented byte reader
+     * @throws IOException if the file could not be opened or mapped
+     */
+    public static SegmentedByteReader map(final ByteOrder byteOrder, final Path path) throws IOException {
+
+        Preconditions.checkNotNull(path);
+        try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return map(byteOrder, channel, 0, channel.size());
+        }
+
+    }
+
+    /**
+     * Creates a new segmented byte reader for the provided region of the provided channel using the provided byte
+     * order. The region is mapped into memory in read-only mode, the mapping stays valid once the channel is closed.
+     *
+     * @param byteOrder the byte order
+     * @param channel   the file channel
+     * @param position  the region position
+     * @param size      the region size
+     * @return the segmented byte reader
+     * @throws IOException if the region could not be mapped
+     */
+    public static SegmentedByteReader map(final ByteOrder byteOrder,
+                                          final FileChannel channel,
+                                          final long position,
+                                          final long size) throws IOException {
+
+        return map(byteOrder, channel, position, size, DEFAULT_SEGMENT_SHIFT);
+
+    }
+
+    /**
+     * Creates a new segmented byte reader for the provided region of the provided channel using the provided byte
+     * order and segment size.
+     *
+     * @param byteOrder    the byte order
+     * @param channel      the file channel
+     * @param position     the region position
+     * @param size         the region size
+     * @param segmentShift the segment size expressed as a shift
+     * @return the segmented byte reader
+     * @throws IOException if the region could not be mapped
+     */
+    static SegmentedByteReader map(final ByteOrder byteOrder,
+                                   final FileChannel channel,
+                                   final long position,
+                                   final long size,
+                                   final int segmentShift) throws IOException {
+
+        Preconditions.checkNotNull(byteOrder);
+        Preconditions.checkNotNull(channel);
+        Preconditions.checkArgument(position >= 0 && size >= 0, "The region position ({}) and size ({}) cannot be negative.", position, size);
+        final long segmentSize = 1L << segmentShift;
+        final java.nio.ByteBuffer[] segments = new java.nio.ByteBuffer[(int) ((size + segmentSize - 1) >>> segmentShift)];
+        for (int i = 0; i < segments.length; i++) {
+            final long segmentPosition = (long) i << segmentShift;
+            segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, position + segmentPosition, Math.min(segmentSize, size - segmentPosition));
+        }
+
+        return new SegmentedByteReader(byteOrder, segments, segmentShift, size);
+
+    }
+
+    /**
+     * Auto-closeable session that captures the byte order and offset of a segmented byte reader on creation and
+     * restores them once the session is closed, either manually or by leaving its try-with-resources scope. Created
+     * using the {@link SegmentedByteReader#explore(long)}, {@link SegmentedByteReader#explore(ByteOrder)} and
+     * {@link SegmentedByteReader#explore(ByteOrder, long)} methods.
+     */
+    public static class Explorer implements AutoCloseable {
+
+        private final SegmentedByteReader byteReader;
+        private final ByteOrder retreatByteOrder;
+        private final long retreatOffset;
+
+        private Explorer(final SegmentedByteReader byteReader,
+                         final ByteOrder retreatByteOrder,
+                         final long retreatOffset) {
+
+            this.byteReader = byteReader;
+            this.retreatByteOrder = retreatByteOrder;
+            this.retreatOffset = retreatOffset;
+
+        }
+
+        @Override
+        public void close() {
+
+            this.byteReader.setByteOrder(this.retreatByteOrder);
+            this.byteReader.jump(this.retreatOffset);
+
+        }
+
+        /**
+         * Returns the byte order that is restored once the session is closed.
+         *
+         * @return the retreat byte order
+         */
+        public ByteOrder getRetreatByteOrder() {
+
+            return this.retreatByteOrder;
+
+        }
+
+        /**
+         * Returns the offset that is restored once the session is closed.
+         *
+         * @return the retreat offset
+         */
+        public long getRetreatOffset() {
+
+            return this.retreatOffset;
+
+        }
+
+        /**
+         * Creates a new explorer session that jumps the provided byte reader to the provided offset, keeping its
+         * current byte order, and restores the previous offset once closed.
+         *
+         * @param byteReader   the byte reader
+         * @param targetOffset the target offset
+         * @return the explorer session
+         */
+        public static Explorer of(final SegmentedByteReader byteReader, final long targetOffset) {
+
+            return of(byteReader, byteReader.getByteOrder(), targetOffset);
+
+        }
+
+        /**
+         * Creates a new explorer session that sets the provided byte reader to the provided byte order, keeping its
+         * current offset, and restores the previous byte order once closed.
+         *
+         * @param byteReader      the byte reader
+         * @param targetByteOrder the target byte order
+         * @return the explorer session
+         */
+        public static Explorer of(final SegmentedByteReader byteReader, final ByteOrder targetByteOrder) {
+
+            return of(byteReader, targetByteOrder, byteReader.getOffset());
+
+        }
+
+        /**
+         * Creates a new explorer session that sets the provided byte reader to the provided byte order and jumps it to
+         * the provided offset, restoring the previous byte order and offset once closed.
+         *
+         * @param byteReader      the byte reader
+         * @param targetByteOrder the target byte order
+         * @param targetOffset    the target offset
+         * @return the explorer session
+         */
+        public static Explorer of(final SegmentedByteReader byteReader, final ByteOrder targetByteOrder, final long targetOffset) {
+
+            Preconditions.checkNotNull(byteReader);
+            Preconditions.checkNotNull(targetByteOrder);
+            final ByteOrder currentByteOrder = byteReader.getByteOrder();
+            if (currentByteOrder != targetByteOrder)
+                byteReader.setByteOrder(targetByteOrder);
+
+            final long currentOffset = byteReader.getOffset();
+            if (currentOffset != targetOffset)
+                byteReader.jump(targetOffset);
+
+            return new Explorer(byteReader, currentByteOrder, currentOffset);
+
+        }
+
+    }
+
+}
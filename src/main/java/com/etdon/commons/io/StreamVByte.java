@@ -0,0 +1,289 @@
+package com.etdon.commons.io;
+
+import com.etdon.commons.conditional.Preconditions;
+import org.jetbrains.annotations.NotNullByDefault;
+
+/**
+ * Provides bulk methods to encode and decode <code>int</code> and <code>long</code> arrays in the Stream VByte layout.
+ * In contrast to LEB128 the length of each value is not stored in continuation bits but in separate control bytes
+ * that precede the data bytes of the whole batch. Decoding therefore doesn't branch on every byte, data lengths are
+ * looked up per control byte and values are extracted using a single masked load.
+ * <p>
+ * <code>int</code> values use a 2 bit length code per value (four values per control byte), <code>long</code> values
+ * use a 4 bit length code per value (two values per control byte). Codes are stored starting at the least significant
+ * bits, data bytes are always stored in little endian order independent of the {@link ByteOrder} of the buffer or
+ * reader. The value count is not part of the layout and has to be known when decoding.
+ * <p>
+ * The signed variants map values using {@link VariableLength#encodeZigZag(long)} first so that negative values with a
+ * small magnitude remain short.
+ */
+@NotNullByDefault
+public final class StreamVByte {
+
+    /**
+     * The data byte count per <code>int</code> control byte.
+     */
+    private static final byte[] INT_LENGTHS = new byte[256];
+    /**
+     * The data byte count per <code>long</code> control byte.
+     */
+    private static final byte[] LONG_LENGTHS = new byte[256];
+    /**
+     * The masks extracting a value of the length encoded in an <code>int</code> length code from a 4 byte load.
+     */
+    private static final int[] INT_MASKS = {0xFF, 0xFFFF, 0xFFFFFF, 0xFFFFFFFF};
+    /**
+     * The masks extracting a value of the length encoded in a <code>long</code> length code from an 8 byte load.
+     */
+    private static final long[] LONG_MASKS = new long[Long.BYTES];
+
+    static {
+        for (int control = 0; control < 256; control++) {
+            INT_LENGTHS[control] = (byte) ((control & 3) + (control >>> 2 & 3) + (control >>> 4 & 3) + (control >>> 6 & 3) + 4);
+            LONG_LENGTHS[control] = (byte) ((control & 7) + (control >>> 4 & 7) + 2);
+        }
+        for (int code = 0; code < Long.BYTES; code++)
+            LONG_MASKS[code] = code == Long.BYTES - 1 ? -1L : (1L << ((code + 1) * Byte.SIZE)) - 1;
+    }
+
+    /**
+     * Encodes the provided range of unsigned <code>int</code> values into the provided buffer.
+     *
+     * @param values the values
+     * @param offset the offset of the first value
+     * @param length the value count
+     * @param target the target buffer
+     */
+    public static void encode(final int[] values, final int offset, final int length, final ByteBuffer target) {
+
+        encode(values, offset, length, target, false);
+
+    }
+
+    /**
+     * Encodes the provided range of signed <code>int</code> values into the provided buffer using the ZigZag mapping.
+     *
+     * @param values the values
+     * @param offset the offset of the first value
+     * @param length the value count
+     * @param target the target buffer
+     */
+    public static void encodeSigned(final int[] values, final int offset, final int length, final ByteBuffer target) {
+
+        encode(values, offset, length, target, true);
+
+    }
+
+    /**
+     * Decodes the provided count of unsigned <code>int</code> values from the provided reader into the provided target
+     * array and advances the reader past them.
+     *
+     * @param source the source reader
+     * @param target the target array
+     * @param offset the offset of the first value
+     * @param length the value count
+     */
+    public static void decode(final ByteReader source, final int[] target, final int offset, final int length) {
+
+        decode(source, target, offset, length, false);
+
+    }
+
+    /**
+     * Decodes the provided count of signed <code>int</code> values encoded using the ZigZag mapping from the provided
+     * reader into the provided target array and advances the reader past them.
+     *
+     * @param source the source reader
+     * @param target the target array
+     * @param offset the offset of the first value
+     * @param length the value count
+     */
+    public static void decodeSigned(final ByteReader source, final int[] target, final int offset, final int length) {
+
+        decode(source, target, offset, length, true);
+
+    }
+
+    /**
+     * Encodes the provided range of unsigned <code>long</code> values into the provided buffer.
+     *
+     * @param values the values
+     * @param offset the offset of the first value
+     * @param length the value count
+     * @param target the target buffer
+     */
+    public static void encode(final long[] values, final int offset, final int length, final ByteBuffer target) {
+
+        encode(values, offset, length, target, false);
+
+    }
+
+    /**
+     * Encodes the provided range of signed <code>long</code> values into the provided buffer using the ZigZag mapping.
+     *
+     * @param values the values
+     * @param offset the offset of the first value
+     * @param length the value count
+     * @param target the target buffer
+     */
+    public static void encodeSigned(final long[] values, final int offset, final int length, final ByteBuffer target) {
+
+        encode(values, offset, length, target, true);
+
+    }
+
+    /**
+     * Decodes the provided count of unsigned <code>long</code> values from the provided reader into the provided
+     * target array and advances the reader past them.
+     *
+     * @param source the source reader
+     * @param target the target array
+     * @param offset the offset of the first value
+     * @param length the value count
+     */
+    public static void decode(final ByteReader source, final long[] target, final int offset, final int length) {
+
+        decode(source, target, offset, length, false);
+
+    }
+
+    /**
+     * Decodes the provided count of signed <code>long</code> values encoded using the ZigZag mapping from the provided
+     * reader into the provided target array and advances the reader past them.
+     *
+     * @param source the source reader
+     * @param target the target array
+     * @param offset the offset of the first value
+     * @param length the value count
+     */
+    public static void decodeSigned(final ByteReader source, final long[] target, final int offset, final int length) {
+
+        decode(source, target, offset, length, true);
+
+    }
+
+    private static void encode(final int[] values, final int offset, final int length, final ByteBuffer target, final boolean zigZag) {
+
+        checkRange(values.length, offset, length);
+        final int controlLength = (length + 3) >>> 2;
+        Preconditions.checkState((long) controlLength + (long) length * Integer.BYTES <= Integer.MAX_VALUE - target.getSize(), "The byte buffer cannot exceed the maximum array size.");
+        final byte[] buffer = target.ensureWritable(controlLength + length * Integer.BYTES);
+        final int controlIndex = target.getSize();
+        int dataIndex = controlIndex + controlLength;
+        int control = 0;
+        for (int i = 0; i < length; i++) {
+            final int value = zigZag ? VariableLength.encodeZigZag(values[offset + i]) : values[offset + i];
+            final int code = (Integer.SIZE - 1 - Integer.numberOfLeadingZeros(value | 1)) >>> 3;
+            ByteAccess.putInt(buffer, dataIndex, value, ByteOrder.LITTLE_ENDIAN);
+            dataIndex += code + 1;
+            control |= code << ((i & 3) << 1);
+            if ((i & 3) == 3 || i == length - 1) {
+                buffer[controlIndex + (i >>> 2)] = (byte) control;
+                control = 0;
+            }
+        }
+        target.setSize(dataIndex);
+
+    }
+
+    private static void decode(final ByteReader source, final int[] target, final int offset, final int length, final boolean zigZag) {
+
+        checkRange(target.length, offset, length);
+        final byte[] bytes = source.array();
+        final int controlLength = (length + 3) >>> 2;
+        final int controlIndex = source.index(0, controlLength);
+        final int fullControls = length >>> 2;
+        int dataLength = 0;
+        for (int i = 0; i < fullControls; i++)
+            dataLength += INT_LENGTHS[bytes[controlIndex + i] & 0xFF];
+        for (int i = fullControls << 2; i < length; i++)
+            dataLength += (bytes[controlIndex + fullControls] >>> ((i & 3) << 1) & 3) + 1;
+
+        int dataIndex = source.index(controlLength, dataLength);
+        final int dataEnd = dataIndex + dataLength;
+        for (int i = 0; i < length; i++) {
+            final int code = bytes[controlIndex + (i >>> 2)] >>> ((i & 3) << 1) & 3;
+            int value;
+            if (dataIndex <= dataEnd - Integer.BYTES) {
+                value = ByteAccess.getInt(bytes, dataIndex, ByteOrder.LITTLE_ENDIAN) & INT_MASKS[code];
+            } else {
+                value = 0;
+                for (int j = code; j >= 0; j--)
+                    value = value << Byte.SIZE | (bytes[dataIndex + j] & 0xFF);
+            }
+            target[offset + i] = zigZag ? VariableLength.decodeZigZag(value) : value;
+            dataIndex += code + 1;
+        }
+        source.advance(controlLength + dataLength);
+
+    }
+
+    private static void encode(final long[] values, final int offset, final int length, final ByteBuffer target, final boolean zigZag) {
+
+        checkRange(values.length, offset, length);
+        final int controlLength = (length + 1) >>> 1;
+        Preconditions.checkState((long) controlLength + (long) length * Long.BYTES <= Integer.MAX_VALUE - target.getSize(), "The byte buffer cannot exceed the maximum array size.");
+        final byte[] buffer = target.ensureWritable(controlLength + length * Long.BYTES);
+        final int controlIndex = target.getSize();
+        int dataIndex = controlIndex + controlLength;
+        int control = 0;
+        for (int i = 0; i < length; i++) {
+            final long value = zigZag ? VariableLength.encodeZigZag(values[offset + i]) : values[offset + i];
+            final int code = (Long.SIZE - 1 - Long.numberOfLeadingZeros(value | 1)) >>> 3;
+            ByteAccess.putLong(buffer, dataIndex, value, ByteOrder.LITTLE_ENDIAN);
+            dataIndex += code + 1;
+            control |= code << ((i & 1) << 2);
+            if ((i & 1) == 1 || i == length - 1) {
+                buffer[controlIndex + (i >>> 1)] = (byte) control;
+                control = 0;
+            }
+        }
+        target.setSize(dataIndex);
+
+    }
+
+    private static void decode(final ByteReader source, final long[] target, final int offset, final int length, final boolean zigZag) {
+
+        checkRange(target.length, offset, length);
+        final byte[] bytes = source.array();
+        final int controlLength = (length + 1) >>> 1;
+        final int controlIndex = source.index(0, controlLength);
+        final int fullControls = length >>> 1;
+        int dataLength = 0;
+        for (int i = 0; i < fullControls; i++)
+            dataLength += LONG_LENGTHS[bytes[controlIndex + i] & 0xFF];
+        if ((length & 1) != 0)
+            dataLength += (bytes[controlIndex + fullControls] & 7) + 1;
+
+        int dataIndex = source.index(controlLength, dataLength);
+        final int dataEnd = dataIndex + dataLength;
+        for (int i = 0; i < length; i++) {
+            final int code = bytes[controlIndex + (i >>> 1)] >>> ((i & 1) << 2) & 7;
+            long value;
+            if (dataIndex <= dataEnd - Long.BYTES) {
+                value = ByteAccess.getLong(bytes, dataIndex, ByteOrder.LITTLE_ENDIAN) & LONG_MASKS[code];
+            } else {
+                value = 0;
+                for (int j = code; j >= 0; j--)
+                    value = value << Byte.SIZE | (bytes[dataIndex + j] & 0xFF);
+            }
+            target[offset + i] = zigZag ? VariableLength.decodeZigZag(value) : value;
+            dataIndex += code + 1;
+        }
+        source.advance(controlLength + dataLength);
+
+    }
+
+    private static void checkRange(final int arrayLength, final int offset, final int length) {
+
+        Preconditions.checkArgument(offset >= 0 && length >= 0 && offset <= arrayLength - length, "The provided range (offset: {}, length: {}) is out of bounds for the array (length: {}).", offset, length, arrayLength);
+
+    }
+
+    private StreamVByte() {
+
+        throw new UnsupportedOperationException();
+
+    }
+
+}
@@ -0,0 +1,713 @@
+package com.etdon.commons.io;
+
+import com.etdon.commons.conditional.Preconditions;
+import org.jetbrains.annotations.NotNullByDefault;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.Buffer;
+import java.nio.channels.ReadableByteChannel;
+
+/**
+ * Byte reader implementation used to sequentially read primitive types from an {@link InputStream} or
+ * {@link ReadableByteChannel} in the endianness of choice. Bytes are pulled into a fixed, reusable window that is
+ * refilled once a read crosses its end, which keeps the memory usage bounded regardless of the stream length. Read
+ * methods advance the internal offset while peek methods leave it untouched.
+ * <p>
+ * Offsets are absolute stream positions. Bytes in front of the internal offset are discarded on refill, jumping back
+ * is therefore only possible within the currently buffered window. Open {@link Explorer} sessions retain their
+ * retreat offset so it stays buffered until the session is closed. Peeks and single values cannot exceed the window
+ * size. I/O failures are rethrown as {@link UncheckedIOException}.
+ */
+@NotNullByDefault
+public class StreamingByteReader {
+
+    /**
+     * The default window size in bytes.
+     */
+    public static final int DEFAULT_WINDOW_SIZE = 8192;
+
+    private ByteOrder byteOrder = ByteOrder.LITTLE_ENDIAN;
+    private final Source source;
+    private final byte[] window;
+    private long windowStart = 0;
+    private int limit = 0;
+    private long offset = 0;
+    private long retain = -1;
+    private boolean exhausted = false;
+
+    private StreamingByteReader(final ByteOrder byteOrder,
+                                final Source source,
+                                final int windowSize) {
+
+        Preconditions.checkNotNull(byteOrder);
+        Preconditions.checkArgument(windowSize >= Long.BYTES, "The window size ({}) has to fit at least one long.", windowSize);
+        this.byteOrder = byteOrder;
+        this.source = source;
+        this.window = new byte[windowSize];
+
+    }
+
+    /**
+     * Adds the provided count of bytes to the internal offset. Skipped bytes are discarded once the window is
+     * refilled.
+     *
+     * @param count the byte count
+     */
+    public void skip(final long count) {
+
+        Preconditions.checkState(count >= 0, "The provided byte count ({}) cannot be negative.", count);
+        this.offset += count;
+
+    }
+
+    /**
+     * Sets the internal offset to the provided offset. Jumping back is only possible within the buffered window.
+     *
+     * @param offset the offset
+     */
+    public void jump(final long offset) {
+
+        Preconditions.checkState(offset >= this.windowStart, "The provided offset ({}) is no longer buffered (window start: {}).", offset, this.windowStart);
+        this.offset = offset;
+
+    }
+
+    /**
+     * Creates a new auto-closeable explorer session that can be used to jump to a specific offset and automatically
+     * jump back to the previous offset once it's out of try-with scope or closed manually.
+     *
+     * @param offset the target offset
+     * @return the auto-closeable explorer session
+     */
+    public Explorer explore(final long offset) {
+
+        return Explorer.of(this, offset);
+
+    }
+
+    /**
+     * Creates a new auto-closeable explorer session that can be used to change the byte order and automatically jump
+     * back to the previous one once it's out of try-with scope or closed manually.
+     *
+     * @param byteOrder the target byte order
+     * @return the auto-closeable explorer session
+     */
+    public Explorer explore(final ByteOrder byteOrder) {
+
+        return Explorer.of(this, byteOrder);
+
+    }
+
+    /**
+     * Creates a new auto-closeable explorer session that can be used to jump to a specific offset as well as change
+     * the byte order and automatically jump back to the previous offset as well as change back the byte order once
+     * it's out of try-with scope or closed manually.
+     *
+     * @param byteOrder the target byte order
+     * @param offset    the target offset
+     * @return the auto-closeable explorer session
+     */
+    public Explorer explore(final ByteOrder byteOrder, final long offset) {
+
+        return Explorer.of(this, byteOrder, offset);
+
+    }
+
+    /**
+     * Checks if at least one more byte can be read, blocking until it's available or the end of the stream is
+     * reached.
+     *
+     * @return <code>true</code> if a byte can be read, <code>false</code> otherwise
+     */
+    public boolean hasRemaining() {
+
+        return this.fill(1);
+
+    }
+
+    /**
+     * Reads the current byte before advancing the internal offset.
+     *
+     * @return the byte
+     */
+    public byte readByte() {
+
+        final byte value = this.window[this.require(0, 1)];
+        this.offset++;
+
+        return value;
+
+    }
+
+    /**
+     * Reads the current byte without advancing the internal offset.
+     *
+     * @return the byte
+     */
+    public byte peekByte() {
+
+        return this.window[this.require(0, 1)];
+
+    }
+
+    /**
+     * Reads the byte at the provided offset without advancing the internal offset.
+     *
+     * @param offset the offset
+     * @return the byte
+     */
+    public byte peekOffsetByte(final int offset) {
+
+        return this.window[this.require(offset, 1)];
+
+    }
+
+    /**
+     * Reads the provided count of bytes from the stream before advancing the internal offset. The count is not
+     * limited by the window size.
+     *
+     * @param count the byte count
+     * @return the bytes
+     */
+    public byte[] readBytes(final int count) {
+
+        Preconditions.checkState(count >= 0, "The provided byte count ({}) cannot be negative.", count);
+        final byte[] bytes = new byte[count];
+        int copied = 0;
+        while (copied < count) {
+            final int index = this.require(0, 1);
+            final int chunk = Math.min(count - copied, this.limit - index);
+            System.arraycopy(this.window, index, bytes, copied, chunk);
+            copied += chunk;
+            this.offset += chunk;
+        }
+
+        return bytes;
+
+    }
+
+    /**
+     * Reads the provided count of bytes from the stream without advancing the internal offset.
+     *
+     * @param count the byte count
+     * @return the bytes
+     */
+    public byte[] peekBytes(final int count) {
+
+        return this.peekOffsetBytes(count, 0);
+
+    }
+
+    /**
+     * Reads the provided count of bytes at the provided offset from the stream without advancing the internal offset.
+     *
+     * @param count  the byte count
+     * @param offset the offset
+     * @return the bytes
+     */
+    public byte[] peekOffsetBytes(final int count, final int offset) {
+
+        final byte[] bytes = new byte[count];
+        System.arraycopy(this.window, this.require(offset, count), bytes, 0, count);
+
+        return bytes;
+
+    }
+
+    /**
+     * Reads a boolean and advances the internal offset.
+     *
+     * @return the boolean
+     */
+    public boolean readBoolean() {
+
+        return this.readByte() == 0x01;
+
+    }
+
+    /**
+     * Reads a boolean without advancing the internal offset.
+     *
+     * @return the boolean
+     */
+    public boolean peekBoolean() {
+
+        return this.peekByte() == 0x01;
+
+    }
+
+    /**
+     * Reads a short and advances the internal offset.
+     *
+     * @return the short
+     */
+    public short readShort() {
+
+        final short value = this.peekOffsetShort(0);
+        this.offset += Short.BYTES;
+
+        return value;
+
+    }
+
+    /**
+     * Reads a short without advancing the internal offset.
+     *
+     * @return the short
+     */
+    public short peekShort() {
+
+        return this.peekOffsetShort(0);
+
+    }
+
+    /**
+     * Reads a short from the provided offset without advancing the internal offset.
+     *
+     * @param offset the offset
+     * @return the short
+     */
+    public short peekOffsetShort(final int offset) {
+
+        return (short) this.assemble(this.require(offset, Short.BYTES), Short.BYTES);
+
+    }
+
+    /**
+     * Reads an integer and advances the internal offset.
+     *
+     * @return the integer
+     */
+    public int readInteger() {
+
+        final int value = this.peekOffsetInteger(0);
+        this.offset += Integer.BYTES;
+
+        return value;
+
+    }
+
+    /**
+     * Reads an integer without advancing the internal offset.
+     *
+     * @return the integer
+     */
+    public int peekInteger() {
+
+        return this.peekOffsetInteger(0);
+
+    }
+
+    /**
+     * Reads an integer from the provided offset without advancing the internal offset.
+     *
+     * @param offset the offset
+     * @return the integer
+     */
+    public int peekOffsetInteger(final int offset) {
+
+        return (int) this.assemble(this.require(offset, Integer.BYTES), Integer.BYTES);
+
+    }
+
+    /**
+     * Reads a long and advances the internal offset.
+     *
+     * @return the long
+     */
+    public long readLong() {
+
+        final long value = this.peekOffsetLong(0);
+        this.offset += Long.BYTES;
+
+        return value;
+
+    }
+
+    /**
+     * Reads a long without advancing the internal offset.
+     *
+     * @return the long
+     */
+    public long peekLong() {
+
+        return this.peekOffsetLong(0);
+
+    }
+
+    /**
+     * Reads a long from the provided offset without advancing the internal offset.
+     *
+     * @param offset the offset
+     * @return the long
+     */
+    public long peekOffsetLong(final int offset) {
+
+        return this.assemble(this.require(offset, Long.BYTES), Long.BYTES);
+
+    }
+
+    /**
+     * Sets the byte order to the provided byte order.
+     *
+     * @param byteOrder the byte order
+     */
+    public void setByteOrder(final ByteOrder byteOrder) {
+
+        Preconditions.checkNotNull(byteOrder);
+        this.byteOrder = byteOrder;
+
+    }
+
+    /**
+     * Returns the current byte order.
+     *
+     * @return the byte order
+     */
+    public ByteOrder getByteOrder() {
+
+        return this.byteOrder;
+
+    }
+
+    /**
+     * Returns the internal offset.
+     *
+     * @return the internal offset
+     */
+    public long getOffset() {
+
+        return this.offset;
+
+    }
+
+    /**
+     * Returns the size of the internal window.
+     *
+     * @return the window size
+     */
+    public int getWindowSize() {
+
+        return this.window.length;
+
+    }
+
+    /**
+     * Ensures that the provided count of bytes at the provided offset relative to the internal offset is buffered.
+     *
+     * @param offset the relative offset
+     * @param count  the byte count
+     * @return the window index of the first byte
+     */
+    private int require(final int offset, final int count) {
+
+        Preconditions.checkState(offset >= 0 && count >= 0 && offset + count <= this.window.length, "The requested range (offset: {}, count: {}) exceeds the window size ({}).", offset, count, this.window.length);
+        Preconditions.checkState(this.fill(offset + count), "The byte reader has reached the end of the stream.");
+        return (int) (this.offset - this.windowStart) + offset;
+
+    }
+
+    /**
+     * Refills the window until the provided count of bytes starting at the internal offset is buffered or the end of
+     * the stream is reached. Bytes in front of the internal offset and the retained offset are discarded.
+     *
+     * @param count the byte count
+     * @return <code>true</code> if the bytes are buffered, <code>false</code> if the end of the stream was reached
+     */
+    private boolean fill(final int count) {
+
+        if (this.offset + count <= this.windowStart + this.limit)
+            return true;
+
+        final long keep = this.retain >= 0 ? Math.min(this.retain, this.offset) : this.offset;
+        Preconditions.checkState(this.offset + count - keep <= this.window.length, "The retained offset ({}) prevents buffering {} bytes at offset {}.", keep, count, this.offset);
+        try {
+            final long windowEnd = this.windowStart + this.limit;
+            if (keep >= windowEnd) {
+                this.windowStart = windowEnd;
+                this.limit = 0;
+                while (this.windowStart < keep) {
+                    final int read = this.read((int) Math.min(this.window.length, keep - this.windowStart));
+                    if (read < 0)
+                        return false;
+                    this.windowStart += read;
+                    this.limit = 0;
+                }
+            } else {
+                final int discard = (int) (keep - this.windowStart);
+                System.arraycopy(this.window, discard, this.window, 0, this.limit - discard);
+                this.windowStart = keep;
+                this.limit -= discard;
+            }
+
+            final int required = (int) (this.offset - this.windowStart) + count;
+            while (this.limit < required) {
+                final int read = this.read(this.window.length - this.limit);
+                if (read < 0)
+                    return false;
+                this.limit += read;
+            }
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+
+        return true;
+
+    }
+
+    /**
+     * Reads up to the provided count of bytes from the source into the window behind the buffered bytes.
+     *
+     * @param count the maximum byte count
+     * @return the count of bytes read or <code>-1</code> if the end of the stream is reached
+     * @throws IOException if the source failed to read
+     */
+    private int read(final int count) throws IOException {
+
+        if (this.exhausted)
+            return -1;
+
+        int read;
+        do {
+            read = this.source.read(this.window, this.limit, count);
+        } while (read == 0);
+        if (read < 0)
+            this.exhausted = true;
+
+        return read;
+
+    }
+
+    /**
+     * Assembles the provided count of bytes at the provided window index into a value using the current byte order.
+     *
+     * @param index the window index
+     * @param count the byte count
+     * @return the value
+     */
+    private long assemble(final int index, final int count) {
+
+        long value = 0;
+        if (this.byteOrder == ByteOrder.LITTLE_ENDIAN) {
+            for (int i = count - 1; i >= 0; i--)
+                value = value << 8 | (this.window[index + i] & 0xFF);
+        } else {
+            for (int i = 0; i < count; i++)
+                value = value << 8 | (this.window[index + i] & 0xFF);
+        }
+
+        return value;
+
+    }
+
+    /**
+     * Creates a new streaming byte reader for the provided input stream using {@link ByteOrder#LITTLE_ENDIAN} and the
+     * {@link StreamingByteReader#DEFAULT_WINDOW_SIZE}.
+     *
+     * @param inputStream the input stream
+     * @return the streaming byte reader
+     */
+    public static StreamingByteReader of(final InputStream inputStream) {
+
+        return of(ByteOrder.LITTLE_ENDIAN, inputStream, DEFAULT_WINDOW_SIZE);
+
+    }
+
+    /**
+     * Creates a new streaming byte reader for the provided input stream using the provided byte order and window size.
+     *
+     * @param byteOrder   the byte order
+     * @param inputStream the input stream
+     * @param windowSize  the window size
+     * @return the streaming byte reader
+     */
+    public static StreamingByteReader of(final ByteOrder byteOrder, final InputStream inputStream, final int windowSize) {
+
+        Preconditions.checkNotNull(inputStream);
+        return new StreamingByteReader(byteOrder, inputStream::read, windowSize);
+
+    }
+
+    /**
+     * Creates a new streaming byte reader for the provided channel using {@link ByteOrder#LITTLE_ENDIAN} and the
+     * {@link StreamingByteReader#DEFAULT_WINDOW_SIZE}.
+     *
+     * @param channel the channel
+     * @return the streaming byte reader
+     */
+    public static StreamingByteReader of(final ReadableByteChannel channel) {
+
+        return of(ByteOrder.LITTLE_ENDIAN, channel, DEFAULT_WINDOW_SIZE);
+
+    }
+
+    /**
+     * Creates a new streaming byte reader for the provided channel using the provided byte order and window size. The
+     * channel has to be in blocking mode.
+     *
+     * @param byteOrder  the byte order
+     * @param channel    the channel
+     * @param windowSize the window size
+     * @return the streaming byte reader
+     */
+    public static StreamingByteReader of(final ByteOrder byteOrder, final ReadableByteChannel channel, final int windowSize) {
+
+        Preconditions.checkNotNull(channel);
+        return new StreamingByteReader(byteOrder, new ChannelSource(channel), windowSize);
+
+    }
+
+    /**
+     * Source of bytes the window is refilled from.
+     */
+    @FunctionalInterface
+    private interface Source {
+
+        int read(byte[] target, int offset, int count) throws IOException;
+
+    }
+
+    /**
+     * {@link Source} implementation reading from a channel through a reused wrapper of the target array.
+     */
+    private static final class ChannelSource implements Source {
+
+        private final ReadableByteChannel channel;
+        private java.nio.ByteBuffer wrapper = java.nio.ByteBuffer.allocate(0);
+
+        private ChannelSource(final ReadableByteChannel channel) {
+
+            this.channel = channel;
+
+        }
+
+        @Override
+        public int read(final byte[] target, final int offset, final int count) throws IOException {
+
+            if (!this.wrapper.hasArray() || this.wrapper.array() != target)
+                this.wrapper = java.nio.ByteBuffer.wrap(target);
+            ((Buffer) this.wrapper).limit(offset + count).position(offset);
+            return this.channel.read(this.wrapper);
+
+        }
+
+    }
+
+    /**
+     * Auto-closeable session that captures the byte order and offset of a streaming byte reader on creation and
+     * restores them once the session is closed, either manually or by leaving its try-with-resources scope. The
+     * retreat offset is retained in the window while the session is open. Created using the
+     * {@link StreamingByteReader#explore(long)}, {@link StreamingByteReader#explore(ByteOrder)} and
+     * {@link StreamingByteReader#explore(ByteOrder, long)} methods.
+     */
+    public static class Explorer implements AutoCloseable {
+
+        private final StreamingByteReader byteReader;
+        private final ByteOrder retreatByteOrder;
+        private final long retreatOffset;
+        private final long retreatRetain;
+
+        private Explorer(final StreamingByteReader byteReader,
+                         final ByteOrder retreatByteOrder,
+                         final long retreatOffset,
+                         final long retreatRetain) {
+
+            this.byteReader = byteReader;
+            this.retreatByteOrder = retreatByteOrder;
+            this.retreatOffset = retreatOffset;
+            this.retreatRetain = retreatRetain;
+
+        }
+
+        @Override
+        public void close() {
+
+            this.byteReader.setByteOrder(this.retreatByteOrder);
+            this.byteReader.jump(this.retreatOffset);
+            this.byteReader.retain = this.retreatRetain;
+
+        }
+
+        /**
+         * Returns the byte order that is restored once the session is closed.
+         *
+         * @return the retreat byte order
+         */
+        public ByteOrder getRetreatByteOrder() {
+
+            return this.retreatByteOrder;
+
+        }
+
+        /**
+         * Returns the offset that is restored once the session is closed.
+         *
+         * @return the retreat offset
+         */
+        public long getRetreatOffset() {
+
+            return this.retreatOffset;
+
+        }
+
+        /**
+         * Creates a new explorer session that jumps the provided byte reader to the provided offset, keeping its
+         * current byte order, and restores the previous offset once closed.
+         *
+         * @param byteReader   the byte reader
+         * @param targetOffset the target offset
+         * @return the explorer session
+         */
+        public static Explorer of(final StreamingByteReader byteReader, final long targetOffset) {
+
+            return of(byteReader, byteReader.getByteOrder(), targetOffset);
+
+        }
+
+        /**
+         * Creates a new explorer session that sets the provided byte reader to the provided byte order, keeping its
+         * current offset, and restores the previous byte order once closed.
+         *
+         * @param byteReader      the byte reader
+         * @param targetByteOrder the target byte order
+         * @return the explorer session
+         */
+        public static Explorer of(final StreamingByteReader byteReader, final ByteOrder targetByteOrder) {
+
+            return of(byteReader, targetByteOrder, byteReader.getOffset());
+
+        }
+
+        /**
+         * Creates a new explorer session that sets the provided byte reader to the provided byte order and jumps it to
+         * the provided offset, restoring the previous byte order and offset once closed.
+         *
+         * @param byteReader      the byte reader
+         * @param targetByteOrder the target byte order
+         * @param targetOffset    the target offset
+         * @return the explorer session
+         */
+        public static Explorer of(final StreamingByteReader byteReader, final ByteOrder targetByteOrder, final long targetOffset) {
+
+            Preconditions.checkNotNull(byteReader);
+            Preconditions.checkNotNull(targetByteOrder);
+            final ByteOrder currentByteOrder = byteReader.getByteOrder();
+            if (currentByteOrder != targetByteOrder)
+                byteReader.setByteOrder(targetByteOrder);
+
+            final long currentOffset = byteReader.getOffset();
+            if (currentOffset != targetOffset)
+                byteReader.jump(targetOffset);
+
+            final long currentRetain = byteReader.retain;
+            byteReader.retain = currentRetain >= 0 ? Math.min(currentRetain, currentOffset) : currentOffset;
+
+            return new Explorer(byteReader, currentByteOrder, currentOffset, currentRetain);
+
+        }
+
+    }
+
+}
@@ -0,0 +1,128 @@
+package com.etdon.commons.io;
+
+import com.etdon.commons.conditional.Preconditions;
+import org.jetbrains.annotations.NotNullByDefault;
+
+/**
+ * Direct-mapped cache of decoded UTF-8 strings that can be passed to {@link ByteReader#readUtf8(int, StringCache)} and
+ * {@link ByteReader#readVarLengthString(StringCache)}. Repeated short strings, e.g. field names or enum constants,
+ * are returned as the same instance without being decoded again. Strings longer than the configured maximum length
+ * bypass the cache.
+ * <p>
+ * Every slot holds a single entry that is replaced on collision. Entries are immutable, a cache can therefore be
+ * shared between threads without additional synchronization.
+ */
+@NotNullByDefault
+public final class StringCache {
+
+    private final Entry[] entries;
+    private final int mask;
+    private final int maxLength;
+
+    private StringCache(final int capacity, final int maxLength) {
+
+        this.entries = new Entry[capacity];
+        this.mask = capacity - 1;
+        this.maxLength = maxLength;
+
+    }
+
+    /**
+     * Decodes the provided range of UTF-8 bytes or returns the cached string for equal bytes.
+     *
+     * @param bytes  the byte array
+     * @param index  the index of the first byte
+     * @param length the byte count
+     * @return the decoded string
+     */
+    String decode(final byte[] bytes, final int index, final int length) {
+
+        if (length > this.maxLength)
+            return Utf8.decode(bytes, index, length);
+
+        int hash = length;
+        for (int i = index; i < index + length; i++)
+            hash = 31 * hash + bytes[i];
+        hash ^= hash >>> 16;
+        final int slot = hash & this.mask;
+        final Entry entry = this.entries[slot];
+        if (entry != null && entry.hash == hash && entry.matches(bytes, index, length))
+            return entry.value;
+
+        final byte[] key = new byte[length];
+        System.arraycopy(bytes, index, key, 0, length);
+        final String value = Utf8.decode(key, 0, length);
+        this.entries[slot] = new Entry(hash, key, value);
+
+        return value;
+
+    }
+
+    /**
+     * Returns the count of slots of the cache.
+     *
+     * @return the capacity
+     */
+    public int getCapacity() {
+
+        return this.entries.length;
+
+    }
+
+    /**
+     * Returns the maximum encoded length of cached strings.
+     *
+     * @return the maximum length
+     */
+    public int getMaxLength() {
+
+        return this.maxLength;
+
+    }
+
+    /**
+     * Creates a new string cache with the provided capacity rounded up to the next power of two, caching strings of up
+     * to the provided encoded length.
+     *
+     * @param capacity  the minimum count of slots
+     * @param maxLength the maximum encoded length of cached strings
+     * @return the string cache
+     */
+    public static StringCache of(final int capacity, final int maxLength) {
+
+        Preconditions.checkArgument(capacity > 0 && capacity <= 1 << 30, "The capacity ({}) is out of range.", capacity);
+        Preconditions.checkArgument(maxLength >= 0, "The maximum length ({}) cannot be negative.", maxLength);
+        return new StringCache(capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1, maxLength);
+
+    }
+
+    private static final class Entry {
+
+        private final int hash;
+        private final byte[] key;
+        private final String value;
+
+        private Entry(final int hash, final byte[] key, final String value) {
+
+            this.hash = hash;
+            this.key = key;
+            this.value = value;
+
+        }
+
+        private boolean matches(final byte[] bytes, final int index, final int length) {
+
+            if (this.key.length != length)
+                return false;
+            for (int i = 0; i < length; i++) {
+                if (this.key[i] != bytes[index + i])
+                    return false;
+            }
+
+            return true;
+
+        }
+
+    }
+
+}
@@ -0,0 +1,211 @@
+package com.etdon.commons.io;
+
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * UTF-8 encoding and decoding directly on byte arrays. Pure ASCII input is detected eight bytes at a time and decoded
+ * without going through a charset decoder. Unpaired surrogates are encoded as <code>?</code> just like
+ * {@link String#getBytes(java.nio.charset.Charset)} does. Callers are responsible for validating the accessed range.
+ */
+final class Utf8 {
+
+    /**
+     * Mask of the most significant bit of every byte in a long.
+     */
+    private static final long NON_ASCII_MASK = 0x8080808080808080L;
+
+    /**
+     * Returns the count of bytes required to encode the provided characters.
+     *
+     * @param input the characters
+     * @return the byte count
+     */
+    static int encodedLength(final CharSequence input) {
+
+        final int length = input.length();
+        int index = 0;
+        while (index < length && input.charAt(index) < 0x80)
+            index++;
+
+        long count = index;
+        for (; index < length; index++) {
+            final char c = input.charAt(index);
+            if (c < 0x80) {
+                count++;
+            } else if (c < 0x800) {
+                count += 2;
+            } else if (Character.isHighSurrogate(c) && index + 1 < length && Character.isLowSurrogate(input.charAt(index + 1))) {
+                count += 4;
+                index++;
+            } else {
+                count += Character.isSurrogate(c) ? 1 : 3;
+            }
+        }
+        if (count > Integer.MAX_VALUE)
+            throw new IllegalStateException("The encoded length of the provided characters exceeds the maximum array size.");
+
+        return (int) count;
+
+    }
+
+    /**
+     * Encodes the provided characters into the provided array starting at the provided index. The array needs to have
+     * at least {@link Utf8#encodedLength(CharSequence)} bytes left.
+     *
+     * @param input  the characters
+     * @param target the target array
+     * @param index  the index of the first byte
+     * @return the index following the last written byte
+     */
+    static int encode(final CharSequence input, final byte[] target, int index) {
+
+        final int length = input.length();
+        int i = 0;
+        for (char c; i < length && (c = input.charAt(i)) < 0x80; i++)
+            target[index++] = (byte) c;
+
+        for (; i < length; i++) {
+            final char c = input.charAt(i);
+            if (c < 0x80) {
+                target[index++] = (byte) c;
+            } else if (c < 0x800) {
+                target[index++] = (byte) (0xC0 | c >>> 6);
+                target[index++] = (byte) (0x80 | c & 0x3F);
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(input.charAt(i + 1))) {
+                final int codePoint = Character.toCodePoint(c, input.charAt(++i));
+                target[index++] = (byte) (0xF0 | codePoint >>> 18);
+                target[index++] = (byte) (0x80 | codePoint >>> 12 & 0x3F);
+                target[index++] = (byte) (0x80 | codePoint >>> 6 & 0x3F);
+                target[index++] = (byte) (0x80 | codePoint & 0x3F);
+            } else if (Character.isSurrogate(c)) {
+                target[index++] = '?';
+            } else {
+                target[index++] = (byte) (0xE0 | c >>> 12);
+                target[index++] = (byte) (0x80 | c >>> 6 & 0x3F);
+                target[index++] = (byte) (0x80 | c & 0x3F);
+            }
+        }
+
+        return index;
+
+    }
+
+    /**
+     * Encodes the provided characters into the provided buffer starting at the provided index using absolute puts, the
+     * position of the buffer is not modified. The buffer needs to have at least
+     * {@link Utf8#encodedLength(CharSequence)} bytes left.
+     *
+     * @param input  the characters
+     * @param target the target buffer
+     * @param index  the index of the first byte
+     * @return the index following the last written byte
+     * @see Utf8#encode(CharSequence, byte[], int)
+     */
+    static int encode(final CharSequence input, final java.nio.ByteBuffer target, int index) {
+
+        final int length = input.length();
+        int i = 0;
+        for (char c; i < length && (c = input.charAt(i)) < 0x80; i++)
+            target.put(index++, (byte) c);
+
+        for (; i < length; i++) {
+            final char c = input.charAt(i);
+            if (c < 0x80) {
+                target.put(index++, (byte) c);
+            } else if (c < 0x800) {
+                target.put(index++, (byte) (0xC0 | c >>> 6));
+                target.put(index++, (byte) (0x80 | c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(input.charAt(i + 1))) {
+                final int codePoint = Character.toCodePoint(c, input.charAt(++i));
+                target.put(index++, (byte) (0xF0 | codePoint >>> 18));
+                target.put(index++, (byte) (0x80 | codePoint >>> 12 & 0x3F));
+                target.put(index++, (byte) (0x80 | codePoint >>> 6 & 0x3F));
+                target.put(index++, (byte) (0x80 | codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                target.put(index++, (byte) '?');
+            } else {
+                target.put(index++, (byte) (0xE0 | c >>> 12));
+                target.put(index++, (byte) (0x80 | c >>> 6 & 0x3F));
+                target.put(index++, (byte) (0x80 | c & 0x3F));
+            }
+        }
+
+        return index;
+
+    }
+
+    /**
+     * Decodes the provided range of UTF-8 bytes. Malformed input is replaced with the unicode replacement character.
+     * The bytes are scanned for ASCII once, if a non-ASCII byte is found only the bytes following the ASCII prefix go
+     * through a charset decoder.
+     *
+     * @param bytes  the byte array
+     * @param index  the index of the first byte
+     * @param length the byte count
+     * @return the decoded string
+     */
+    static String decode(final byte[] bytes, final int index, final int length) {
+
+        final int prefix = asciiPrefix(bytes, index, length);
+        if (prefix == length)
+            return new String(bytes, index, length, StandardCharsets.ISO_8859_1);
+
+        final char[] chars = new char[length];
+        for (int i = 0; i < prefix; i++)
+            chars[i] = (char) bytes[index + i];
+        final CharBuffer target = CharBuffer.wrap(chars, prefix, length - prefix);
+        final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        decoder.decode(java.nio.ByteBuffer.wrap(bytes, index + prefix, length - prefix), target, true);
+        decoder.flush(target);
+
+        return new String(chars, 0, target.position());
+
+    }
+
+    /**
+     * Checks if the provided range of bytes only contains ASCII characters.
+     *
+     * @param bytes  the byte array
+     * @param index  the index of the first byte
+     * @param length the byte count
+     * @return <code>true</code> if all bytes are ASCII, <code>false</code> otherwise
+     */
+    static boolean isAscii(final byte[] bytes, final int index, final int length) {
+
+        return asciiPrefix(bytes, index, length) == length;
+
+    }
+
+    /**
+     * Returns the count of ASCII bytes at the start of the provided range of bytes, scanning eight bytes at a time.
+     *
+     * @param bytes  the byte array
+     * @param index  the index of the first byte
+     * @param length the byte count
+     * @return the count of leading ASCII bytes
+     */
+    static int asciiPrefix(final byte[] bytes, final int index, final int length) {
+
+        final int end = index + length;
+        int i = index;
+        while (i <= end - Long.BYTES && (ByteAccess.getLong(bytes, i, ByteOrder.LITTLE_ENDIAN) & NON_ASCII_MASK) == 0)
+            i += Long.BYTES;
+        while (i < end && bytes[i] >= 0)
+            i++;
+
+        return i - index;
+
+    }
+
+    private Utf8() {
+
+        throw new UnsupportedOperationException();
+
+    }
+
+}
@@ -14,20 +14,20 @@ public final class VariableLength {
     /**
      * Each segment contains 7 bits of data stored in the least significant positions.
      */
-    private static final byte SEGMENT_MASK = 0b0111_1111;
+    static final byte SEGMENT_MASK = 0b0111_1111;
     /**
      * The most significant bit indicates that the value is continued with the following byte in the sequence.
      */
-    private static final byte CONTINUATION_BIT = (byte) 0b1000_0000;
+    static final byte CONTINUATION_BIT = (byte) 0b1000_0000;
     /**
      * The sign bit is the second high-order bit of the last byte in the sequence if the value ends abnormally and
      * indicates wherever or not the value is negative.
      */
-    private static final byte SIGN_BIT = 0b0100_0000;
+    static final byte SIGN_BIT = 0b0100_0000;
     /**
      * The segment size used for shifting matching the {@link VariableLength#SEGMENT_MASK}.
      */
-    private static final int SHIFT = 7;
+    static final int SHIFT = 7;
 
     /**
      * Decodes the provided unsigned input variable length byte array into a long. If the size of the input array is
@@ -63,22 +63,45 @@ public final class VariableLength {
      * @param input the input
      * @return the encoded byte array
      */
-    public static byte[] writeUnsigned(long input) {
+    public static byte[] writeUnsigned(final long input) {
 
-        if (input == 0)
-            return new byte[1];
+        final byte[] output = new byte[sizeUnsigned(input)];
+        writeUnsigned(output, 0, input);
 
-        final ByteBuffer byteBuffer = ByteBuffer.size(10);
-        byte current;
-        do {
-            current = (byte) (input & SEGMENT_MASK);
+        return output;
+
+    }
+
+    /**
+     * Returns the count of bytes the provided unsigned input occupies once encoded.
+     *
+     * @param input the input
+     * @return the encoded byte count
+     */
+    public static int sizeUnsigned(final long input) {
+
+        return (Long.SIZE - Long.numberOfLeadingZeros(input | 1) + SHIFT - 1) / SHIFT;
+
+    }
+
+    /**
+     * Encodes the provided unsigned input into the provided target array starting at the provided index. The target
+     * array needs to have room for {@link VariableLength#sizeUnsigned(long)} bytes.
+     *
+     * @param target the target array
+     * @param index  the index of the first byte
+     * @param input  the input
+     * @return the index behind the last byte
+     */
+    static int writeUnsigned(final byte[] target, int index, long input) {
+
+        while ((input & ~(long) SEGMENT_MASK) != 0) {
+            target[index++] = (byte) (input & SEGMENT_MASK | CONTINUATION_BIT);
             input >>>= SHIFT;
-            if (input != 0)
-                current |= CONTINUATION_BIT;
-            byteBuffer.put(current);
-        } while (input != 0);
+        }
+        target[index++] = (byte) input;
 
-        return byteBuffer.get();
+        return index;
 
     }
 
@@ -119,12 +142,38 @@ public final class VariableLength {
      * @param input the input
      * @return the encoded byte array
      */
-    public static byte[] writeSigned(long input) {
+    public static byte[] writeSigned(final long input) {
+
+        final byte[] output = new byte[sizeSigned(input)];
+        writeSigned(output, 0, input);
+
+        return output;
+
+    }
+
+    /**
+     * Returns the count of bytes the provided signed input occupies once encoded.
+     *
+     * @param input the input
+     * @return the encoded byte count
+     */
+    public static int sizeSigned(final long input) {
+
+        return (Long.SIZE + 1 - Long.numberOfLeadingZeros(input ^ (input >> (Long.SIZE - 1))) + SHIFT - 1) / SHIFT;
 
-        if (input == 0)
-            return new byte[1];
+    }
+
+    /**
+     * Encodes the provided signed input into the provided target array starting at the provided index. The target
+     * array needs to have room for {@link VariableLength#sizeSigned(long)} bytes.
+     *
+     * @param target the target array
+     * @param index  the index of the first byte
+     * @param input  the input
+     * @return the index behind the last byte
+     */
+    static int writeSigned(final byte[] target, int index, long input) {
 
-        final ByteBuffer byteBuffer = ByteBuffer.size(10);
         boolean more = true;
         byte current;
         while (more) {
@@ -135,10 +184,62 @@ public final class VariableLength {
             } else {
                 current |= CONTINUATION_BIT;
             }
-            byteBuffer.put(current);
+            target[index++] = current;
         }
 
-        return byteBuffer.get();
+        return index;
+
+    }
+
+    /**
+     * Maps the provided signed input to an unsigned value using the ZigZag encoding so that values with a small
+     * magnitude result in small unsigned values (<code>0, -1, 1, -2</code> become <code>0, 1, 2, 3</code>).
+     *
+     * @param input the signed input
+     * @return the ZigZag encoded value
+     */
+    public static long encodeZigZag(final long input) {
+
+        return (input << 1) ^ (input >> (Long.SIZE - 1));
+
+    }
+
+    /**
+     * Maps the provided ZigZag encoded input back to its signed value.
+     *
+     * @param input the ZigZag encoded input
+     * @return the signed value
+     * @see VariableLength#encodeZigZag(long)
+     */
+    public static long decodeZigZag(final long input) {
+
+        return (input >>> 1) ^ -(input & 1);
+
+    }
+
+    /**
+     * Maps the provided signed input to an unsigned value using the ZigZag encoding.
+     *
+     * @param input the signed input
+     * @return the ZigZag encoded value
+     * @see VariableLength#encodeZigZag(long)
+     */
+    public static int encodeZigZag(final int input) {
+
+        return (input << 1) ^ (input >> (Integer.SIZE - 1));
+
+    }
+
+    /**
+     * Maps the provided ZigZag encoded input back to its signed value.
+     *
+     * @param input the ZigZag encoded input
+     * @return the signed value
+     * @see VariableLength#encodeZigZag(int)
+     */
+    public static int decodeZigZag(final int input) {
+
+        return (input >>> 1) ^ -(input & 1);
 
     }
 
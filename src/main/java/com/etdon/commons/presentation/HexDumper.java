@@ -0,0 +1,399 @@
+package com.etdon.commons.presentation;
+
+import com.etdon.commons.builder.FluentBuilder;
+import com.etdon.commons.codec.Hex;
+import com.etdon.commons.conditional.Preconditions;
+import com.etdon.commons.io.ByteReader;
+import org.jetbrains.annotations.NotNullByDefault;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Streaming xxd-style dump writer. Every line consists of an offset column, the bytes of the line as hexadecimal or
+ * binary digits separated into groups and an optional ASCII gutter:
+ * <pre>
+ * 00000000: 4865 6C6C 6F2C 2077 6F72 6C64 210A 0001  Hello, world!...
+ * </pre>
+ * Lines are formatted into a reused line buffer and written immediately, dumping a source therefore needs constant
+ * memory independent of its size. If an {@link ExecutorService} is configured, disjoint ranges of lines are
+ * formatted in parallel and written in order while the count of ranges in flight is bounded.
+ */
+@NotNullByDefault
+public class HexDumper {
+
+    private final int bytesPerLine;
+    private final int groupSize;
+    private final boolean binary;
+    private final boolean asciiGutter;
+    private final int offsetDigits;
+    private final long baseOffset;
+    @Nullable
+    private final ExecutorService executor;
+    private final int linesPerTask;
+    private final int maxInFlight;
+
+    private HexDumper(final Builder builder) {
+
+        this.binary = builder.binary;
+        this.bytesPerLine = builder.bytesPerLine > 0 ? builder.bytesPerLine : (this.binary ? 6 : 16);
+        this.groupSize = builder.groupSize > 0 ? builder.groupSize : (this.binary ? 1 : 2);
+        this.asciiGutter = builder.asciiGutter;
+        this.offsetDigits = builder.offsetDigits;
+        this.baseOffset = builder.baseOffset;
+        this.executor = builder.executor;
+        this.linesPerTask = builder.linesPerTask;
+        this.maxInFlight = builder.maxInFlight;
+
+    }
+
+    /**
+     * Dumps the provided range of bytes to the provided writer.
+     *
+     * @param bytes  the bytes
+     * @param offset the offset of the first byte
+     * @param length the byte count
+     * @param target the target writer
+     * @throws IOException if the writer fails to write
+     */
+    public void dump(final byte[] bytes, final int offset, final int length, final Writer target) throws IOException {
+
+        this.dump(ByteReader.of(bytes).slice(offset, length), target);
+
+    }
+
+    /**
+     * Dumps the provided range of bytes as ASCII text to the provided output stream. The output stream is flushed but
+     * not closed.
+     *
+     * @param bytes  the bytes
+     * @param offset the offset of the first byte
+     * @param length the byte count
+     * @param target the target output stream
+     * @throws IOException if the output stream fails to write
+     */
+    public void dump(final byte[] bytes, final int offset, final int length, final OutputStream target) throws IOException {
+
+        this.dump(ByteReader.of(bytes).slice(offset, length), target);
+
+    }
+
+    /**
+     * Dumps the remaining bytes of the provided reader as ASCII text to the provided output stream and advances the
+     * reader to its end. The output stream is flushed but not closed.
+     *
+     * @param source the source reader
+     * @param target the target output stream
+     * @throws IOException if the output stream fails to write
+     */
+    public void dump(final ByteReader source, final OutputStream target) throws IOException {
+
+        Preconditions.checkNotNull(target);
+        final Writer writer = new OutputStreamWriter(target, StandardCharsets.US_ASCII);
+        this.dump(source, writer);
+        writer.flush();
+
+    }
+
+    /**
+     * Dumps the remaining bytes of the provided reader to the provided writer and advances the reader to its end. The
+     * displayed offsets start at the configured base offset.
+     *
+     * @param source the source reader
+     * @param target the target writer
+     * @throws IOException if the writer fails to write
+     */
+    public void dump(final ByteReader source, final Writer target) throws IOException {
+
+        Preconditions.checkNotNull(source);
+        Preconditions.checkNotNull(target);
+        if (this.executor == null) {
+            final LineFormatter formatter = new LineFormatter();
+            final int length = source.getRemaining();
+            for (int position = 0; position < length; position += this.bytesPerLine)
+                formatter.write(source, this.baseOffset + position, Math.min(this.bytesPerLine, length - position), target);
+            return;
+        }
+
+        this.dumpParallel(source, target, this.executor);
+
+    }
+
+    /**
+     * Formats ranges of {@link HexDumper#linesPerTask} lines on the provided executor and writes their results in
+     * order, submitting a new range whenever the oldest one has been written. If writing or formatting fails, all
+     * ranges that are still pending are cancelled.
+     *
+     * @param source   the source reader
+     * @param target   the target writer
+     * @param executor the executor
+     * @throws IOException if the writer fails to write
+     */
+    private void dumpParallel(final ByteReader source, final Writer target, final ExecutorService executor) throws IOException {
+
+        final int taskBytes = (int) Math.min(Integer.MAX_VALUE, (long) this.linesPerTask * this.bytesPerLine);
+        final int length = source.getRemaining();
+        final Deque<Future<char[]>> pending = new ArrayDeque<>();
+        int submitted = 0;
+        try {
+            while (submitted < length || !pending.isEmpty()) {
+                while (submitted < length && pending.size() < this.maxInFlight) {
+                    final int count = Math.min(taskBytes, length - submitted);
+                    final ByteReader slice = source.readSlice(count);
+                    final long offset = this.baseOffset + submitted;
+                    pending.add(executor.submit(() -> this.format(slice, offset)));
+                    submitted += count;
+                }
+
+                final Future<char[]> next = pending.poll();
+                final char[] formatted;
+                try {
+                    formatted = next.get();
+                } catch (final InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Interrupted while waiting for a formatted range.");
+                } catch (final ExecutionException ex) {
+                    if (ex.getCause() instanceof RuntimeException)
+                        throw (RuntimeException) ex.getCause();
+                    if (ex.getCause() instanceof Error)
+                        throw (Error) ex.getCause();
+                    throw new IllegalStateException(ex.getCause());
+                }
+                target.write(formatted);
+            }
+        } finally {
+            for (final Future<char[]> future : pending)
+                future.cancel(true);
+        }
+
+    }
+
+    /**
+     * Formats all bytes of the provided slice into an exactly sized character array.
+     *
+     * @param slice  the slice
+     * @param offset the displayed offset of the first byte
+     * @return the formatted lines
+     * @throws IOException never, the formatter writes into memory
+     */
+    private char[] format(final ByteReader slice, final long offset) throws IOException {
+
+        final int length = slice.getRemaining();
+        final LineFormatter formatter = new LineFormatter();
+        final CharArrayTarget target = new CharArrayTarget((length + this.bytesPerLine - 1) / this.bytesPerLine * formatter.line.length);
+        for (int position = 0; position < length; position += this.bytesPerLine)
+            formatter.write(slice, offset + position, Math.min(this.bytesPerLine, length - position), target);
+
+        return target.toCharArray();
+
+    }
+
+    public static Builder builder() {
+
+        return new Builder();
+
+    }
+
+    /**
+     * Formats single lines into a reused line buffer.
+     */
+    private final class LineFormatter {
+
+        private final byte[] bytes = new byte[HexDumper.this.bytesPerLine];
+        private final char[] offset = new char[Long.BYTES * 2];
+        private final char[] line;
+        private final int dataWidth;
+
+        private LineFormatter() {
+
+            final int groups = (HexDumper.this.bytesPerLine + HexDumper.this.groupSize - 1) / HexDumper.this.groupSize;
+            this.dataWidth = HexDumper.this.bytesPerLine * (HexDumper.this.binary ? Byte.SIZE : 2) + groups - 1;
+            this.line = new char[Long.BYTES * 2 + 2 + this.dataWidth + (HexDumper.this.asciiGutter ? 2 + HexDumper.this.bytesPerLine : 0) + 1];
+
+        }
+
+        private void write(final ByteReader source, final long offset, final int count, final Writer target) throws IOException {
+
+            source.readInto(this.bytes, 0, count);
+            Hex.encode(offset, this.offset, 0);
+            final int significant = (Long.SIZE - Long.numberOfLeadingZeros(offset) + 3) / 4;
+            final int digits = Math.max(HexDumper.this.offsetDigits, significant);
+            System.arraycopy(this.offset, this.offset.length - digits, this.line, 0, digits);
+            int index = digits;
+            this.line[index++] = ':';
+            this.line[index++] = ' ';
+
+            final int dataStart = index;
+            for (int i = 0; i < count; i++) {
+                if (i > 0 && i % HexDumper.this.groupSize == 0)
+                    this.line[index++] = ' ';
+                if (HexDumper.this.binary) {
+                    for (int bit = Byte.SIZE - 1; bit >= 0; bit--)
+                        this.line[index++] = (this.bytes[i] >>> bit & 1) == 0 ? '0' : '1';
+                } else {
+                    index = Hex.encode(this.bytes, i, 1, this.line, index);
+                }
+            }
+
+            if (HexDumper.this.asciiGutter) {
+                while (index < dataStart + this.dataWidth)
+                    this.line[index++] = ' ';
+                this.line[index++] = ' ';
+                this.line[index++] = ' ';
+                for (int i = 0; i < count; i++) {
+                    final int value = this.bytes[i] & 0xFF;
+                    this.line[index++] = value >= 0x20 && value < 0x7F ? (char) value : '.';
+                }
+            }
+            this.line[index++] = '\n';
+            target.write(this.line, 0, index);
+
+        }
+
+    }
+
+    /**
+     * Writer collecting the formatted lines of a parallel range into a presized array.
+     */
+    private static final class CharArrayTarget extends Writer {
+
+        private char[] chars;
+        private int size = 0;
+
+        private CharArrayTarget(final int capacity) {
+
+            this.chars = new char[capacity];
+
+        }
+
+        @Override
+        public void write(final char[] source, final int offset, final int length) {
+
+            if (this.size + length > this.chars.length)
+                this.chars = Arrays.copyOf(this.chars, Math.max(this.size + length, this.chars.length * 2));
+            System.arraycopy(source, offset, this.chars, this.size, length);
+            this.size += length;
+
+        }
+
+        @Override
+        public void flush() {
+
+        }
+
+        @Override
+        public void close() {
+
+        }
+
+        private char[] toCharArray() {
+
+            return this.size == this.chars.length ? this.chars : Arrays.copyOf(this.chars, this.size);
+
+        }
+
+    }
+
+    public static class Builder implements FluentBuilder<HexDumper> {
+
+        private int bytesPerLine = 0;
+        private int groupSize = 0;
+        private boolean binary = false;
+        private boolean asciiGutter = true;
+        private int offsetDigits = 8;
+        private long baseOffset = 0;
+        @Nullable
+        private ExecutorService executor;
+        private int linesPerTask = 4096;
+        private int maxInFlight = Runtime.getRuntime().availableProcessors() * 2;
+
+        /**
+         * Sets the count of bytes per line, defaults to <code>16</code> or <code>6</code> in binary mode.
+         */
+        public Builder bytesPerLine(final int bytesPerLine) {
+
+            this.bytesPerLine = bytesPerLine;
+            return this;
+
+        }
+
+        /**
+         * Sets the count of bytes per group, defaults to <code>2</code> or <code>1</code> in binary mode.
+         */
+        public Builder groupSize(final int groupSize) {
+
+            this.groupSize = groupSize;
+            return this;
+
+        }
+
+        public Builder binary() {
+
+            this.binary = true;
+            return this;
+
+        }
+
+        public Builder asciiGutter(final boolean asciiGutter) {
+
+            this.asciiGutter = asciiGutter;
+            return this;
+
+        }
+
+        /**
+         * Sets the minimum count of hexadecimal digits of the offset column, defaults to <code>8</code>.
+         */
+        public Builder offsetDigits(final int offsetDigits) {
+
+            this.offsetDigits = offsetDigits;
+            return this;
+
+        }
+
+        public Builder baseOffset(final long baseOffset) {
+
+            this.baseOffset = baseOffset;
+            return this;
+
+        }
+
+        /**
+         * Formats ranges of the provided count of lines in parallel on the provided executor while at most the
+         * provided count of ranges are in flight.
+         */
+        public Builder executor(final ExecutorService executor, final int linesPerTask, final int maxInFlight) {
+
+            Preconditions.checkNotNull(executor);
+            this.executor = executor;
+            this.linesPerTask = linesPerTask;
+            this.maxInFlight = maxInFlight;
+            return this;
+
+        }
+
+        @Override
+        public HexDumper build() {
+
+            Preconditions.checkArgument(this.bytesPerLine >= 0 && this.groupSize >= 0, "The line and group sizes cannot be negative.");
+            Preconditions.checkArgument(this.offsetDigits >= 0 && this.offsetDigits <= Long.BYTES * 2, "The offset digit count ({}) is out of range.", this.offsetDigits);
+            Preconditions.checkArgument(this.baseOffset >= 0, "The base offset ({}) cannot be negative.", this.baseOffset);
+            Preconditions.checkArgument(this.linesPerTask > 0 && this.maxInFlight > 0, "The parallel range size and in-flight count have to be positive.");
+            return new HexDumper(this);
+
+        }
+
+    }
+
+}
@@ -1,6 +1,6 @@
 package com.etdon.commons.util;
 
-import java.nio.charset.Charset;
+import com.etdon.commons.codec.Hex;
 
 /**
  * Utilities for byte work.
@@ -21,14 +21,11 @@ public final class Bytes {
      *
      * @param b the <code>byte</code> value
      * @return the hexadecimal string representation
+     * @see Hex#encode(byte)
      */
     public static String toHexString(byte b) {
 
-        final byte[] buffer = new byte[2];
-        buffer[1] = (byte) DIGITS[b & 0xF];
-        buffer[0] = (byte) DIGITS[b >>> 4 & 0xF];
-
-        return new String(buffer, 0, 2, Charset.defaultCharset());
+        return Hex.encode(b);
 
     }
 
@@ -37,35 +34,55 @@ public final class Bytes {
      *
      * @param bytes the <code>byte</code> array
      * @return the hexadecimal string representation
+     * @see Hex#encode(byte[])
      */
     public static String toHexString(final byte[] bytes) {
 
-        final StringBuilder hexStringBuilder = new StringBuilder();
-        for (final byte b : bytes)
-            hexStringBuilder.append(toHexString(b));
-
-        return hexStringBuilder.toString();
+        return Hex.encode(bytes);
 
     }
 
     /**
      * Converts the provided <code>byte</code> array to its hexadecimal string representation inserting a space after
-     * every provided amount of bytes.
+     * every provided amount of bytes. A negative split behaves like its absolute value.
      *
      * @param bytes the <code>byte</code> array
      * @param split the amount of bytes after which a space is inserted
      * @return the hexadecimal string representation
+     * @throws ArithmeticException if the split is <code>0</code> and the array isn't empty
      */
     public static String toHexString(final byte[] bytes, final int split) {
 
-        final StringBuilder hexStringBuilder = new StringBuilder();
-        for (int i = 0; i < bytes.length; i++) {
-            hexStringBuilder.append(toHexString(bytes[i]));
-            if ((i + 1) % split == 0 && (i + 1) < bytes.length)
-                hexStringBuilder.append(' ');
+        if (bytes.length == 0)
+            return "";
+        if (split == 0)
+            throw new ArithmeticException("/ by zero");
+
+        final int groupSize = split == Integer.MIN_VALUE ? Integer.MAX_VALUE : Math.abs(split);
+        final char[] chars = new char[bytes.length * 2 + (bytes.length - 1) / groupSize];
+        int index = 0;
+        for (int offset = 0; offset < bytes.length; offset += groupSize) {
+            if (offset > 0)
+                chars[index++] = ' ';
+            index = Hex.encode(bytes, offset, Math.min(groupSize, bytes.length - offset), chars, index);
         }
 
-        return hexStringBuilder.toString();
+        return new String(chars);
+
+    }
+
+    /**
+     * Converts the provided hexadecimal string representation to a <code>byte</code> array. Both upper and lower case
+     * digits are accepted.
+     *
+     * @param hexString the hexadecimal string representation
+     * @return the <code>byte</code> array
+     * @throws IllegalArgumentException if the input has an odd length or contains invalid digits
+     * @see Hex#decode(CharSequence)
+     */
+    public static byte[] fromHexString(final String hexString) {
+
+        return Hex.decode(hexString);
 
     }
 
@@ -0,0 +1,58 @@
+package com.etdon.commons.util;
+
+import org.jetbrains.annotations.NotNullByDefault;
+
+/**
+ * Read-only view of a range of another character sequence that does not copy any characters. Changes to a mutable
+ * source are visible through the view. {@link CharSequenceView#toString()} copies the viewed range.
+ */
+@NotNullByDefault
+final class CharSequenceView implements CharSequence {
+
+    private final CharSequence source;
+    private final int start;
+    private final int end;
+
+    CharSequenceView(final CharSequence source, final int start, final int end) {
+
+        this.source = source;
+        this.start = start;
+        this.end = end;
+
+    }
+
+    @Override
+    public int length() {
+
+        return this.end - this.start;
+
+    }
+
+    @Override
+    public char charAt(final int index) {
+
+        if (index < 0 || index >= this.end - this.start)
+            throw new IndexOutOfBoundsException("The index (" + index + ") is out of bounds for the view (length: " + this.length() + ").");
+
+        return this.source.charAt(this.start + index);
+
+    }
+
+    @Override
+    public CharSequence subSequence(final int start, final int end) {
+
+        if (start < 0 || start > end || end > this.end - this.start)
+            throw new IndexOutOfBoundsException("The provided range (start: " + start + ", end: " + end + ") is out of bounds for the view (length: " + this.length() + ").");
+
+        return new CharSequenceView(this.source, this.start + start, this.start + end);
+
+    }
+
+    @Override
+    public String toString() {
+
+        return this.source.subSequence(this.start, this.end).toString();
+
+    }
+
+}
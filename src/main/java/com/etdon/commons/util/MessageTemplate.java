@@ -0,0 +1,401 @@
+package com.etdon.commons.util;
+
+import com.etdon.commons.conditional.Preconditions;
+import com.etdon.commons.constant.Constants;
+import org.jetbrains.annotations.NotNullByDefault;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+
+/**
+ * Message template with value placeholders that is parsed once into its literal segments. A placeholder consists of
+ * a {@link Constants#DEFAULT_VALUE_START_IDENTIFIER} directly followed by a {@link Constants#DEFAULT_VALUE_END_IDENTIFIER}
+ * (e.g. <code>{}</code>) and can be escaped by preceding it with the {@link Constants#ESCAPE_IDENTIFIER}, the escape
+ * identifier itself remains part of the output.
+ * <p>
+ * Rendering fills the placeholders with the provided values in order of appearance using a presized builder, surplus
+ * placeholders are removed and surplus values are ignored. If no values are provided the template is returned
+ * unchanged. The primitive overloads append their values without boxing them.
+ *
+ * @see Strings#applyValues(String, Object...)
+ */
+@NotNullByDefault
+public final class MessageTemplate {
+
+    /**
+     * The count of slots of the direct-mapped template cache used by {@link MessageTemplate#compile(String)}.
+     */
+    private static final int CACHE_SIZE = 512;
+    /**
+     * The maximum length of templates kept in the template cache.
+     */
+    private static final int CACHE_MAX_LENGTH = 1024;
+    /**
+     * The estimated length of a rendered value used to presize the output.
+     */
+    private static final int VALUE_LENGTH_ESTIMATE = 16;
+
+    private static final MessageTemplate[] CACHE = new MessageTemplate[CACHE_SIZE];
+
+    private final String template;
+    /**
+     * The literal segments surrounding the placeholders, always one more than there are placeholders.
+     */
+    private final String[] literals;
+    private final int literalLength;
+
+    private MessageTemplate(final String template) {
+
+        this.template = template;
+        int slots = 0;
+        for (int i = 0; i < template.length() - 1; i++) {
+            if (isSlot(template, i)) {
+                slots++;
+                i++;
+            }
+        }
+
+        this.literals = new String[slots + 1];
+        int literal = 0;
+        int start = 0;
+        for (int i = 0; i < template.length() - 1; i++) {
+            if (isSlot(template, i)) {
+                this.literals[literal++] = template.substring(start, i);
+                start = ++i + 1;
+            }
+        }
+        this.literals[literal] = template.substring(start);
+        this.literalLength = template.length() - slots * 2;
+
+    }
+
+    /**
+     * Renders the template with the provided values.
+     *
+     * @param values the placeholder values
+     * @return the rendered message
+     */
+    public String render(final Object... values) {
+
+        Preconditions.checkNotNull(values);
+        if (values.length == 0 || this.literals.length == 1)
+            return this.template;
+
+        final StringBuilder output = new StringBuilder(this.literalLength + Math.min(values.length, this.literals.length - 1) * VALUE_LENGTH_ESTIMATE);
+        this.renderTo(output, values);
+
+        return output.toString();
+
+    }
+
+    /**
+     * Renders the template with the provided value.
+     *
+     * @param value the placeholder value
+     * @return the rendered message
+     */
+    public String render(@Nullable final Object value) {
+
+        if (this.literals.length == 1)
+            return this.template;
+
+        final StringBuilder output = new StringBuilder(this.literalLength + VALUE_LENGTH_ESTIMATE).append(this.literals[0]);
+        output.append(value).append(this.literals[1]);
+
+        return this.finish(output, 1);
+
+    }
+
+    /**
+     * Renders the template with the provided values.
+     *
+     * @param first  the first placeholder value
+     * @param second the second placeholder value
+     * @return the rendered message
+     */
+    public String render(@Nullable final Object first, @Nullable final Object second) {
+
+        if (this.literals.length == 1)
+            return this.template;
+
+        final StringBuilder output = new StringBuilder(this.literalLength + VALUE_LENGTH_ESTIMATE * 2).append(this.literals[0]);
+        output.append(first).append(this.literals[1]);
+        if (this.literals.length > 2)
+            output.append(second).append(this.literals[2]);
+
+        return this.finish(output, 2);
+
+    }
+
+    /**
+     * Renders the template with the provided values.
+     *
+     * @param first  the first placeholder value
+     * @param second the second placeholder value
+     * @param third  the third placeholder value
+     * @return the rendered message
+     */
+    public String render(@Nullable final Object first, @Nullable final Object second, @Nullable final Object third) {
+
+        if (this.literals.length == 1)
+            return this.template;
+
+        final StringBuilder output = new StringBuilder(this.literalLength + VALUE_LENGTH_ESTIMATE * 3).append(this.literals[0]);
+        output.append(first).append(this.literals[1]);
+        if (this.literals.length > 2)
+            output.append(second).append(this.literals[2]);
+        if (this.literals.length > 3)
+            output.append(third).append(this.literals[3]);
+
+        return this.finish(output, 3);
+
+    }
+
+    /**
+     * Renders the template with the provided value without boxing it.
+     *
+     * @param value the placeholder value
+     * @return the rendered message
+     */
+    public String render(final long value) {
+
+        if (this.literals.length == 1)
+            return this.template;
+
+        final StringBuilder output = new StringBuilder(this.literalLength + VALUE_LENGTH_ESTIMATE).append(this.literals[0]);
+        output.append(value).append(this.literals[1]);
+
+        return this.finish(output, 1);
+
+    }
+
+    /**
+     * Renders the template with the provided values without boxing them.
+     *
+     * @param first  the first placeholder value
+     * @param second the second placeholder value
+     * @return the rendered message
+     */
+    public String render(final long first, final long second) {
+
+        if (this.literals.length == 1)
+            return this.template;
+
+        final StringBuilder output = new StringBuilder(this.literalLength + VALUE_LENGTH_ESTIMATE * 2).append(this.literals[0]);
+        output.append(first).append(this.literals[1]);
+        if (this.literals.length > 2)
+            output.append(second).append(this.literals[2]);
+
+        return this.finish(output, 2);
+
+    }
+
+    /**
+     * Renders the template with the provided values without boxing them.
+     *
+     * @param first  the first placeholder value
+     * @param second the second placeholder value
+     * @param third  the third placeholder value
+     * @return the rendered message
+     */
+    public String render(final long first, final long second, final long third) {
+
+        if (this.literals.length == 1)
+            return this.template;
+
+        final StringBuilder output = new StringBuilder(this.literalLength + VALUE_LENGTH_ESTIMATE * 3).append(this.literals[0]);
+        output.append(first).append(this.literals[1]);
+        if (this.literals.length > 2)
+            output.append(second).append(this.literals[2]);
+        if (this.literals.length > 3)
+            output.append(third).append(this.literals[3]);
+
+        return this.finish(output, 3);
+
+    }
+
+    /**
+     * Renders the template with the provided value without boxing it.
+     *
+     * @param value the placeholder value
+     * @return the rendered message
+     */
+    public String render(final double value) {
+
+        if (this.literals.length == 1)
+            return this.template;
+
+        final StringBuilder output = new StringBuilder(this.literalLength + VALUE_LENGTH_ESTIMATE).append(this.literals[0]);
+        output.append(value).append(this.literals[1]);
+
+        return this.finish(output, 1);
+
+    }
+
+    /**
+     * Renders the template with the provided value as a character without boxing it.
+     *
+     * @param value the placeholder value
+     * @return the rendered message
+     */
+    public String render(final char value) {
+
+        if (this.literals.length == 1)
+            return this.template;
+
+        final StringBuilder output = new StringBuilder(this.literalLength + 1).append(this.literals[0]);
+        output.append(value).append(this.literals[1]);
+
+        return this.finish(output, 1);
+
+    }
+
+    /**
+     * Renders the template with the provided value without boxing it.
+     *
+     * @param value the placeholder value
+     * @return the rendered message
+     */
+    public String render(final boolean value) {
+
+        if (this.literals.length == 1)
+            return this.template;
+
+        final StringBuilder output = new StringBuilder(this.literalLength + VALUE_LENGTH_ESTIMATE).append(this.literals[0]);
+        output.append(value).append(this.literals[1]);
+
+        return this.finish(output, 1);
+
+    }
+
+    /**
+     * Appends the template rendered with the provided values to the provided builder. Unlike
+     * {@link MessageTemplate#render(Object...)} surplus placeholders are removed even if no values are provided.
+     *
+     * @param output the target builder
+     * @param values the placeholder values
+     * @return the target builder
+     */
+    public StringBuilder renderTo(final StringBuilder output, final Object... values) {
+
+        Preconditions.checkNotNull(output);
+        Preconditions.checkNotNull(values);
+        final int count = Math.min(values.length, this.literals.length - 1);
+        output.ensureCapacity(output.length() + this.literalLength + count * VALUE_LENGTH_ESTIMATE);
+        output.append(this.literals[0]);
+        for (int i = 0; i < count; i++)
+            output.append(values[i]).append(this.literals[i + 1]);
+        for (int i = count + 1; i < this.literals.length; i++)
+            output.append(this.literals[i]);
+
+        return output;
+
+    }
+
+    /**
+     * Appends the template rendered with the provided values to the provided appendable. String builders are
+     * presized, surplus placeholders are removed even if no values are provided.
+     *
+     * @param output the target appendable
+     * @param values the placeholder values
+     * @param <A>    the appendable type
+     * @return the target appendable
+     * @throws IOException if the appendable fails to append
+     */
+    public <A extends Appendable> A renderTo(final A output, final Object... values) throws IOException {
+
+        Preconditions.checkNotNull(output);
+        if (output instanceof StringBuilder) {
+            this.renderTo((StringBuilder) output, values);
+            return output;
+        }
+
+        Preconditions.checkNotNull(values);
+        output.append(this.literals[0]);
+        final int count = Math.min(values.length, this.literals.length - 1);
+        for (int i = 0; i < count; i++)
+            output.append(String.valueOf(values[i])).append(this.literals[i + 1]);
+        for (int i = count + 1; i < this.literals.length; i++)
+            output.append(this.literals[i]);
+
+        return output;
+
+    }
+
+    /**
+     * Returns the count of placeholders.
+     *
+     * @return the placeholder count
+     */
+    public int getSlotCount() {
+
+        return this.literals.length - 1;
+
+    }
+
+    /**
+     * Returns the source template.
+     *
+     * @return the template
+     */
+    public String getTemplate() {
+
+        return this.template;
+
+    }
+
+    @Override
+    public String toString() {
+
+        return this.template;
+
+    }
+
+    /**
+     * Appends the literals following the provided count of filled placeholders and returns the rendered message.
+     */
+    private String finish(final StringBuilder output, final int filled) {
+
+        for (int i = filled + 1; i < this.literals.length; i++)
+            output.append(this.literals[i]);
+
+        return output.toString();
+
+    }
+
+    /**
+     * Compiles the provided template. Templates of up to 1024 characters are kept in a bounded direct-mapped cache
+     * and returned without being parsed again while they are not evicted by a colliding template. Compiled templates
+     * are immutable and can be shared between threads.
+     *
+     * @param template the template
+     * @return the compiled template
+     */
+    public static MessageTemplate compile(final String template) {
+
+        Preconditions.checkNotNull(template);
+        if (template.length() > CACHE_MAX_LENGTH)
+            return new MessageTemplate(template);
+
+        final int hash = template.hashCode();
+        final int slot = (hash ^ hash >>> 16) & (CACHE_SIZE - 1);
+        final MessageTemplate cached = CACHE[slot];
+        if (cached != null && (cached.template == template || cached.template.equals(template)))
+            return cached;
+
+        final MessageTemplate compiled = new MessageTemplate(template);
+        CACHE[slot] = compiled;
+
+        return compiled;
+
+    }
+
+    private static boolean isSlot(final String template, final int index) {
+
+        return template.charAt(index) == Constants.DEFAULT_VALUE_START_IDENTIFIER
+                && template.charAt(index + 1) == Constants.DEFAULT_VALUE_END_IDENTIFIER
+                && (index == 0 || template.charAt(index - 1) != Constants.ESCAPE_IDENTIFIER);
+
+    }
+
+}
@@ -1,5 +1,6 @@
 package com.etdon.commons.util;
 
+import com.etdon.commons.codec.Hex;
 import com.etdon.commons.conditional.Preconditions;
 import org.jetbrains.annotations.NotNullByDefault;
 
@@ -18,15 +19,12 @@ public final class Numbers {
     public static String toHexString(final Number input) {
 
         Preconditions.checkNotNull(input);
-        final StringBuilder stringBuilder = new StringBuilder();
         final long value = input.longValue();
-        for (int i = 7; i >= 0; i--) {
-            final byte segment = (byte) ((value >>> (i * 8)) & 0xFF);
-            if (stringBuilder.length() == 0 && segment == 0) continue;
-            stringBuilder.append(Bytes.toHexString(segment));
-        }
+        final char[] chars = new char[Long.BYTES * 2];
+        Hex.encode(value, chars, 0);
+        final int skipped = Long.numberOfLeadingZeros(value) / Byte.SIZE * 2;
 
-        return stringBuilder.toString();
+        return new String(chars, skipped, chars.length - skipped);
 
     }
 
@@ -0,0 +1,421 @@
+package com.etdon.commons.util;
+
+import com.etdon.commons.conditional.Preconditions;
+import org.jetbrains.annotations.NotNullByDefault;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Immutable character sequence represented as a height-balanced tree of string fragments. Concatenating two ropes
+ * and taking a subsequence of a rope share the existing fragments instead of copying them and take
+ * <code>O(log n)</code> time in the count of fragments. Short adjacent fragments are merged to keep the tree shallow.
+ * <p>
+ * A rope is only flattened into a single string once {@link Rope#toString()} is called, the result is cached. Ropes
+ * can be written to a {@link Writer} fragment by fragment without ever being flattened. Subsequences of a fragment keep
+ * the complete source string of that fragment reachable.
+ *
+ * @see Strings#combineRope(String...)
+ * @see Strings#listRope(String, String...)
+ */
+@NotNullByDefault
+public abstract class Rope implements CharSequence {
+
+    /**
+     * The maximum length of two adjacent fragments that are merged into one when concatenated.
+     */
+    private static final int MAX_MERGED_LENGTH = 128;
+    private static final Rope EMPTY = new Leaf("", 0, 0);
+
+    @Nullable
+    private String flat;
+
+    private Rope() {
+
+    }
+
+    /**
+     * Returns a rope consisting of this rope followed by the provided characters.
+     *
+     * @param other the characters to append
+     * @return the concatenated rope
+     */
+    public Rope concat(final CharSequence other) {
+
+        return join(this, of(other));
+
+    }
+
+    /**
+     * Returns the provided range of this rope sharing its fragments.
+     *
+     * @param start the index of the first character
+     * @param end   the index following the last character
+     * @return the subsequence
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    @Override
+    public Rope subSequence(final int start, final int end) {
+
+        if (start < 0 || start > end || end > this.length())
+            throw new IndexOutOfBoundsException("The provided range (start: " + start + ", end: " + end + ") is out of bounds for the rope (length: " + this.length() + ").");
+
+        return this.sub(start, end);
+
+    }
+
+    @Override
+    public char charAt(final int index) {
+
+        if (index < 0 || index >= this.length())
+            throw new IndexOutOfBoundsException("The index (" + index + ") is out of bounds for the rope (length: " + this.length() + ").");
+        if (this.flat != null)
+            return this.flat.charAt(index);
+
+        Rope node = this;
+        int position = index;
+        while (node instanceof Concat) {
+            final Concat concat = (Concat) node;
+            if (position < concat.left.length()) {
+                node = concat.left;
+            } else {
+                position -= concat.left.length();
+                node = concat.right;
+            }
+        }
+        final Leaf leaf = (Leaf) node;
+
+        return leaf.source.charAt(leaf.start + position);
+
+    }
+
+    /**
+     * Returns a rope consisting of a single fragment holding the flattened characters of this rope.
+     *
+     * @return the flattened rope
+     */
+    public Rope flatten() {
+
+        return this instanceof Leaf ? this : new Leaf(this.toString(), 0, this.length());
+
+    }
+
+    /**
+     * Writes the characters of this rope to the provided writer fragment by fragment.
+     *
+     * @param writer the target writer
+     * @throws IOException if the writer fails to write
+     */
+    public void writeTo(final Writer writer) throws IOException {
+
+        Preconditions.checkNotNull(writer);
+        if (this.flat != null) {
+            writer.write(this.flat);
+            return;
+        }
+
+        this.write(writer);
+
+    }
+
+    /**
+     * Appends the characters of this rope to the provided builder.
+     *
+     * @param output the target builder
+     * @return the target builder
+     */
+    public StringBuilder appendTo(final StringBuilder output) {
+
+        Preconditions.checkNotNull(output);
+        output.ensureCapacity(output.length() + this.length());
+        if (this.flat != null)
+            return output.append(this.flat);
+
+        this.append(output);
+
+        return output;
+
+    }
+
+    /**
+     * Returns the flattened characters of this rope. The string is created on the first call and cached.
+     *
+     * @return the string
+     */
+    @Override
+    public String toString() {
+
+        if (this.flat == null)
+            this.flat = this.flatString();
+
+        return this.flat;
+
+    }
+
+    /**
+     * Returns the height of the fragment tree, <code>0</code> for a single fragment.
+     *
+     * @return the depth
+     */
+    abstract int depth();
+
+    abstract Rope sub(int start, int end);
+
+    abstract void write(Writer writer) throws IOException;
+
+    abstract void append(StringBuilder output);
+
+    abstract String flatString();
+
+    /**
+     * Returns the empty rope.
+     *
+     * @return the empty rope
+     */
+    public static Rope empty() {
+
+        return EMPTY;
+
+    }
+
+    /**
+     * Returns a rope holding the provided characters. Ropes are returned unchanged, other character sequences than
+     * strings are copied.
+     *
+     * @param input the characters
+     * @return the rope
+     */
+    public static Rope of(final CharSequence input) {
+
+        Preconditions.checkNotNull(input);
+        if (input instanceof Rope)
+            return (Rope) input;
+
+        return input.length() == 0 ? EMPTY : new Leaf(input.toString(), 0, input.length());
+
+    }
+
+    /**
+     * Returns a rope consisting of the provided inputs in order, built as a balanced tree.
+     *
+     * @param inputs the inputs
+     * @return the rope
+     */
+    public static Rope of(final CharSequence... inputs) {
+
+        Preconditions.checkNotNull(inputs);
+        return build(inputs, 0, inputs.length);
+
+    }
+
+    private static Rope build(final CharSequence[] inputs, final int from, final int to) {
+
+        if (to - from == 0)
+            return EMPTY;
+        if (to - from == 1)
+            return of(inputs[from]);
+
+        final int middle = (from + to) >>> 1;
+        return join(build(inputs, from, middle), build(inputs, middle, to));
+
+    }
+
+    /**
+     * Joins the provided ropes by descending the spine of the deeper one until both heights differ by at most one
+     * and rebalancing on the way back up.
+     */
+    private static Rope join(final Rope left, final Rope right) {
+
+        if (left.length() == 0)
+            return right;
+        if (right.length() == 0)
+            return left;
+        if (left instanceof Leaf && right instanceof Leaf && left.length() + right.length() <= MAX_MERGED_LENGTH)
+            return new Leaf(left.toString() + right, 0, left.length() + right.length());
+
+        final int leftDepth = left.depth();
+        final int rightDepth = right.depth();
+        if (leftDepth > rightDepth + 1) {
+            final Concat concat = (Concat) left;
+            return balance(concat.left, join(concat.right, right));
+        }
+        if (rightDepth > leftDepth + 1) {
+            final Concat concat = (Concat) right;
+            return balance(join(left, concat.left), concat.right);
+        }
+
+        return new Concat(left, right);
+
+    }
+
+    /**
+     * Creates a node of the provided children, rotating once or twice if their heights differ by two.
+     */
+    private static Rope balance(final Rope left, final Rope right) {
+
+        if (left.depth() > right.depth() + 1) {
+            final Concat concat = (Concat) left;
+            if (concat.left.depth() >= concat.right.depth())
+                return new Concat(concat.left, new Concat(concat.right, right));
+
+            final Concat inner = (Concat) concat.right;
+            return new Concat(new Concat(concat.left, inner.left), new Concat(inner.right, right));
+        }
+        if (right.depth() > left.depth() + 1) {
+            final Concat concat = (Concat) right;
+            if (concat.right.depth() >= concat.left.depth())
+                return new Concat(new Concat(left, concat.left), concat.right);
+
+            final Concat inner = (Concat) concat.left;
+            return new Concat(new Concat(left, inner.left), new Concat(inner.right, concat.right));
+        }
+
+        return new Concat(left, right);
+
+    }
+
+    /**
+     * Fragment referencing a range of a string.
+     */
+    private static final class Leaf extends Rope {
+
+        private final String source;
+        private final int start;
+        private final int end;
+
+        private Leaf(final String source, final int start, final int end) {
+
+            this.source = source;
+            this.start = start;
+            this.end = end;
+
+        }
+
+        @Override
+        public int length() {
+
+            return this.end - this.start;
+
+        }
+
+        @Override
+        int depth() {
+
+            return 0;
+
+        }
+
+        @Override
+        Rope sub(final int start, final int end) {
+
+            if (start == end)
+                return EMPTY;
+
+            return start == 0 && end == this.length() ? this : new Leaf(this.source, this.start + start, this.start + end);
+
+        }
+
+        @Override
+        void write(final Writer writer) throws IOException {
+
+            writer.write(this.source, this.start, this.length());
+
+        }
+
+        @Override
+        void append(final StringBuilder output) {
+
+            output.append(this.source, this.start, this.end);
+
+        }
+
+        @Override
+        String flatString() {
+
+            return this.source.substring(this.start, this.end);
+
+        }
+
+    }
+
+    /**
+     * Node concatenating two non-empty ropes.
+     */
+    private static final class Concat extends Rope {
+
+        private final Rope left;
+        private final Rope right;
+        private final int length;
+        private final int depth;
+
+        private Concat(final Rope left, final Rope right) {
+
+            final long length = (long) left.length() + right.length();
+            Preconditions.checkState(length <= Integer.MAX_VALUE, "The rope length ({}) exceeds the maximum string length.", length);
+            this.left = left;
+            this.right = right;
+            this.length = (int) length;
+            this.depth = Math.max(left.depth(), right.depth()) + 1;
+
+        }
+
+        @Override
+        public int length() {
+
+            return this.length;
+
+        }
+
+        @Override
+        int depth() {
+
+            return this.depth;
+
+        }
+
+        @Override
+        Rope sub(final int start, final int end) {
+
+            if (start == 0 && end == this.length)
+                return this;
+
+            final int leftLength = this.left.length();
+            if (end <= leftLength)
+                return this.left.sub(start, end);
+            if (start >= leftLength)
+                return this.right.sub(start - leftLength, end - leftLength);
+
+            return join(this.left.sub(start, leftLength), this.right.sub(0, end - leftLength));
+
+        }
+
+        @Override
+        void write(final Writer writer) throws IOException {
+
+            this.left.write(writer);
+            this.right.write(writer);
+
+        }
+
+        @Override
+        void append(final StringBuilder output) {
+
+            this.left.append(output);
+            this.right.append(output);
+
+        }
+
+        @Override
+        String flatString() {
+
+            final StringBuilder output = new StringBuilder(this.length);
+            this.append(output);
+
+            return output.toString();
+
+        }
+
+    }
+
+}
@@ -0,0 +1,279 @@
+package com.etdon.commons.util;
+
+import com.etdon.commons.conditional.Preconditions;
+import org.jetbrains.annotations.NotNullByDefault;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Splits character sequences at a separator character using {@link String#indexOf(int, int)} instead of copying
+ * every character. The semantics match {@link Strings#split(String, char)}: an input containing <code>n</code>
+ * separators consists of <code>n + 1</code> parts, empty parts included.
+ * <p>
+ * Parts are provided as views over the input that do not copy any characters until
+ * {@link CharSequence#toString()} is called, or as part end indices written into a caller provided array without any
+ * allocation. Large inputs can be split in parallel through {@link Splitter#spliterator(CharSequence)}.
+ */
+@NotNullByDefault
+public final class Splitter {
+
+    /**
+     * The minimum count of characters of a range before a spliterator splits it further.
+     */
+    private static final int MINIMUM_SPLIT_LENGTH = 1 << 12;
+
+    private final char separator;
+
+    private Splitter(final char separator) {
+
+        this.separator = separator;
+
+    }
+
+    /**
+     * Returns a lazy iterable over the parts of the provided input. Every iterator scans the input on demand, parts
+     * following the last consumed one are never looked at.
+     *
+     * @param input the input
+     * @return the parts
+     */
+    public Iterable<CharSequence> split(final CharSequence input) {
+
+        Preconditions.checkNotNull(input);
+        return () -> new PartIterator(input);
+
+    }
+
+    /**
+     * Writes the exclusive end index of every part of the provided input into the provided array, stopping once the
+     * array is full. Part <code>i</code> spans from <code>ends[i - 1] + 1</code> (or <code>0</code> for the first
+     * part) to <code>ends[i]</code>. If the input contains more parts than the array holds the last written end is
+     * the index of a separator, otherwise it is the input length.
+     *
+     * @param input the input
+     * @param ends  the target array
+     * @return the count of written part ends
+     */
+    public int split(final CharSequence input, final int[] ends) {
+
+        Preconditions.checkNotNull(input);
+        Preconditions.checkNotNull(ends);
+        final int length = input.length();
+        int count = 0;
+        int start = 0;
+        while (count < ends.length) {
+            final int index = this.indexOf(input, start, length);
+            ends[count++] = index;
+            if (index == length)
+                break;
+            start = index + 1;
+        }
+
+        return count;
+
+    }
+
+    /**
+     * Returns the part of the provided input at the provided index, scanning only up to the end of that part.
+     *
+     * @param input the input
+     * @param index the part index
+     * @return the part
+     * @throws IndexOutOfBoundsException if the input has no part at the provided index
+     */
+    public CharSequence part(final CharSequence input, final int index) {
+
+        Preconditions.checkNotNull(input);
+        final int length = input.length();
+        int start = 0;
+        for (int i = 0; i < index && start <= length; i++)
+            start = this.indexOf(input, start, length) + 1;
+        if (index < 0 || start > length)
+            throw new IndexOutOfBoundsException("The input has no part at index " + index + ".");
+
+        return new CharSequenceView(input, start, this.indexOf(input, start, length));
+
+    }
+
+    /**
+     * Returns a spliterator over the parts of the provided input. Splitting divides the remaining range at the
+     * separator closest to its middle, ranges shorter than 4096 characters are not split any further.
+     *
+     * @param input the input
+     * @return the spliterator
+     */
+    public Spliterator<CharSequence> spliterator(final CharSequence input) {
+
+        Preconditions.checkNotNull(input);
+        return new PartSpliterator(input, 0, input.length());
+
+    }
+
+    /**
+     * Returns a sequential or parallel stream over the parts of the provided input.
+     *
+     * @param input    the input
+     * @param parallel whether the stream is parallel
+     * @return the stream
+     */
+    public Stream<CharSequence> stream(final CharSequence input, final boolean parallel) {
+
+        return StreamSupport.stream(this.spliterator(input), parallel);
+
+    }
+
+    public char getSeparator() {
+
+        return this.separator;
+
+    }
+
+    /**
+     * Returns the index of the first separator at or after the provided start index and before the provided end
+     * index, or the end index if there is none.
+     */
+    private int indexOf(final CharSequence input, final int start, final int end) {
+
+        if (input instanceof String) {
+            final int index = ((String) input).indexOf(this.separator, start);
+            return index < 0 || index > end ? end : index;
+        }
+
+        for (int i = start; i < end; i++) {
+            if (input.charAt(i) == this.separator)
+                return i;
+        }
+
+        return end;
+
+    }
+
+    /**
+     * Creates a new splitter splitting at the provided separator character.
+     *
+     * @param separator the separator character
+     * @return the splitter
+     */
+    public static Splitter on(final char separator) {
+
+        return new Splitter(separator);
+
+    }
+
+    private final class PartIterator implements Iterator<CharSequence> {
+
+        private final CharSequence input;
+        private int start = 0;
+        private boolean done = false;
+
+        private PartIterator(final CharSequence input) {
+
+            this.input = input;
+
+        }
+
+        @Override
+        public boolean hasNext() {
+
+            return !this.done;
+
+        }
+
+        @Override
+        public CharSequence next() {
+
+            if (this.done)
+                throw new NoSuchElementException();
+
+            final int end = Splitter.this.indexOf(this.input, this.start, this.input.length());
+            final CharSequence part = new CharSequenceView(this.input, this.start, end);
+            this.done = end == this.input.length();
+            this.start = end + 1;
+
+            return part;
+
+        }
+
+    }
+
+    /**
+     * Spliterator over the parts of a range of the input. The range always starts at a part start and ends at a
+     * separator or the input end, the parts of both halves of a split therefore add up to the parts of the range.
+     */
+    private final class PartSpliterator implements Spliterator<CharSequence> {
+
+        private final CharSequence input;
+        private int start;
+        private final int end;
+        private boolean done = false;
+
+        private PartSpliterator(final CharSequence input, final int start, final int end) {
+
+            this.input = input;
+            this.start = start;
+            this.end = end;
+
+        }
+
+        @Override
+        public boolean tryAdvance(final Consumer<? super CharSequence> action) {
+
+            if (this.done)
+                return false;
+
+            final int index = Splitter.this.indexOf(this.input, this.start, this.end);
+            action.accept(new CharSequenceView(this.input, this.start, index));
+            this.done = index == this.end;
+            this.start = index + 1;
+
+            return true;
+
+        }
+
+        @Override
+        public Spliterator<CharSequence> trySplit() {
+
+            if (this.done || this.end - this.start < MINIMUM_SPLIT_LENGTH)
+                return null;
+
+            final int middle = this.start + (this.end - this.start) / 2;
+            int index = Splitter.this.indexOf(this.input, middle, this.end);
+            if (index == this.end) {
+                index = -1;
+                for (int i = middle - 1; i >= this.start && index < 0; i--) {
+                    if (this.input.charAt(i) == Splitter.this.separator)
+                        index = i;
+                }
+                if (index < 0)
+                    return null;
+            }
+
+            final PartSpliterator prefix = new PartSpliterator(this.input, this.start, index);
+            this.start = index + 1;
+
+            return prefix;
+
+        }
+
+        @Override
+        public long estimateSize() {
+
+            return this.done ? 0 : this.end - this.start + 1;
+
+        }
+
+        @Override
+        public int characteristics() {
+
+            return Spliterator.ORDERED | Spliterator.NONNULL;
+
+        }
+
+    }
+
+}
@@ -7,6 +7,7 @@ import com.etdon.commons.trait.Traits;
 import org.jetbrains.annotations.NotNullByDefault;
 import org.jetbrains.annotations.Nullable;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -21,7 +22,7 @@ public final class Strings {
      * placeholder consists of a {@link Constants#DEFAULT_VALUE_START_IDENTIFIER} directly followed by a
      * {@link Constants#DEFAULT_VALUE_END_IDENTIFIER} (e.g. <code>{}</code>) and can be escaped by preceding it with the
      * {@link Constants#ESCAPE_IDENTIFIER}. If the input contains more placeholders than values are provided the surplus
-     * placeholders are left untouched. The input is returned unchanged if no values are provided.
+     * placeholders are removed. The input is returned unchanged if no values are provided.
      *
      * @param input  the input
      * @param values the placeholder values
@@ -34,28 +35,53 @@ public final class Strings {
         if (values.length == 0)
             return input;
 
-        final StringBuilder output = new StringBuilder();
-        final char[] chars = input.toCharArray();
-        int valueOffset = 0;
-        for (int i = 0; i < chars.length; i++) {
-            final char c = chars[i];
-            if (c == Constants.DEFAULT_VALUE_START_IDENTIFIER) {
-                if ((i - 1) >= 0 && chars[i - 1] == Constants.ESCAPE_IDENTIFIER) {
-                    output.append(c);
-                    continue;
-                } else if ((i + 1) < chars.length && chars[i + 1] == Constants.DEFAULT_VALUE_END_IDENTIFIER) {
-                    if (valueOffset < values.length) {
-                        output.append(values[valueOffset]);
-                        valueOffset++;
-                    }
-                    i++;
-                    continue;
-                }
-            }
-            output.append(c);
+        return MessageTemplate.compile(input).render(values);
+
+    }
+
+    /**
+     * Appends the provided input with its value placeholders replaced to the provided builder.
+     *
+     * @param output the target builder
+     * @param input  the input
+     * @param values the placeholder values
+     * @return the target builder
+     * @see Strings#applyValues(String, Object...)
+     */
+    public static StringBuilder appendValues(final StringBuilder output, final String input, final Object... values) {
+
+        Preconditions.checkNotNull(output);
+        Preconditions.checkNotNull(input);
+        Preconditions.checkNotNull(values);
+        if (values.length == 0)
+            return output.append(input);
+
+        return MessageTemplate.compile(input).renderTo(output, values);
+
+    }
+
+    /**
+     * Appends the provided input with its value placeholders replaced to the provided appendable.
+     *
+     * @param output the target appendable
+     * @param input  the input
+     * @param values the placeholder values
+     * @param <A>    the appendable type
+     * @return the target appendable
+     * @throws IOException if the appendable fails to append
+     * @see Strings#applyValues(String, Object...)
+     */
+    public static <A extends Appendable> A appendValues(final A output, final String input, final Object... values) throws IOException {
+
+        Preconditions.checkNotNull(output);
+        Preconditions.checkNotNull(input);
+        Preconditions.checkNotNull(values);
+        if (values.length == 0) {
+            output.append(input);
+            return output;
         }
 
-        return output.toString();
+        return MessageTemplate.compile(input).renderTo(output, values);
 
     }
 
@@ -66,21 +92,16 @@ public final class Strings {
      * @param input     the input
      * @param splitChar the delimiter character
      * @return the parts
+     * @see Splitter
      */
     public static List<String> split(final String input, final char splitChar) {
 
         Preconditions.checkNotNull(input);
         final List<String> output = new ArrayList<>(5);
-        final StringBuilder partBuilder = new StringBuilder();
-        for (final char c : input.toCharArray()) {
-            if (c == splitChar) {
-                output.add(partBuilder.toString());
-                partBuilder.setLength(0);
-            } else {
-                partBuilder.append(c);
-            }
-        }
-        output.add(partBuilder.toString());
+        int start = 0;
+        for (int index; (index = input.indexOf(splitChar, start)) >= 0; start = index + 1)
+            output.add(input.substring(start, index));
+        output.add(input.substring(start));
 
         return output;
 
@@ -100,11 +121,59 @@ public final class Strings {
         if (count <= 1)
             return input;
 
-        final StringBuilder output = new StringBuilder();
-        for (int i = 0; i < count; i++)
+        return appendRepeated(new StringBuilder(0), input, count).toString();
+
+    }
+
+    /**
+     * Appends the provided input the provided amount of times, but at least once, to the provided builder. The
+     * builder is presized to fit all repetitions.
+     *
+     * @param output the target builder
+     * @param input  the input
+     * @param count  the repeat count
+     * @return the target builder
+     * @see Strings#repeat(String, int)
+     */
+    public static StringBuilder appendRepeated(final StringBuilder output, final CharSequence input, final int count) {
+
+        Preconditions.checkNotNull(output);
+        Preconditions.checkNotNull(input);
+        final int repetitions = Math.max(1, count);
+        final long length = output.length() + (long) input.length() * repetitions;
+        Preconditions.checkArgument(length <= Integer.MAX_VALUE, "The repeated length ({}) exceeds the maximum string length.", length);
+        output.ensureCapacity((int) length);
+        for (int i = 0; i < repetitions; i++)
             output.append(input);
 
-        return output.toString();
+        return output;
+
+    }
+
+    /**
+     * Appends the provided input the provided amount of times, but at least once, to the provided appendable.
+     *
+     * @param output the target appendable
+     * @param input  the input
+     * @param count  the repeat count
+     * @param <A>    the appendable type
+     * @return the target appendable
+     * @throws IOException if the appendable fails to append
+     * @see Strings#repeat(String, int)
+     */
+    public static <A extends Appendable> A appendRepeated(final A output, final CharSequence input, final int count) throws IOException {
+
+        Preconditions.checkNotNull(output);
+        if (output instanceof StringBuilder) {
+            appendRepeated((StringBuilder) output, input, count);
+            return output;
+        }
+
+        Preconditions.checkNotNull(input);
+        for (int i = 0; i < Math.max(1, count); i++)
+            output.append(input);
+
+        return output;
 
     }
 
@@ -123,45 +192,187 @@ public final class Strings {
     }
 
     /**
-     * Splits the provided input into chunks of the provided size separated by the provided separator character.
+     * Splits the provided input into chunks of the provided size separated by the provided separator character. A
+     * negative chunk size behaves like its absolute value, unlike
+     * {@link Strings#appendChunks(StringBuilder, CharSequence, int, char)} which only accepts positive sizes.
      *
      * @param input     the input
      * @param chunkSize the chunk size
      * @param separator the separator character
      * @return the chunked input
+     * @throws ArithmeticException if the chunk size is <code>0</code> and the input isn't empty
      */
     public static String toChunks(final String input, final int chunkSize, final char separator) {
 
-        final StringBuilder output = new StringBuilder();
-        final char[] chars = input.toCharArray();
-        for (int i = 0; i < chars.length; i++) {
-            output.append(chars[i]);
-            if ((i + 1) % chunkSize == 0 && (i + 1) < chars.length)
+        if (input.isEmpty())
+            return input;
+
+        return appendChunks(new StringBuilder(0), input, absoluteSize(chunkSize), separator).toString();
+
+    }
+
+    /**
+     * Appends the provided input split into chunks of the provided size separated by the provided separator character
+     * to the provided builder. The builder is presized to fit the chunked input.
+     *
+     * @param output    the target builder
+     * @param input     the input
+     * @param chunkSize the chunk size
+     * @param separator the separator character
+     * @return the target builder
+     * @see Strings#toChunks(String, int, char)
+     */
+    public static StringBuilder appendChunks(final StringBuilder output, final CharSequence input, final int chunkSize, final char separator) {
+
+        Preconditions.checkNotNull(output);
+        Preconditions.checkNotNull(input);
+        Preconditions.checkArgument(chunkSize > 0, "The chunk size ({}) has to be positive.", chunkSize);
+        final int length = input.length();
+        if (length == 0)
+            return output;
+
+        output.ensureCapacity(output.length() + length + (length - 1) / chunkSize);
+        for (int start = 0; start < length; start += chunkSize) {
+            if (start > 0)
                 output.append(separator);
+            output.append(input, start, Math.min(length, start + chunkSize));
         }
 
-        return output.toString();
+        return output;
 
     }
 
     /**
-     * Splits the provided input into lines of the provided size separated by the system line separator.
+     * Appends the provided input split into chunks of the provided size separated by the provided separator character
+     * to the provided appendable.
+     *
+     * @param output    the target appendable
+     * @param input     the input
+     * @param chunkSize the chunk size
+     * @param separator the separator character
+     * @param <A>       the appendable type
+     * @return the target appendable
+     * @throws IOException if the appendable fails to append
+     * @see Strings#toChunks(String, int, char)
+     */
+    public static <A extends Appendable> A appendChunks(final A output, final CharSequence input, final int chunkSize, final char separator) throws IOException {
+
+        Preconditions.checkNotNull(output);
+        if (output instanceof StringBuilder) {
+            appendChunks((StringBuilder) output, input, chunkSize, separator);
+            return output;
+        }
+
+        Preconditions.checkNotNull(input);
+        Preconditions.checkArgument(chunkSize > 0, "The chunk size ({}) has to be positive.", chunkSize);
+        final int length = input.length();
+        for (int start = 0; start < length; start += chunkSize) {
+            if (start > 0)
+                output.append(separator);
+            output.append(input, start, Math.min(length, start + chunkSize));
+        }
+
+        return output;
+
+    }
+
+    /**
+     * Splits the provided input into lines of the provided size separated by the system line separator. A negative
+     * line size behaves like its absolute value, unlike {@link Strings#appendLines(StringBuilder, CharSequence, int)}
+     * which only accepts positive sizes.
      *
      * @param input    the input
      * @param lineSize the line size
      * @return the input split into lines
+     * @throws ArithmeticException if the line size is <code>0</code> and the input isn't empty
      */
     public static String toLines(final String input, final int lineSize) {
 
-        final StringBuilder output = new StringBuilder();
-        final char[] chars = input.toCharArray();
-        for (int i = 0; i < chars.length; i++) {
-            output.append(chars[i]);
-            if ((i + 1) % lineSize == 0 && (i + 1) < chars.length)
+        if (input.isEmpty())
+            return input;
+
+        return appendLines(new StringBuilder(0), input, absoluteSize(lineSize)).toString();
+
+    }
+
+    /**
+     * Maps the provided chunk or line size to the positive size {@link Strings#toChunks(String, int, char)} and
+     * {@link Strings#toLines(String, int)} have always split by: negative sizes behave like their absolute value and
+     * <code>0</code> fails like the modulo the split used to be computed with.
+     *
+     * @param size the chunk or line size
+     * @return the positive size
+     */
+    private static int absoluteSize(final int size) {
+
+        if (size == 0)
+            throw new ArithmeticException("/ by zero");
+
+        return size == Integer.MIN_VALUE ? Integer.MAX_VALUE : Math.abs(size);
+
+    }
+
+    /**
+     * Appends the provided input split into lines of the provided size separated by the system line separator to the
+     * provided builder. The builder is presized to fit all lines.
+     *
+     * @param output   the target builder
+     * @param input    the input
+     * @param lineSize the line size
+     * @return the target builder
+     * @see Strings#toLines(String, int)
+     */
+    public static StringBuilder appendLines(final StringBuilder output, final CharSequence input, final int lineSize) {
+
+        Preconditions.checkNotNull(output);
+        Preconditions.checkNotNull(input);
+        Preconditions.checkArgument(lineSize > 0, "The line size ({}) has to be positive.", lineSize);
+        final int length = input.length();
+        if (length == 0)
+            return output;
+
+        final String lineSeparator = System.lineSeparator();
+        output.ensureCapacity(output.length() + length + (length - 1) / lineSize * lineSeparator.length());
+        for (int start = 0; start < length; start += lineSize) {
+            if (start > 0)
+                output.append(lineSeparator);
+            output.append(input, start, Math.min(length, start + lineSize));
+        }
+
+        return output;
+
+    }
+
+    /**
+     * Appends the provided input split into lines of the provided size separated by the system line separator to the
+     * provided appendable.
+     *
+     * @param output   the target appendable
+     * @param input    the input
+     * @param lineSize the line size
+     * @param <A>      the appendable type
+     * @return the target appendable
+     * @throws IOException if the appendable fails to append
+     * @see Strings#toLines(String, int)
+     */
+    public static <A extends Appendable> A appendLines(final A output, final CharSequence input, final int lineSize) throws IOException {
+
+        Preconditions.checkNotNull(output);
+        if (output instanceof StringBuilder) {
+            appendLines((StringBuilder) output, input, lineSize);
+            return output;
+        }
+
+        Preconditions.checkNotNull(input);
+        Preconditions.checkArgument(lineSize > 0, "The line size ({}) has to be positive.", lineSize);
+        final int length = input.length();
+        for (int start = 0; start < length; start += lineSize) {
+            if (start > 0)
                 output.append(System.lineSeparator());
+            output.append(input, start, Math.min(length, start + lineSize));
         }
 
-        return output.toString();
+        return output;
 
     }
 
@@ -178,6 +389,40 @@ public final class Strings {
 
     }
 
+    /**
+     * Appends the provided input surrounded with the provided affix on both sides to the provided builder.
+     * <code>null</code> values are skipped.
+     *
+     * @param output the target builder
+     * @param affix  the affix
+     * @param input  the input
+     * @return the target builder
+     * @see Strings#surround(String, String)
+     */
+    public static StringBuilder appendSurrounded(final StringBuilder output, @Nullable final String affix, @Nullable final String input) {
+
+        return appendCombined(output, affix, input, affix);
+
+    }
+
+    /**
+     * Appends the provided input surrounded with the provided affix on both sides to the provided appendable.
+     * <code>null</code> values are skipped.
+     *
+     * @param output the target appendable
+     * @param affix  the affix
+     * @param input  the input
+     * @param <A>    the appendable type
+     * @return the target appendable
+     * @throws IOException if the appendable fails to append
+     * @see Strings#surround(String, String)
+     */
+    public static <A extends Appendable> A appendSurrounded(final A output, @Nullable final String affix, @Nullable final String input) throws IOException {
+
+        return appendCombined(output, affix, input, affix);
+
+    }
+
     /**
      * Combines the provided inputs into a single string. <code>null</code> inputs are skipped. An empty string is
      * returned if the provided array is <code>null</code> or empty.
@@ -190,20 +435,77 @@ public final class Strings {
         if (inputs == null || inputs.length == 0)
             return "";
 
-        final StringBuilder stringBuilder = new StringBuilder();
-        for (final String input : inputs) {
+        return appendCombined(new StringBuilder(0), inputs).toString();
+
+    }
+
+    /**
+     * Appends the provided inputs to the provided builder. <code>null</code> inputs are skipped. The builder is
+     * presized to fit all inputs. Any character sequence is accepted, e.g. builders or {@link Rope ropes}, and appended
+     * without being converted to a string first.
+     *
+     * @param output the target builder
+     * @param inputs the inputs
+     * @return the target builder
+     * @see Strings#combine(String...)
+     */
+    public static StringBuilder appendCombined(final StringBuilder output, @Nullable final CharSequence... inputs) {
+
+        Preconditions.checkNotNull(output);
+        if (inputs == null)
+            return output;
+
+        long length = output.length();
+        for (final CharSequence input : inputs) {
+            if (input != null)
+                length += input.length();
+        }
+        Preconditions.checkArgument(length <= Integer.MAX_VALUE, "The combined length ({}) exceeds the maximum string length.", length);
+        output.ensureCapacity((int) length);
+        for (final CharSequence input : inputs) {
             if (input == null) continue;
-            stringBuilder.append(input);
+            output.append(input);
+        }
+
+        return output;
+
+    }
+
+    /**
+     * Appends the provided inputs to the provided appendable. <code>null</code> inputs are skipped.
+     *
+     * @param output the target appendable
+     * @param inputs the inputs
+     * @param <A>    the appendable type
+     * @return the target appendable
+     * @throws IOException if the appendable fails to append
+     * @see Strings#combine(String...)
+     */
+    public static <A extends Appendable> A appendCombined(final A output, @Nullable final CharSequence... inputs) throws IOException {
+
+        Preconditions.checkNotNull(output);
+        if (output instanceof StringBuilder) {
+            appendCombined((StringBuilder) output, inputs);
+            return output;
+        }
+
+        if (inputs == null)
+            return output;
+
+        for (final CharSequence input : inputs) {
+            if (input == null) continue;
+            output.append(input);
         }
 
-        return stringBuilder.toString();
+        return output;
 
     }
 
     /**
      * Joins the provided inputs into a single string separated by the provided separator. <code>null</code> inputs are
-     * skipped and no trailing separator is appended. An empty string is returned if the provided array is
-     * <code>null</code> or empty.
+     * skipped, every other input is followed by the separator unless it's the last element of the array. Trailing
+     * <code>null</code> inputs therefore leave a trailing separator, e.g. <code>list(",", "a", null)</code> returns
+     * <code>a,</code>. An empty string is returned if the provided array is <code>null</code> or empty.
      *
      * @param separator the separator
      * @param inputs    the inputs
@@ -214,16 +516,133 @@ public final class Strings {
         if (inputs == null || inputs.length == 0)
             return "";
 
-        final StringBuilder stringBuilder = new StringBuilder();
+        return appendList(new StringBuilder(0), separator, inputs).toString();
+
+    }
+
+    /**
+     * Appends the provided inputs separated by the provided separator to the provided builder. <code>null</code>
+     * inputs are skipped. The builder is presized to fit all inputs and separators. Any character sequence is accepted
+     * and appended without being converted to a string first.
+     *
+     * @param output    the target builder
+     * @param separator the separator
+     * @param inputs    the inputs
+     * @return the target builder
+     * @see Strings#list(String, String...)
+     */
+    public static StringBuilder appendList(final StringBuilder output, @Nullable final CharSequence separator, @Nullable final CharSequence... inputs) {
+
+        Preconditions.checkNotNull(output);
+        if (inputs == null)
+            return output;
+
+        long length = output.length();
+        for (int i = 0; i < inputs.length; i++) {
+            final CharSequence input = inputs[i];
+            if (input == null) continue;
+            length += input.length();
+            if (separator != null && i < (inputs.length - 1))
+                length += separator.length();
+        }
+        Preconditions.checkArgument(length <= Integer.MAX_VALUE, "The listed length ({}) exceeds the maximum string length.", length);
+        output.ensureCapacity((int) length);
+        for (int i = 0; i < inputs.length; i++) {
+            final CharSequence input = inputs[i];
+            if (input == null) continue;
+            output.append(input);
+            if (separator != null && i < (inputs.length - 1))
+                output.append(separator);
+        }
+
+        return output;
+
+    }
+
+    /**
+     * Appends the provided inputs separated by the provided separator to the provided appendable. <code>null</code>
+     * inputs are skipped.
+     *
+     * @param output    the target appendable
+     * @param separator the separator
+     * @param inputs    the inputs
+     * @param <A>       the appendable type
+     * @return the target appendable
+     * @throws IOException if the appendable fails to append
+     * @see Strings#list(String, String...)
+     */
+    public static <A extends Appendable> A appendList(final A output, @Nullable final CharSequence separator, @Nullable final CharSequence... inputs) throws IOException {
+
+        Preconditions.checkNotNull(output);
+        if (output instanceof StringBuilder) {
+            appendList((StringBuilder) output, separator, inputs);
+            return output;
+        }
+
+        if (inputs == null)
+            return output;
+
+        for (int i = 0; i < inputs.length; i++) {
+            final CharSequence input = inputs[i];
+            if (input == null) continue;
+            output.append(input);
+            if (separator != null && i < (inputs.length - 1))
+                output.append(separator);
+        }
+
+        return output;
+
+    }
+
+    /**
+     * Combines the provided inputs into a {@link Rope} sharing the inputs instead of copying them. <code>null</code>
+     * inputs are skipped. An empty rope is returned if the provided array is <code>null</code> or empty.
+     *
+     * @param inputs the inputs
+     * @return the combined rope
+     * @see Strings#combine(String...)
+     */
+    public static Rope combineRope(@Nullable final String... inputs) {
+
+        if (inputs == null || inputs.length == 0)
+            return Rope.empty();
+
+        final List<CharSequence> parts = new ArrayList<>(inputs.length);
+        for (final String input : inputs) {
+            if (input == null) continue;
+            parts.add(input);
+        }
+
+        return Rope.of(parts.toArray(new CharSequence[0]));
+
+    }
+
+    /**
+     * Joins the provided inputs into a {@link Rope} separated by the provided separator, sharing the inputs instead of
+     * copying them. <code>null</code> inputs are skipped, every other input is followed by the separator unless it's the
+     * last element of the array, matching {@link Strings#list(String, String...)}: trailing <code>null</code> inputs
+     * leave a trailing separator. An empty rope is returned if the provided array is <code>null</code> or empty.
+     *
+     * @param separator the separator
+     * @param inputs    the inputs
+     * @return the joined rope
+     * @see Strings#list(String, String...)
+     */
+    public static Rope listRope(@Nullable final String separator, @Nullable final String... inputs) {
+
+        if (inputs == null || inputs.length == 0)
+            return Rope.empty();
+
+        final List<CharSequence> parts = new ArrayList<>(inputs.length * 2);
         for (int i = 0; i < inputs.length; i++) {
             final String input = inputs[i];
             if (input == null) continue;
-            stringBuilder.append(input);
+            parts.add(input);
             if (separator != null && i < (inputs.length - 1))
-                stringBuilder.append(separator);
+                parts.add(separator);
         }
 
-        return stringBuilder.toString();
+        return Rope.of(parts.toArray(new CharSequence[0]));
 
     }
 
@@ -0,0 +1,124 @@
+package com.etdon.commons.io;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Unchecked primitive access to byte arrays in the endianness of choice. Callers are responsible for validating the
+ * accessed range, an out-of-range index results in an {@link ArrayIndexOutOfBoundsException}.
+ * <p>
+ * Java 9+ implementation of the multi-release JAR backed by byte array view {@link VarHandle}s which are compiled to
+ * single intrinsic loads and stores.
+ */
+final class ByteAccess {
+
+    private static final VarHandle SHORT_LITTLE_ENDIAN = MethodHandles.byteArrayViewVarHandle(short[].class, java.nio.ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle SHORT_BIG_ENDIAN = MethodHandles.byteArrayViewVarHandle(short[].class, java.nio.ByteOrder.BIG_ENDIAN);
+    private static final VarHandle INT_LITTLE_ENDIAN = MethodHandles.byteArrayViewVarHandle(int[].class, java.nio.ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle INT_BIG_ENDIAN = MethodHandles.byteArrayViewVarHandle(int[].class, java.nio.ByteOrder.BIG_ENDIAN);
+    private static final VarHandle LONG_LITTLE_ENDIAN = MethodHandles.byteArrayViewVarHandle(long[].class, java.nio.ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle LONG_BIG_ENDIAN = MethodHandles.byteArrayViewVarHandle(long[].class, java.nio.ByteOrder.BIG_ENDIAN);
+
+    /**
+     * Reads a short at the provided index.
+     *
+     * @param bytes     the byte array
+     * @param index     the index
+     * @param byteOrder the byte order
+     * @return the short
+     */
+    static short getShort(final byte[] bytes, final int index, final ByteOrder byteOrder) {
+
+        return byteOrder == ByteOrder.LITTLE_ENDIAN ? (short) SHORT_LITTLE_ENDIAN.get(bytes, index) : (short) SHORT_BIG_ENDIAN.get(bytes, index);
+
+    }
+
+    /**
+     * Reads an integer at the provided index.
+     *
+     * @param bytes     the byte array
+     * @param index     the index
+     * @param byteOrder the byte order
+     * @return the integer
+     */
+    static int getInt(final byte[] bytes, final int index, final ByteOrder byteOrder) {
+
+        return byteOrder == ByteOrder.LITTLE_ENDIAN ? (int) INT_LITTLE_ENDIAN.get(bytes, index) : (int) INT_BIG_ENDIAN.get(bytes, index);
+
+    }
+
+    /**
+     * Reads a long at the provided index.
+     *
+     * @param bytes     the byte array
+     * @param index     the index
+     * @param byteOrder the byte order
+     * @return the long
+     */
+    static long getLong(final byte[] bytes, final int index, final ByteOrder byteOrder) {
+
+        return byteOrder == ByteOrder.LITTLE_ENDIAN ? (long) LONG_LITTLE_ENDIAN.get(bytes, index) : (long) LONG_BIG_ENDIAN.get(bytes, index);
+
+    }
+
+    /**
+     * Writes the provided short at the provided index.
+     *
+     * @param bytes     the byte array
+     * @param index     the index
+     * @param value     the short
+     * @param byteOrder the byte order
+     */
+    static void putShort(final byte[] bytes, final int index, final short value, final ByteOrder byteOrder) {
+
+        if (byteOrder == ByteOrder.LITTLE_ENDIAN) {
+            SHORT_LITTLE_ENDIAN.set(bytes, index, value);
+        } else {
+            SHORT_BIG_ENDIAN.set(bytes, index, value);
+        }
+
+    }
+
+    /**
+     * Writes the provided integer at the provided index.
+     *
+     * @param bytes     the byte array
+     * @param index     the index
+     * @param value     the integer
+     * @param byteOrder the byte order
+     */
+    static void putInt(final byte[] bytes, final int index, final int value, final ByteOrder byteOrder) {
+
+        if (byteOrder == ByteOrder.LITTLE_ENDIAN) {
+            INT_LITTLE_ENDIAN.set(bytes, index, value);
+        } else {
+            INT_BIG_ENDIAN.set(bytes, index, value);
+        }
+
+    }
+
+    /**
+     * Writes the provided long at the provided index.
+     *
+     * @param bytes     the byte array
+     * @param index     the index
+     * @param value     the long
+     * @param byteOrder the byte order
+     */
+    static void putLong(final byte[] bytes, final int index, final long value, final ByteOrder byteOrder) {
+
+        if (byteOrder == ByteOrder.LITTLE_ENDIAN) {
+            LONG_LITTLE_ENDIAN.set(bytes, index, value);
+        } else {
+            LONG_BIG_ENDIAN.set(bytes, index, value);
+        }
+
+    }
+
+    private ByteAccess() {
+
+        throw new UnsupportedOperationException();
+
+    }
+
+}
@@ -0,0 +1,79 @@
+package com.etdon.commons.codec;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @see Hex
+ */
+public class HexTest {
+
+    @Test
+    public void encode_AllBytes_Success() {
+
+        final byte[] bytes = new byte[256];
+        final StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) i;
+            expected.append(String.format("%02X", i));
+        }
+        assertEquals(expected.toString(), Hex.encode(bytes));
+        assertArrayEquals(bytes, Hex.decode(expected.toString().toLowerCase()));
+
+    }
+
+    @Test
+    public void encode_Targets_Success() throws IOException {
+
+        final byte[] bytes = {0x00, 0x1F, (byte) 0xAB, 0x7F};
+        final char[] chars = new char[10];
+        assertEquals(9, Hex.encode(bytes, 0, 4, chars, 1));
+        assertEquals("001FAB7F", new String(chars, 1, 8));
+        final byte[] digits = new byte[4];
+        assertEquals(4, Hex.encode(bytes, 1, 2, digits, 0));
+        assertArrayEquals("1FAB".getBytes(), digits);
+        final StringBuilder stringBuilder = new StringBuilder("0x");
+        Hex.encode(bytes, 0, 4, stringBuilder);
+        assertEquals("0x001FAB7F", stringBuilder.toString());
+        final StringWriter writer = new StringWriter();
+        final byte[] large = new byte[1000];
+        large[999] = 1;
+        Hex.encode(large, 0, large.length, writer);
+        assertEquals(Hex.encode(large), writer.toString());
+
+    }
+
+    @Test
+    public void encode_Long_Success() {
+
+        final char[] chars = new char[16];
+        Hex.encode(0x0123456789ABCDEFL, chars, 0);
+        assertEquals("0123456789ABCDEF", new String(chars));
+
+    }
+
+    @Test
+    public void decode_Invalid_Throws() {
+
+        assertThrows(IllegalArgumentException.class, () -> Hex.decode("ABC"));
+        assertThrows(IllegalArgumentException.class, () -> Hex.decode("0G"));
+        assertThrows(IllegalArgumentException.class, () -> Hex.decode("\u00FF0"));
+
+    }
+
+    @Test
+    public void decode_Range_Success() {
+
+        final byte[] target = new byte[3];
+        assertEquals(3, Hex.decode("xxAB0cxx", 2, 6, target, 1));
+        assertArrayEquals(new byte[]{0, (byte) 0xAB, 0x0C}, target);
+
+    }
+
+}
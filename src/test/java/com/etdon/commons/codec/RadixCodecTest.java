@@ -0,0 +1,134 @@
+package com.etdon.commons.codec;
+
+import com.etdon.commons.io.ByteReader;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @see RadixCodec
+ */
+public class RadixCodecTest {
+
+    private static final String[] FOOBAR = {"", "f", "fo", "foo", "foob", "fooba", "foobar"};
+
+    @Test
+    public void encode_Base32Vectors_Success() {
+
+        final String[] base32 = {"", "MY======", "MZXQ====", "MZXW6===", "MZXW6YQ=", "MZXW6YTB", "MZXW6YTBOI======"};
+        final String[] base32Hex = {"", "CO======", "CPNG====", "CPNMU===", "CPNMUOG=", "CPNMUOJ1", "CPNMUOJ1E8======"};
+        for (int i = 0; i < FOOBAR.length; i++) {
+            final byte[] bytes = FOOBAR[i].getBytes(StandardCharsets.US_ASCII);
+            assertEquals(base32[i], RadixCodec.BASE32.encode(bytes));
+            assertEquals(base32Hex[i], RadixCodec.BASE32_HEX.encode(bytes));
+            assertArrayEquals(bytes, RadixCodec.BASE32.decode(base32[i]));
+            assertArrayEquals(bytes, RadixCodec.BASE32.decode(base32[i].replace("=", "").toLowerCase()));
+            assertArrayEquals(bytes, RadixCodec.BASE32_HEX.decode(base32Hex[i]));
+        }
+
+    }
+
+    @Test
+    public void encode_Base64_MatchesJdk() {
+
+        final Random random = new Random(64);
+        for (int length = 0; length < 40; length++) {
+            final byte[] bytes = new byte[length];
+            random.nextBytes(bytes);
+            final String standard = Base64.getEncoder().encodeToString(bytes);
+            final String url = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+            assertEquals(standard, RadixCodec.BASE64.encode(bytes));
+            assertEquals(url, RadixCodec.BASE64_URL.encode(bytes));
+            assertEquals(url, RadixCodec.BASE64_URL.encode(ByteReader.of(bytes)));
+            assertArrayEquals(bytes, RadixCodec.BASE64.decode(standard));
+            assertArrayEquals(bytes, RadixCodec.BASE64_URL.decode(url));
+            assertArrayEquals(bytes, RadixCodec.BASE64_URL.withPadding(true).decode(url));
+        }
+
+    }
+
+    @Test
+    public void encode_BigRadix_MatchesBigInteger() {
+
+        final Random random = new Random(58);
+        for (int length = 1; length < 40; length++) {
+            final byte[] bytes = new byte[length];
+            random.nextBytes(bytes);
+            bytes[0] = (byte) (bytes[0] | 1);
+            final String base36 = new BigInteger(1, bytes).toString(36).toUpperCase();
+            assertEquals(base36, RadixCodec.BASE36.encode(bytes));
+            assertArrayEquals(bytes, RadixCodec.BASE36.decode(base36.toLowerCase()));
+            final String base58 = RadixCodec.BASE58.encode(bytes);
+            assertArrayEquals(bytes, RadixCodec.BASE58.decode(base58));
+        }
+
+    }
+
+    @Test
+    public void encode_Base58LeadingZeros_Success() {
+
+        final byte[] bytes = {0, 0, 0x28, 0x7F, (byte) 0xB4, (byte) 0xCD};
+        assertEquals("11233QC4", RadixCodec.BASE58.encode(bytes));
+        assertArrayEquals(bytes, RadixCodec.BASE58.decode("11233QC4"));
+        assertEquals("111", RadixCodec.BASE58.encode(new byte[3]));
+        assertArrayEquals(new byte[3], RadixCodec.BASE58.decode("111"));
+        assertEquals("", RadixCodec.BASE58.encode(new byte[0]));
+
+    }
+
+    @Test
+    public void encode_BigRadixReader_Success() {
+
+        final Random random = new Random(36);
+        for (final int length : new int[]{0, 1, 3, 255, 256, 257, 1000}) {
+            final byte[] bytes = new byte[length];
+            random.nextBytes(bytes);
+            for (int i = 0; i < Math.min(length, length / 3 + 1); i++)
+                bytes[i] = 0;
+            final ByteReader byteReader = ByteReader.of(bytes);
+            assertEquals(RadixCodec.BASE58.encode(bytes), RadixCodec.BASE58.encode(byteReader));
+            assertEquals(0, byteReader.getRemaining());
+            assertEquals(RadixCodec.BASE36.encode(bytes), RadixCodec.BASE36.encode(ByteReader.of(bytes)));
+        }
+
+    }
+
+    @Test
+    public void encode_Targets_Success() {
+
+        final byte[] bytes = "Hello World!".getBytes(StandardCharsets.US_ASCII);
+        final char[] chars = new char[20];
+        final int end = RadixCodec.BASE58.encode(bytes, 0, bytes.length, chars, 2);
+        assertEquals("2NEpo7TZRRrLZSi2U", new String(chars, 2, end - 2));
+        final byte[] digits = new byte[RadixCodec.BASE64.getMaxEncodedLength(5)];
+        assertEquals(digits.length, RadixCodec.BASE64.encode(bytes, 0, 5, digits, 0));
+        assertEquals("SGVsbG8=", new String(digits, StandardCharsets.US_ASCII));
+        final byte[] decoded = new byte[14];
+        assertEquals(13, RadixCodec.BASE58.decode(new String(chars), 2, end, decoded, 1));
+        assertArrayEquals(bytes, Arrays.copyOfRange(decoded, 1, 13));
+
+    }
+
+    @Test
+    public void decode_Invalid_Throws() {
+
+        assertThrows(IllegalArgumentException.class, () -> RadixCodec.BASE58.decode("0"));
+        assertThrows(IllegalArgumentException.class, () -> RadixCodec.BASE64.decode("A"));
+        assertThrows(IllegalArgumentException.class, () -> RadixCodec.BASE64.decode("AB=="));
+        assertThrows(IllegalArgumentException.class, () -> RadixCodec.BASE64.decode("QQ="));
+        assertThrows(IllegalArgumentException.class, () -> RadixCodec.BASE32.decode("MZXW6YTB1"));
+        assertEquals("The Base64 input has an invalid length (1).", assertThrows(IllegalArgumentException.class, () -> RadixCodec.BASE64.decode("A")).getMessage());
+        assertEquals("The padded Base64 input has an invalid length (3).", assertThrows(IllegalArgumentException.class, () -> RadixCodec.BASE64.decode("QQ=")).getMessage());
+        assertThrows(IllegalArgumentException.class, () -> RadixCodec.BASE58.encode(new byte[]{1}, 0, 1, new char[0], 0));
+
+    }
+
+}
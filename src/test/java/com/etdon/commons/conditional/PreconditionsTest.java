@@ -0,0 +1,87 @@
+package com.etdon.commons.conditional;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * @see Preconditions
+ */
+public class PreconditionsTest {
+
+    private static final int ITERATIONS = 100_000;
+
+    @Test
+    public void checkState_FixedArity_Throws() {
+
+        final IllegalStateException stateException = assertThrows(IllegalStateException.class, () -> Preconditions.checkState(false, "The offset ({}) exceeds {}.", 12, 8));
+        assertEquals("The offset (12) exceeds 8.", stateException.getMessage());
+        final IllegalArgumentException argumentException = assertThrows(IllegalArgumentException.class, () -> Preconditions.checkArgument(false, "{} {} {}", "a", null, 'c'));
+        assertEquals("a null c", argumentException.getMessage());
+        final NullPointerException nullPointerException = assertThrows(NullPointerException.class, () -> Preconditions.checkNotNull(null, "Missing {}.", "value"));
+        assertEquals("Missing value.", nullPointerException.getMessage());
+        assertEquals("No {}.", assertThrows(IllegalStateException.class, () -> Preconditions.checkState(false, "No {}.")).getMessage());
+
+    }
+
+    @Test
+    public void checkArgument_CharValue_Throws() {
+
+        final IllegalArgumentException argumentException = assertThrows(IllegalArgumentException.class, () -> Preconditions.checkArgument(false, "bad {}", 'x'));
+        assertEquals("bad x", argumentException.getMessage());
+        final IllegalStateException stateException = assertThrows(IllegalStateException.class, () -> Preconditions.checkState(false, "bad {}", 'y'));
+        assertEquals("bad y", stateException.getMessage());
+        final NullPointerException nullPointerException = assertThrows(NullPointerException.class, () -> Preconditions.checkNotNull(null, "bad {}", 'z'));
+        assertEquals("bad z", nullPointerException.getMessage());
+
+    }
+
+    @Test
+    public void checkArgument_CharValues_Throws() {
+
+        final IllegalArgumentException argumentException = assertThrows(IllegalArgumentException.class, () -> Preconditions.checkArgument(false, "{} {}", 'a', 'b'));
+        assertEquals("a b", argumentException.getMessage());
+        final IllegalStateException stateException = assertThrows(IllegalStateException.class, () -> Preconditions.checkState(false, "{} {} {}", 'a', 1, 'c'));
+        assertEquals("a 1 c", stateException.getMessage());
+        final NullPointerException nullPointerException = assertThrows(NullPointerException.class, () -> Preconditions.checkNotNull(null, "{} {}", 2L, 'b'));
+        assertEquals("2 b", nullPointerException.getMessage());
+
+    }
+
+    @Test
+    public void checkState_Passing_DoesNotAllocate() {
+
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+        final com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threadMXBean.isThreadAllocatedMemorySupported() && threadMXBean.isThreadAllocatedMemoryEnabled());
+        final long threadId = Thread.currentThread().getId();
+        final String reference = "reference";
+        this.check(reference, ITERATIONS);
+
+        final long baseline = threadMXBean.getThreadAllocatedBytes(threadId);
+        final long measurement = threadMXBean.getThreadAllocatedBytes(threadId) - baseline;
+        final long before = threadMXBean.getThreadAllocatedBytes(threadId);
+        this.check(reference, ITERATIONS);
+        final long allocated = threadMXBean.getThreadAllocatedBytes(threadId) - before - measurement;
+        assertEquals(0, allocated / ITERATIONS, "Allocated " + allocated + " bytes in " + ITERATIONS + " iterations.");
+
+    }
+
+    private void check(final String reference, final int iterations) {
+
+        for (int i = 0; i < iterations; i++) {
+            Preconditions.checkState(i >= 0, "The index ({}) cannot be negative.", i);
+            Preconditions.checkState(i < iterations, "The index ({}) exceeds the count ({}).", i, iterations);
+            Preconditions.checkArgument(i >= 0, "The range ({}, {}, {}) is invalid.", i, iterations, (long) i);
+            Preconditions.checkArgument(i >= 0, "The reference ({}, {}) is invalid.", reference, reference);
+            Preconditions.checkNotNull(reference, "The reference ({}) is null.", reference);
+            Preconditions.checkState(i >= 0, "The index cannot be negative.");
+        }
+
+    }
+
+}
@@ -0,0 +1,134 @@
+package com.etdon.commons.io;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * @see ByteAccess
+ */
+public class ByteAccessTest {
+
+    private static final String VERSIONED_CLASS = "META-INF/versions/9/com/etdon/commons/io/ByteAccess.class";
+    private static final int LENGTH = 32;
+
+    @Test
+    public void versioned_MatchesFallback_Success() throws ReflectiveOperationException {
+
+        final URL resource = ByteAccessTest.class.getClassLoader().getResource(VERSIONED_CLASS);
+        assumeTrue(resource != null, "The multi-release layer has not been compiled.");
+        final Class<?> versioned = new VersionedClassLoader(resource).loadClass(ByteAccess.class.getName());
+        assertNotSame(ByteAccess.class, versioned);
+        assertTrue(Arrays.stream(versioned.getDeclaredFields()).anyMatch(field -> field.getType().getName().equals("java.lang.invoke.VarHandle")));
+
+        final Method getShort = accessible(versioned.getDeclaredMethod("getShort", byte[].class, int.class, ByteOrder.class));
+        final Method getInt = accessible(versioned.getDeclaredMethod("getInt", byte[].class, int.class, ByteOrder.class));
+        final Method getLong = accessible(versioned.getDeclaredMethod("getLong", byte[].class, int.class, ByteOrder.class));
+        final Method putShort = accessible(versioned.getDeclaredMethod("putShort", byte[].class, int.class, short.class, ByteOrder.class));
+        final Method putInt = accessible(versioned.getDeclaredMethod("putInt", byte[].class, int.class, int.class, ByteOrder.class));
+        final Method putLong = accessible(versioned.getDeclaredMethod("putLong", byte[].class, int.class, long.class, ByteOrder.class));
+        final Random random = new Random(1);
+        final byte[] bytes = new byte[LENGTH];
+        random.nextBytes(bytes);
+        for (final ByteOrder byteOrder : ByteOrder.values()) {
+            for (int index = 0; index <= LENGTH - Long.BYTES; index++) {
+                assertEquals(ByteAccess.getShort(bytes, index, byteOrder), invoke(getShort, bytes, index, byteOrder));
+                assertEquals(ByteAccess.getInt(bytes, index, byteOrder), invoke(getInt, bytes, index, byteOrder));
+                assertEquals(ByteAccess.getLong(bytes, index, byteOrder), invoke(getLong, bytes, index, byteOrder));
+
+                final long value = random.nextLong();
+                final byte[] expected = new byte[LENGTH];
+                final byte[] actual = new byte[LENGTH];
+                ByteAccess.putShort(expected, index, (short) value, byteOrder);
+                invoke(putShort, actual, index, (short) value, byteOrder);
+                ByteAccess.putInt(expected, index + 1, (int) value, byteOrder);
+                invoke(putInt, actual, index + 1, (int) value, byteOrder);
+                assertArrayEquals(expected, actual);
+                ByteAccess.putLong(expected, index, value, byteOrder);
+                invoke(putLong, actual, index, value, byteOrder);
+                assertArrayEquals(expected, actual);
+            }
+        }
+
+    }
+
+    private static Method accessible(final Method method) {
+
+        method.setAccessible(true);
+        return method;
+
+    }
+
+    private static Object invoke(final Method method, final Object... arguments) throws ReflectiveOperationException {
+
+        try {
+            return method.invoke(null, arguments);
+        } catch (final InvocationTargetException exception) {
+            if (exception.getCause() instanceof RuntimeException)
+                throw (RuntimeException) exception.getCause();
+            throw exception;
+        }
+
+    }
+
+    /**
+     * Defines the Java 9+ layer of {@link ByteAccess} from the multi-release output directly, since the exploded
+     * test classpath always resolves the fallback. All other classes are loaded by the parent.
+     */
+    private static final class VersionedClassLoader extends ClassLoader {
+
+        private final URL resource;
+
+        private VersionedClassLoader(final URL resource) {
+
+            super(ByteAccessTest.class.getClassLoader());
+            this.resource = resource;
+
+        }
+
+        @Override
+        protected Class<?> loadClass(final String name, final boolean resolve) throws ClassNotFoundException {
+
+            if (!name.equals(ByteAccess.class.getName()))
+                return super.loadClass(name, resolve);
+
+            synchronized (this.getClassLoadingLock(name)) {
+                final Class<?> loaded = this.findLoadedClass(name);
+                return loaded != null ? loaded : this.findClass(name);
+            }
+
+        }
+
+        @Override
+        protected Class<?> findClass(final String name) throws ClassNotFoundException {
+
+            try (final InputStream inputStream = this.resource.openStream()) {
+                final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+                final byte[] buffer = new byte[4096];
+                int read;
+                while ((read = inputStream.read(buffer)) != -1)
+                    outputStream.write(buffer, 0, read);
+                final byte[] bytes = outputStream.toByteArray();
+                return this.defineClass(name, bytes, 0, bytes.length);
+            } catch (final IOException exception) {
+                throw new ClassNotFoundException(name, exception);
+            }
+
+        }
+
+    }
+
+}
@@ -0,0 +1,132 @@
+package com.etdon.commons.io;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @see ByteBufferPool
+ */
+public class ByteBufferPoolTest {
+
+    @Test
+    public void acquire_SizeClasses_Success() {
+
+        final ByteBufferPool pool = ByteBufferPool.builder().minimumSize(64).maximumSize(1024).build();
+        assertEquals(64, pool.acquire(0).getCapacity());
+        assertEquals(64, pool.acquire(64).getCapacity());
+        assertEquals(128, pool.acquire(65).getCapacity());
+        assertEquals(1024, pool.acquire(1024).getCapacity());
+        assertEquals(1025, pool.acquire(1025).getCapacity());
+
+    }
+
+    @Test
+    public void release_Reuse_Success() {
+
+        final ByteBufferPool pool = ByteBufferPool.builder().minimumSize(64).build();
+        final ByteBuffer byteBuffer = pool.acquire(100);
+        byteBuffer.setByteOrder(ByteOrder.BIG_ENDIAN);
+        byteBuffer.put(42);
+        pool.release(byteBuffer);
+        final ByteBuffer reused = pool.acquire(128);
+        assertSame(byteBuffer, reused);
+        assertEquals(0, reused.getSize());
+        assertEquals(ByteOrder.LITTLE_ENDIAN, reused.getByteOrder());
+        assertNotSame(reused, pool.acquire(128));
+
+    }
+
+    @Test
+    public void release_GrownBuffer_MovesSizeClass() {
+
+        final ByteBufferPool pool = ByteBufferPool.builder().minimumSize(64).build();
+        final ByteBuffer byteBuffer = pool.acquire(64);
+        for (int i = 0; i < 100; i++)
+            byteBuffer.put((byte) i);
+        pool.release(byteBuffer);
+        assertNotSame(byteBuffer, pool.acquire(64));
+        assertSame(byteBuffer, pool.acquire(128));
+
+    }
+
+    @Test
+    public void release_SharedStage_Success() throws InterruptedException {
+
+        final ByteBufferPool pool = ByteBufferPool.builder().threadLocalCapacity(0).sharedCapacity(1).build();
+        final ByteBuffer byteBuffer = pool.acquire();
+        pool.release(byteBuffer);
+        final List<ByteBuffer> acquired = new ArrayList<>();
+        final Thread thread = new Thread(() -> acquired.add(pool.acquire()));
+        thread.start();
+        thread.join();
+        assertSame(byteBuffer, acquired.get(0));
+
+    }
+
+    @Test
+    public void release_Twice_Throws() {
+
+        final ByteBufferPool pool = ByteBufferPool.builder().build();
+        final ByteBuffer byteBuffer = pool.acquire();
+        pool.release(byteBuffer);
+        assertThrows(IllegalStateException.class, () -> pool.release(byteBuffer));
+
+    }
+
+    @Test
+    public void release_SinkBuffer_Throws() {
+
+        final ByteBufferPool pool = ByteBufferPool.builder().minimumSize(16).build();
+        final ByteBuffer sink = ByteBuffer.sink(new ByteArrayOutputStream(), 16);
+        sink.put((byte) 1);
+        assertThrows(IllegalArgumentException.class, () -> pool.release(sink));
+        assertFalse(pool.acquire(16).isSink());
+
+    }
+
+    @Test
+    public void acquire_LeakDetection_ReportsLeak() throws InterruptedException {
+
+        final List<Throwable> leaks = new ArrayList<>();
+        final ByteBufferPool pool = ByteBufferPool.builder().leakDetection().leakListener(leaks::add).build();
+        pool.release(pool.acquire());
+        assertEquals(0, pool.getTrackedCount());
+        this.leak(pool);
+        assertEquals(1, pool.getTrackedCount());
+        for (int attempt = 0; attempt < 50 && leaks.isEmpty(); attempt++) {
+            System.gc();
+            Thread.sleep(10);
+            pool.release(pool.acquire());
+        }
+        assertEquals(1, leaks.size());
+        assertTrue(leaks.get(0).getMessage().contains("never released"));
+        assertEquals(0, pool.getTrackedCount());
+
+    }
+
+    @Test
+    public void build_InvalidSizes_Throws() {
+
+        assertThrows(IllegalArgumentException.class, () -> ByteBufferPool.builder().minimumSize(100).build());
+        assertThrows(IllegalArgumentException.class, () -> ByteBufferPool.builder().minimumSize(256).maximumSize(128).build());
+        assertFalse(ByteBufferPool.builder().build().acquire().getCapacity() < 256);
+
+    }
+
+    private void leak(final ByteBufferPool pool) {
+
+        pool.acquire().put(1);
+
+    }
+
+}
@@ -2,7 +2,16 @@ package com.etdon.commons.io;
 
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -31,4 +40,314 @@ public class ByteBufferTest {
 
     }
 
+    @Test
+    public void put_IntegerArray_MatchesSingleValues() {
+
+        final int[] values = {0x01020304, -1, 0, Integer.MIN_VALUE};
+        for (final ByteOrder byteOrder : ByteOrder.values()) {
+            final ByteBuffer expected = ByteBuffer.size(0);
+            expected.setByteOrder(byteOrder);
+            for (final int value : values)
+                expected.put(value);
+            final ByteBuffer actual = ByteBuffer.size(0);
+            actual.setByteOrder(byteOrder);
+            actual.put(values);
+            assertArrayEquals(expected.get(), actual.get());
+        }
+
+    }
+
+    @Test
+    public void put_ShortArrayRange_Success() {
+
+        final ByteBuffer byteBuffer = ByteBuffer.auto();
+        byteBuffer.put(new short[]{0x0102, 0x0304, 0x0506}, 1, 2);
+        assertArrayEquals(new byte[]{0x04, 0x03, 0x06, 0x05}, byteBuffer.get());
+
+    }
+
+    @Test
+    public void putAt_Primitives_MatchesPut() {
+
+        for (final ByteOrder byteOrder : ByteOrder.values()) {
+            final ByteBuffer expected = ByteBuffer.auto();
+            expected.setByteOrder(byteOrder);
+            expected.put((short) 0x0102);
+            expected.put(0x03040506);
+            expected.put(0x0708090A0B0C0D0EL);
+            expected.put(1.5D);
+            expected.put('x');
+            final ByteBuffer actual = ByteBuffer.auto();
+            actual.setByteOrder(byteOrder);
+            for (int i = 0; i < expected.getSize(); i++)
+                actual.put((byte) 0);
+            actual.putAt(0, (short) 0x0102);
+            actual.putAt(2, 0x03040506);
+            actual.putAt(6, 0x0708090A0B0C0D0EL);
+            actual.putAt(14, 1.5D);
+            actual.putAt(22, 'x');
+            assertArrayEquals(expected.get(), actual.get());
+        }
+
+    }
+
+    @Test
+    public void putAt_BeyondSize_Throws() {
+
+        final ByteBuffer byteBuffer = ByteBuffer.auto();
+        byteBuffer.put(0);
+        assertThrows(IllegalStateException.class, () -> byteBuffer.putAt(1, 0));
+        assertThrows(IllegalStateException.class, () -> byteBuffer.putAt(-1, (byte) 0));
+        assertEquals(4, byteBuffer.getSize());
+
+    }
+
+    @Test
+    public void reset_RetainsCapacity_Success() {
+
+        final ByteBuffer byteBuffer = ByteBuffer.size(4);
+        byteBuffer.put(1L);
+        final int capacity = byteBuffer.getCapacity();
+        byteBuffer.reset();
+        assertEquals(0, byteBuffer.getSize());
+        assertEquals(capacity, byteBuffer.getCapacity());
+        byteBuffer.put((byte) 0x7F);
+        assertArrayEquals(new byte[]{0x7F}, byteBuffer.get());
+
+    }
+
+    @Test
+    public void sink_OutputStream_MatchesBuffer() {
+
+        final ByteBuffer expected = ByteBuffer.auto();
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        final ByteBuffer sink = ByteBuffer.sink(outputStream, 16);
+        for (int i = 0; i < 100; i++) {
+            expected.put(i);
+            sink.put(i);
+            expected.putVarLong(i * 1000L);
+            sink.putVarLong(i * 1000L);
+            expected.put(new long[]{i, -i});
+            sink.put(new long[]{i, -i});
+        }
+        assertEquals(16, sink.getCapacity());
+        assertTrue(outputStream.size() > 0);
+        sink.flush();
+        assertEquals(0, sink.getSize());
+        assertEquals(expected.getSize(), sink.getFlushedCount());
+        assertArrayEquals(expected.get(), outputStream.toByteArray());
+
+    }
+
+    @Test
+    public void sink_Channel_MatchesBuffer() {
+
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        final ByteBuffer sink = ByteBuffer.sink(Channels.newChannel(outputStream), 4);
+        sink.setByteOrder(ByteOrder.BIG_ENDIAN);
+        sink.put(0x01020304);
+        sink.put((short) 0x0506);
+        sink.put(0x0708090A0B0C0D0EL);
+        sink.flush();
+        assertArrayEquals(new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14}, outputStream.toByteArray());
+
+    }
+
+    @Test
+    public void sink_FailingStream_Throws() {
+
+        final ByteBuffer sink = ByteBuffer.sink(new OutputStream() {
+
+            @Override
+            public void write(final int value) throws IOException {
+
+                throw new IOException("closed");
+
+            }
+
+        }, 2);
+        sink.put((short) 1);
+        assertThrows(UncheckedIOException.class, () -> sink.put((byte) 1));
+
+    }
+
+    @Test
+    public void contentEquals_InPlace_Success() {
+
+        final ByteBuffer byteBuffer = ByteBuffer.size(64);
+        for (int i = 0; i < 19; i++)
+            byteBuffer.put((byte) i);
+        final byte[] bytes = byteBuffer.get();
+        assertTrue(byteBuffer.contentEquals(bytes));
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i]++;
+            assertFalse(byteBuffer.contentEquals(bytes));
+            bytes[i]--;
+        }
+        assertFalse(byteBuffer.contentEquals(new byte[18]));
+
+    }
+
+    @Test
+    public void toByteReader_SharedArray_Success() {
+
+        final ByteBuffer byteBuffer = ByteBuffer.auto();
+        byteBuffer.setByteOrder(ByteOrder.BIG_ENDIAN);
+        byteBuffer.put(0x01020304);
+        byteBuffer.put(-7L);
+        final ByteReader byteReader = byteBuffer.toByteReader();
+        byteBuffer.put((byte) 1);
+        assertEquals(ByteOrder.BIG_ENDIAN, byteReader.getByteOrder());
+        assertEquals(12, byteReader.getLength());
+        assertEquals(0x01020304, byteReader.readInteger());
+        assertEquals(-7L, byteReader.readLong());
+
+    }
+
+    @Test
+    public void toByteReader_AliasedWrites_Visible() {
+
+        final ByteBuffer byteBuffer = ByteBuffer.size(8);
+        byteBuffer.put(0);
+        final ByteReader overwritten = byteBuffer.toByteReader();
+        byteBuffer.putAt(0, 5);
+        assertEquals(5, overwritten.readInteger());
+
+        final ByteReader reused = byteBuffer.toByteReader();
+        byteBuffer.reset();
+        byteBuffer.put(9);
+        assertEquals(9, reused.readInteger());
+
+        final ByteReader detached = byteBuffer.toByteReader();
+        byteBuffer.put(new long[]{1L, 2L});
+        byteBuffer.putAt(0, 3);
+        assertEquals(9, detached.readInteger());
+
+    }
+
+    @Test
+    public void asNioBuffer_View_Success() {
+
+        final ByteBuffer byteBuffer = ByteBuffer.size(64);
+        byteBuffer.put(0x01020304);
+        final java.nio.ByteBuffer view = byteBuffer.asNioBuffer();
+        assertTrue(view.isReadOnly());
+        assertEquals(0, view.position());
+        assertEquals(4, view.limit());
+        assertEquals(0x01020304, view.getInt());
+
+    }
+
+    @Test
+    public void writeTo_OutputStream_Success() throws IOException {
+
+        final ByteBuffer byteBuffer = ByteBuffer.size(64);
+        byteBuffer.put(1L);
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        byteBuffer.writeTo(outputStream);
+        assertArrayEquals(byteBuffer.get(), outputStream.toByteArray());
+
+    }
+
+    @Test
+    public void reserveInt_LengthPrefix_Success() {
+
+        final ByteBuffer byteBuffer = ByteBuffer.auto();
+        byteBuffer.setByteOrder(ByteOrder.BIG_ENDIAN);
+        final ByteBuffer.Reservation reservation = byteBuffer.reserveInt();
+        byteBuffer.put((short) 0x0102);
+        byteBuffer.put((byte) 3);
+        reservation.resolveLength();
+        assertTrue(reservation.isResolved());
+        assertArrayEquals(new byte[]{0, 0, 0, 3, 1, 2, 3}, byteBuffer.get());
+        assertThrows(IllegalStateException.class, () -> reservation.resolve(0));
+
+    }
+
+    @Test
+    public void reserveVarInt_NestedCompaction_Success() {
+
+        final ByteBuffer byteBuffer = ByteBuffer.auto();
+        byteBuffer.put((byte) 0x7F);
+        final ByteBuffer.Reservation outer = byteBuffer.reserveVarInt(5);
+        byteBuffer.put((byte) 1);
+        final ByteBuffer.Reservation inner = byteBuffer.reserveVarInt(3);
+        final ByteBuffer.Reservation checksum = byteBuffer.reserveShort();
+        for (int i = 0; i < 200; i++)
+            byteBuffer.put((byte) i);
+        inner.resolve(checksum.getLength() + Short.BYTES);
+        outer.resolveLength();
+        assertEquals(6, checksum.getIndex());
+        checksum.resolve(0x0A0B);
+
+        final ByteReader byteReader = byteBuffer.toByteReader();
+        assertEquals(0x7F, byteReader.readByte());
+        assertEquals(byteBuffer.getSize() - 3, byteReader.readVarInt());
+        assertEquals(1, byteReader.readByte());
+        assertEquals(202, byteReader.readVarInt());
+        assertEquals(0x0A0B, byteReader.readShort());
+        for (int i = 0; i < 200; i++)
+            assertEquals((byte) i, byteReader.readByte());
+
+    }
+
+    @Test
+    public void reserveVarInt_OuterResolvedFirst_Throws() {
+
+        final ByteBuffer byteBuffer = ByteBuffer.auto();
+        final ByteBuffer.Reservation outer = byteBuffer.reserveInt();
+        final ByteBuffer.Reservation inner = byteBuffer.reserveVarInt(3);
+        byteBuffer.put((byte) 1);
+        assertThrows(IllegalStateException.class, outer::resolveLength);
+        assertFalse(outer.isResolved());
+        inner.resolveLength();
+        outer.resolveLength();
+        assertArrayEquals(new byte[]{2, 0, 0, 0, 1, 1}, byteBuffer.get());
+
+    }
+
+    @Test
+    public void reserveVarInt_ValueTooLarge_Throws() {
+
+        final ByteBuffer byteBuffer = ByteBuffer.auto();
+        final ByteBuffer.Reservation reservation = byteBuffer.reserveVarInt(1);
+        assertThrows(IllegalStateException.class, () -> reservation.resolve(128));
+        byteBuffer.reset();
+        assertThrows(IllegalStateException.class, () -> reservation.resolve(1));
+        assertThrows(IllegalArgumentException.class, () -> byteBuffer.reserveVarInt(6));
+
+    }
+
+    @Test
+    public void reserveInt_PendingSink_DefersFlush() {
+
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        final ByteBuffer sink = ByteBuffer.sink(outputStream, 4);
+        final ByteBuffer.Reservation reservation = sink.reserveInt();
+        sink.put(1L);
+        assertEquals(0, outputStream.size());
+        reservation.resolveLength();
+        sink.flush();
+        assertArrayEquals(new byte[]{8, 0, 0, 0, 1, 0, 0, 0, 0, 0, 0, 0}, outputStream.toByteArray());
+
+    }
+
+
+    @Test
+    public void flush_PendingReservation_Throws() {
+
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        for (final AbstractByteBuffer sink : new AbstractByteBuffer[]{ByteBuffer.sink(outputStream, 16), DirectByteBuffer.sink(outputStream, 16)}) {
+            final AbstractByteBuffer.Reservation reservation = sink.reserveInt();
+            sink.put((byte) 1, (byte) 2);
+            assertThrows(IllegalStateException.class, sink::flush);
+            assertEquals(0, outputStream.size());
+            reservation.resolveLength();
+            sink.flush();
+            assertArrayEquals(new byte[]{2, 0, 0, 0, 1, 2}, outputStream.toByteArray());
+            outputStream.reset();
+        }
+
+    }
+
 }
@@ -0,0 +1,74 @@
+package com.etdon.commons.io;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares parsing a fixed-size 64 byte header using the checked read methods against a pre-validated
+ * {@link ByteReader.Region}. Run after <code>mvn test-compile</code> using
+ * <code>java -cp target/test-classes:target/classes:&lt;test classpath&gt; org.openjdk.jmh.Main ByteReaderBenchmark</code>.
+ *
+ * @see ByteReader
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ByteReaderBenchmark {
+
+    private static final int HEADER_SIZE = 64;
+
+    private byte[] header;
+
+    @Setup
+    public void setup() {
+
+        this.header = new byte[HEADER_SIZE];
+        new Random(0).nextBytes(this.header);
+
+    }
+
+    @Benchmark
+    public long checked() {
+
+        final ByteReader byteReader = ByteReader.of(this.header);
+        long result = byteReader.readLong();
+        for (int i = 0; i < 8; i++)
+            result += byteReader.readInteger();
+        for (int i = 0; i < 8; i++)
+            result += byteReader.readShort();
+        result += byteReader.readLong();
+
+        return result;
+
+    }
+
+    @Benchmark
+    public long region() {
+
+        final ByteReader.Region region = ByteReader.of(this.header).require(HEADER_SIZE);
+        long result = region.readLong();
+        for (int i = 0; i < 8; i++)
+            result += region.readInteger();
+        for (int i = 0; i < 8; i++)
+            result += region.readShort();
+        result += region.readLong();
+
+        return result;
+
+    }
+
+}
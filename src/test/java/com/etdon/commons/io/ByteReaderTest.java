@@ -2,7 +2,11 @@ package com.etdon.commons.io;
 
 import org.junit.jupiter.api.Test;
 
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 /**
  * @see ByteReader
@@ -27,4 +31,180 @@ public class ByteReaderTest {
 
     }
 
+    @Test
+    public void readIntegers_BigEndian_Success() {
+
+        final byte[] input = new byte[]{0x01, 0x02, 0x03, 0x04, 0x05, 0x06, 0x07, 0x08, 0x09};
+        final ByteReader byteReader = ByteReader.of(ByteOrder.BIG_ENDIAN, input);
+        final int[] target = new int[3];
+        byteReader.readIntegers(target, 1, 2);
+        assertArrayEquals(new int[]{0, 0x01020304, 0x05060708}, target);
+        assertEquals(8, byteReader.getOffset());
+
+    }
+
+    @Test
+    public void readIntegers_EndOfArray_Throws() {
+
+        final ByteReader byteReader = ByteReader.of(new byte[7]);
+        assertThrows(IllegalStateException.class, () -> byteReader.readIntegers(new int[2], 0, 2));
+        assertEquals(0, byteReader.getOffset());
+
+    }
+
+    @Test
+    public void readDoubles_RoundTrip_Success() {
+
+        final double[] values = {0.5, -1.25, Double.MAX_VALUE, Double.NaN};
+        final ByteBuffer byteBuffer = ByteBuffer.auto();
+        byteBuffer.setByteOrder(ByteOrder.BIG_ENDIAN);
+        byteBuffer.put(values);
+        final double[] target = new double[values.length];
+        ByteReader.of(ByteOrder.BIG_ENDIAN, byteBuffer.get()).readDoubles(target, 0, target.length);
+        assertArrayEquals(values, target);
+
+    }
+
+    @Test
+    public void require_Example_Success() {
+
+        final byte[] input = new byte[]{0x01, 0x02, 0x03, 0x04, 0x05, 0x06, 0x07, 0x08, 0x09};
+        final ByteReader byteReader = ByteReader.of(ByteOrder.BIG_ENDIAN, input);
+        byteReader.skip(1);
+        final ByteReader.Region region = byteReader.require(6);
+        assertEquals(7, byteReader.getOffset());
+        assertEquals((short) 0x0203, region.readShort());
+        assertEquals(0x04050607, region.readInteger());
+        assertEquals(0, region.getRemaining());
+
+    }
+
+    @Test
+    public void require_EndOfArray_Throws() {
+
+        final ByteReader byteReader = ByteReader.of(new byte[8]);
+        byteReader.skip(2);
+        assertThrows(IllegalStateException.class, () -> byteReader.require(7));
+
+    }
+
+    @Test
+    public void require_ReadPastRegionOverSlice_Throws() {
+
+        final byte[] input = new byte[]{0x01, 0x02, 0x03, 0x04, 0x05, 0x06, 0x07, 0x08, 0x09};
+        final ByteReader slice = ByteReader.of(input).slice(1, 4);
+        final ByteReader.Region region = slice.require(4);
+        assertEquals(0x02, region.readByte());
+        assertThrows(IllegalStateException.class, region::readInteger);
+        assertThrows(IllegalStateException.class, () -> region.skip(4));
+        assertEquals(3, region.getRemaining());
+        region.skip(2);
+        assertEquals(0x05, region.readByte());
+        assertThrows(IllegalStateException.class, region::readByte);
+
+    }
+
+    @Test
+    public void readSlice_SharesBytes_Success() {
+
+        final byte[] input = new byte[]{0x01, 0x02, 0x03, 0x04, 0x05, 0x06, 0x07, 0x08, 0x09};
+        final ByteReader byteReader = ByteReader.of(ByteOrder.BIG_ENDIAN, input);
+        byteReader.skip(2);
+        final ByteReader slice = byteReader.readSlice(4);
+        assertEquals(6, byteReader.getOffset());
+        assertEquals(ByteOrder.BIG_ENDIAN, slice.getByteOrder());
+        assertEquals(4, slice.getLength());
+        assertEquals((short) 0x0304, slice.peekShort());
+        input[2] = 0x0F;
+        assertEquals(0x0F040506, slice.readInteger());
+        assertEquals(0, slice.getRemaining());
+
+    }
+
+    @Test
+    public void slice_OutOfRange_Throws() {
+
+        final ByteReader byteReader = ByteReader.of(new byte[8]);
+        final ByteReader slice = byteReader.slice(2, 4);
+        assertThrows(IllegalStateException.class, () -> slice.slice(1, 4));
+        assertThrows(IllegalStateException.class, () -> slice.peekOffsetByte(-1));
+        assertThrows(IllegalStateException.class, () -> slice.readBytes(5));
+
+    }
+
+    @Test
+    public void readInto_Example_Success() {
+
+        final ByteReader byteReader = ByteReader.of(new byte[]{0x01, 0x02, 0x03, 0x04});
+        final byte[] target = new byte[4];
+        byteReader.skip(1);
+        byteReader.readInto(target, 1, 3);
+        assertArrayEquals(new byte[]{0x00, 0x02, 0x03, 0x04}, target);
+        assertEquals(4, byteReader.getOffset());
+
+    }
+
+    @Test
+    public void peekOffsetLong_Example_Success() {
+
+        final byte[] input = new byte[]{0x00, 0x01, 0x02, 0x03, 0x04, 0x05, 0x06, 0x07, 0x08, 0x09};
+        assertEquals(0x0908070605040302L, ByteReader.of(input).peekOffsetLong(2));
+        assertEquals(0x0203040506070809L, ByteReader.of(ByteOrder.BIG_ENDIAN, input).peekOffsetLong(2));
+
+    }
+
+    @Test
+    public void readInteger_EndOfArray_KeepsOffset() {
+
+        final ByteReader byteReader = ByteReader.of(new byte[6]);
+        byteReader.skip(3);
+        assertThrows(IllegalStateException.class, byteReader::readInteger);
+        assertEquals(3, byteReader.getOffset());
+
+    }
+
+    @Test
+    public void readVarLengthString_RoundTrip_Success() {
+
+        final String[] values = {"", "ascii only, longer than eight bytes", "\u00E4\u00F6\u00FC", "\u20AC 5", "\uD834\uDD1E clef", "mixed ascii then \u00DF"};
+        final ByteBuffer byteBuffer = ByteBuffer.auto();
+        for (final String value : values)
+            byteBuffer.putVarLengthString(value);
+        final ByteReader byteReader = byteBuffer.toByteReader();
+        for (final String value : values)
+            assertEquals(value, byteReader.readVarLengthString());
+        assertEquals(0, byteReader.getRemaining());
+
+    }
+
+    @Test
+    public void readUtf8_MatchesJdk_Success() {
+
+        final String value = "a\u00E4\u0800\uFFFF\uD83D\uDE00\uD800x\uDC00";
+        final byte[] expected = value.getBytes(StandardCharsets.UTF_8);
+        final ByteBuffer byteBuffer = ByteBuffer.auto();
+        byteBuffer.putUtf8(value);
+        assertArrayEquals(expected, byteBuffer.get());
+        assertEquals(new String(expected, StandardCharsets.UTF_8), ByteReader.of(expected).readUtf8(expected.length));
+
+    }
+
+    @Test
+    public void readUtf8_AsciiPrefixAndMalformed_MatchesJdk() {
+
+        final byte[] input = {'a', 'b', 'c', 'd', 'e', 'f', 'g', 'h', 'i', (byte) 0xC3, (byte) 0xA4, (byte) 0xE0, (byte) 0x80, 'j', (byte) 0xFF, (byte) 0xF0, (byte) 0x9F};
+        for (int length = 0; length <= input.length; length++)
+            assertEquals(new String(input, 0, length, StandardCharsets.UTF_8), ByteReader.of(input).readUtf8(length));
+
+    }
+
+    @Test
+    public void readVarLengthString_Truncated_KeepsOffset() {
+
+        final ByteReader byteReader = ByteReader.of(new byte[]{0x05, 0x61, 0x62});
+        assertThrows(IllegalStateException.class, byteReader::readVarLengthString);
+        assertEquals(0, byteReader.getOffset());
+
+    }
+
 }
@@ -0,0 +1,130 @@
+package com.etdon.commons.io;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @see DeltaSequence
+ */
+public class DeltaSequenceTest {
+
+    @Test
+    public void encode_RoundTrip_Success() {
+
+        final Random random = new Random(0);
+        for (final int blockSize : new int[]{1, 3, 8, DeltaSequence.DEFAULT_BLOCK_SIZE}) {
+            for (int length = 0; length < 300; length += 7) {
+                final long[] values = sorted(random, length);
+                final ByteBuffer byteBuffer = ByteBuffer.auto();
+                DeltaSequence.encode(values, 0, length, blockSize, byteBuffer);
+                byteBuffer.put((byte) 0x7F);
+                final ByteReader byteReader = ByteReader.of(byteBuffer.get());
+                final DeltaSequence.Cursor cursor = DeltaSequence.open(byteReader);
+                final long[] decoded = new long[cursor.getCount()];
+                for (int i = 0; i < decoded.length; i++)
+                    decoded[i] = cursor.next();
+                assertArrayEquals(values, decoded);
+                assertFalse(cursor.hasNext());
+                assertEquals(0x7F, byteReader.readByte());
+            }
+        }
+
+    }
+
+    @Test
+    public void encode_ExtremeDeltas_Success() {
+
+        final long[] values = {Long.MIN_VALUE, Long.MIN_VALUE, -1, 0, Long.MAX_VALUE};
+        final ByteBuffer byteBuffer = ByteBuffer.auto();
+        DeltaSequence.encode(values, 0, values.length, byteBuffer);
+        final DeltaSequence.Cursor cursor = DeltaSequence.open(ByteReader.of(byteBuffer.get()));
+        for (final long value : values)
+            assertEquals(value, cursor.next());
+
+    }
+
+    @Test
+    public void encode_ConstantDeltas_Compact() {
+
+        final long[] values = new long[1000];
+        for (int i = 0; i < values.length; i++)
+            values[i] = 1_000_000_000L + i * 5L;
+        final ByteBuffer byteBuffer = ByteBuffer.auto();
+        DeltaSequence.encode(values, 0, values.length, byteBuffer);
+        assertTrue(byteBuffer.getSize() < 100);
+
+    }
+
+    @Test
+    public void encode_Unsorted_Throws() {
+
+        assertThrows(IllegalArgumentException.class, () -> DeltaSequence.encode(new long[]{1, 3, 2}, 0, 3, ByteBuffer.auto()));
+        assertThrows(IllegalArgumentException.class, () -> DeltaSequence.encode(new long[]{1, 5, 2, 3}, 0, 4, 2, ByteBuffer.auto()));
+
+    }
+
+    @Test
+    public void advanceTo_Targets_Success() {
+
+        final Random random = new Random(1);
+        final long[] values = sorted(random, 1000);
+        final ByteBuffer byteBuffer = ByteBuffer.auto();
+        DeltaSequence.encode(values, 0, values.length, 16, byteBuffer);
+        final byte[] bytes = byteBuffer.get();
+        for (int round = 0; round < 50; round++) {
+            final DeltaSequence.Cursor cursor = DeltaSequence.open(ByteReader.of(bytes));
+            long target = values[0] - 1;
+            while (true) {
+                target += random.nextInt(1 << 20);
+                int expected = Arrays.binarySearch(values, target);
+                if (expected < 0) {
+                    expected = -expected - 1;
+                } else {
+                    while (expected > 0 && values[expected - 1] == target)
+                        expected--;
+                }
+                expected = Math.max(expected, cursor.getPosition());
+                final boolean found = cursor.advanceTo(target);
+                assertEquals(expected < values.length, found);
+                if (!found)
+                    break;
+                assertEquals(expected, cursor.getPosition());
+                assertEquals(values[expected], cursor.peek());
+            }
+        }
+
+    }
+
+    @Test
+    public void next_Exhausted_Throws() {
+
+        final ByteBuffer byteBuffer = ByteBuffer.auto();
+        DeltaSequence.encode(new long[]{4}, 0, 1, byteBuffer);
+        final DeltaSequence.Cursor cursor = DeltaSequence.open(ByteReader.of(byteBuffer.get()));
+        assertEquals(4, cursor.next());
+        assertThrows(NoSuchElementException.class, cursor::next);
+
+    }
+
+    private static long[] sorted(final Random random, final int length) {
+
+        final long[] values = new long[length];
+        long value = random.nextLong() >> 8;
+        for (int i = 0; i < length; i++) {
+            value += random.nextInt(4) == 0 ? 0 : random.nextInt(1 << random.nextInt(20));
+            values[i] = value;
+        }
+        return values;
+
+    }
+
+}
@@ -0,0 +1,186 @@
+package com.etdon.commons.io;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @see DirectByteBuffer
+ */
+public class DirectByteBufferTest {
+
+    @Test
+    public void put_MatchesHeapBuffer_Success() {
+
+        for (final ByteOrder byteOrder : ByteOrder.values()) {
+            final ByteBuffer expected = ByteBuffer.size(1);
+            expected.setByteOrder(byteOrder);
+            final DirectByteBuffer actual = DirectByteBuffer.size(1);
+            actual.setByteOrder(byteOrder);
+            expected.put((byte) 1, (byte) 2, (byte) 3);
+            actual.put((byte) 1, (byte) 2, (byte) 3);
+            expected.put(true);
+            actual.put(true);
+            expected.put((short) 0x0102);
+            actual.put((short) 0x0102);
+            expected.put(0x03040506);
+            actual.put(0x03040506);
+            expected.put(-2L);
+            actual.put(-2L);
+            expected.put(1.25F);
+            actual.put(1.25F);
+            expected.put(-3.5D);
+            actual.put(-3.5D);
+            expected.putVarLong(300);
+            actual.putVarLong(300);
+            expected.putSignedVarLong(-300);
+            actual.putSignedVarLong(-300);
+            expected.put(new int[]{1, 2, 3});
+            actual.put(new int[]{1, 2, 3});
+            expected.put(new double[]{0.5, 1.5}, 1, 1);
+            actual.put(new double[]{0.5, 1.5}, 1, 1);
+            expected.putAt(3, (short) 0x7F7F);
+            actual.putAt(3, (short) 0x7F7F);
+            assertArrayEquals(expected.get(), actual.get());
+            assertEquals(expected.getSize(), actual.getSize());
+        }
+
+    }
+
+    @Test
+    public void writeTo_Channel_Success() throws IOException {
+
+        final DirectByteBuffer directByteBuffer = DirectByteBuffer.auto();
+        for (int i = 0; i < 100; i++)
+            directByteBuffer.put(i);
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        directByteBuffer.writeTo(Channels.newChannel(outputStream));
+        assertArrayEquals(directByteBuffer.get(), outputStream.toByteArray());
+
+    }
+
+    @Test
+    public void writeTo_FileChannelPosition_Success(@TempDir final Path directory) throws IOException {
+
+        final Path file = directory.resolve("direct.bin");
+        final DirectByteBuffer directByteBuffer = DirectByteBuffer.auto();
+        directByteBuffer.put((byte) 1, (byte) 2, (byte) 3);
+        try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            directByteBuffer.writeTo(channel, 2);
+            assertEquals(0, channel.position());
+        }
+        assertArrayEquals(new byte[]{0, 0, 1, 2, 3}, Files.readAllBytes(file));
+
+    }
+
+    @Test
+    public void reset_RetainsCapacity_Success() {
+
+        final DirectByteBuffer directByteBuffer = DirectByteBuffer.size(2);
+        directByteBuffer.put(1L);
+        final int capacity = directByteBuffer.getCapacity();
+        directByteBuffer.reset();
+        assertEquals(0, directByteBuffer.getSize());
+        assertEquals(capacity, directByteBuffer.getCapacity());
+        assertThrows(IllegalStateException.class, () -> directByteBuffer.putAt(0, 1));
+
+    }
+
+
+    @Test
+    public void reserveVarInt_Nested_MatchesHeapBuffer() {
+
+        for (final ByteOrder byteOrder : ByteOrder.values()) {
+            final ByteBuffer expected = ByteBuffer.size(1);
+            expected.setByteOrder(byteOrder);
+            final DirectByteBuffer actual = DirectByteBuffer.size(1);
+            actual.setByteOrder(byteOrder);
+            for (final AbstractByteBuffer byteBuffer : new AbstractByteBuffer[]{expected, actual}) {
+                final AbstractByteBuffer.Reservation outer = byteBuffer.reserveVarInt(5);
+                final AbstractByteBuffer.Reservation checksum = byteBuffer.reserveInt();
+                final AbstractByteBuffer.Reservation inner = byteBuffer.reserveVarInt(3);
+                for (int i = 0; i < 20; i++)
+                    byteBuffer.put(i);
+                byteBuffer.putUtf8("d\u00e9j\u00e0 vu");
+                inner.resolveLength();
+                checksum.resolve(0x01020304);
+                outer.resolveLength();
+                byteBuffer.putAt(0, 'x');
+            }
+            assertArrayEquals(expected.get(), actual.get());
+            assertEquals(1 + 4 + 1 + 80 + 9, actual.getSize());
+        }
+
+    }
+
+    @Test
+    public void sink_OutputStream_Success() {
+
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        final DirectByteBuffer directByteBuffer = DirectByteBuffer.sink(outputStream, 16);
+        final ByteBuffer expected = ByteBuffer.auto();
+        for (int i = 0; i < 100; i++) {
+            directByteBuffer.put(i);
+            expected.put(i);
+        }
+        assertTrue(directByteBuffer.isSink());
+        assertEquals(384, directByteBuffer.getFlushedCount());
+        directByteBuffer.flush();
+        assertEquals(400, directByteBuffer.getFlushedCount());
+        assertArrayEquals(expected.get(), outputStream.toByteArray());
+
+    }
+
+    @Test
+    public void sink_ChannelWithReservation_Success() {
+
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        final DirectByteBuffer directByteBuffer = DirectByteBuffer.sink(Channels.newChannel(outputStream), 8);
+        final AbstractByteBuffer.Reservation reservation = directByteBuffer.reserveVarInt(2);
+        for (int i = 0; i < 10; i++)
+            directByteBuffer.put(-1L);
+        reservation.resolveLength();
+        directByteBuffer.put((byte) 7);
+        directByteBuffer.flush();
+        final byte[] bytes = outputStream.toByteArray();
+        assertEquals(82, bytes.length);
+        assertEquals(80, bytes[0]);
+        assertEquals(7, bytes[81]);
+
+    }
+
+
+    @Test
+    public void putUtf8_MatchesHeapBuffer_Success() {
+
+        final String value = "ascii \u00e9\u20ac\ud83d\ude00 \ud800x";
+        final ByteBuffer expected = ByteBuffer.size(1);
+        final DirectByteBuffer actual = DirectByteBuffer.size(1);
+        expected.putVarLengthString(value);
+        actual.putVarLengthString(value);
+        expected.putUtf8(value);
+        actual.putUtf8(value);
+        assertArrayEquals(expected.get(), actual.get());
+
+    }
+
+    @Test
+    public void size_Negative_Throws() {
+
+        assertThrows(IllegalStateException.class, () -> DirectByteBuffer.size(-1));
+
+    }
+
+}
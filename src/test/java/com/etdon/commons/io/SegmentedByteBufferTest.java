@@ -0,0 +1,141 @@
+package com.etdon.commons.io;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @see SegmentedByteBuffer
+ */
+public class SegmentedByteBufferTest {
+
+    @Test
+    public void put_StraddlingChunks_MatchesHeapBuffer() {
+
+        for (final ByteOrder byteOrder : ByteOrder.values()) {
+            for (final int chunkSize : new int[]{2, 4, 8, 16}) {
+                final ByteBuffer expected = ByteBuffer.auto();
+                expected.setByteOrder(byteOrder);
+                final SegmentedByteBuffer actual = SegmentedByteBuffer.chunkSize(chunkSize);
+                actual.setByteOrder(byteOrder);
+                for (int i = 0; i < 10; i++) {
+                    expected.put((byte) i);
+                    actual.put((byte) i);
+                    expected.put((short) (i * 0x0101));
+                    actual.put((short) (i * 0x0101));
+                    expected.put(i * 0x01020304);
+                    actual.put(i * 0x01020304);
+                    expected.put(i * 0x0102030405060708L);
+                    actual.put(i * 0x0102030405060708L);
+                    expected.put(i / 3.0D);
+                    actual.put(i / 3.0D);
+                    expected.putVarLong(i * 1000L);
+                    actual.putVarLong(i * 1000L);
+                    expected.put((byte) 1, (byte) 2, (byte) 3);
+                    actual.put((byte) 1, (byte) 2, (byte) 3);
+                }
+                assertEquals(expected.getSize(), actual.getSize());
+                assertArrayEquals(expected.get(), actual.get());
+            }
+        }
+
+    }
+
+    @Test
+    public void put_Arrays_MatchesHeapBuffer() {
+
+        final short[] shorts = {1, -2, 0x0102};
+        final int[] ints = {3, -4, 0x01020304};
+        final long[] longs = {5L, -6L};
+        final float[] floats = {1.5F, -2.25F};
+        final double[] doubles = {3.5D, -4.75D};
+        for (final ByteOrder byteOrder : ByteOrder.values()) {
+            final ByteBuffer expected = ByteBuffer.auto();
+            expected.setByteOrder(byteOrder);
+            final SegmentedByteBuffer actual = SegmentedByteBuffer.chunkSize(4);
+            actual.setByteOrder(byteOrder);
+            expected.put((byte) 0);
+            actual.put((byte) 0);
+            expected.put(shorts);
+            actual.put(shorts);
+            expected.put(ints);
+            actual.put(ints);
+            expected.put(longs);
+            actual.put(longs);
+            expected.put(floats);
+            actual.put(floats);
+            expected.put(doubles);
+            actual.put(doubles);
+            expected.put(shorts, 1, 2);
+            actual.put(shorts, 1, 2);
+            expected.put(floats, 1, 1);
+            actual.put(floats, 1, 1);
+            assertArrayEquals(expected.get(), actual.get());
+        }
+        assertThrows(IllegalArgumentException.class, () -> SegmentedByteBuffer.auto().put(shorts, 2, 2));
+
+    }
+
+    @Test
+    public void toByteReader_StraddlingValues_Success() {
+
+        final SegmentedByteBuffer segmentedByteBuffer = SegmentedByteBuffer.chunkSize(4);
+        segmentedByteBuffer.setByteOrder(ByteOrder.BIG_ENDIAN);
+        segmentedByteBuffer.put((byte) 0x7F);
+        segmentedByteBuffer.put(0x01020304);
+        segmentedByteBuffer.put(-5L);
+        segmentedByteBuffer.put((short) 0x0A0B);
+        final SegmentedByteReader segmentedByteReader = segmentedByteBuffer.toByteReader();
+        assertEquals(ByteOrder.BIG_ENDIAN, segmentedByteReader.getByteOrder());
+        assertEquals(15, segmentedByteReader.getLength());
+        assertEquals(0x7F, segmentedByteReader.readByte());
+        assertEquals(0x01020304, segmentedByteReader.readInteger());
+        assertEquals(-5L, segmentedByteReader.readLong());
+        assertEquals(0x0A0B, segmentedByteReader.readShort());
+
+    }
+
+    @Test
+    public void writeTo_GatheringChannel_Success(@TempDir final Path directory) throws IOException {
+
+        final Path file = directory.resolve("segmented.bin");
+        final SegmentedByteBuffer segmentedByteBuffer = SegmentedByteBuffer.chunkSize(16);
+        for (int i = 0; i < 100; i++)
+            segmentedByteBuffer.put((byte) i);
+        assertEquals(7, segmentedByteBuffer.asNioBuffers().length);
+        try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            segmentedByteBuffer.writeTo(channel);
+        }
+        assertArrayEquals(segmentedByteBuffer.get(), Files.readAllBytes(file));
+
+    }
+
+    @Test
+    public void reset_ReusesChunks_Success() {
+
+        final SegmentedByteBuffer segmentedByteBuffer = SegmentedByteBuffer.chunkSize(4);
+        segmentedByteBuffer.put(1L);
+        segmentedByteBuffer.reset();
+        segmentedByteBuffer.put((byte) 9);
+        assertArrayEquals(new byte[]{9}, segmentedByteBuffer.get());
+        assertEquals(1, segmentedByteBuffer.asNioBuffers()[0].remaining());
+
+    }
+
+    @Test
+    public void chunkSize_NotPowerOfTwo_Throws() {
+
+        assertThrows(IllegalArgumentException.class, () -> SegmentedByteBuffer.chunkSize(12));
+
+    }
+
+}
@@ -0,0 +1,116 @@
+package com.etdon.commons.io;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @see SegmentedByteReader
+ */
+public class SegmentedByteReaderTest {
+
+    private static final byte[] INPUT = {0x01, 0x02, 0x03, 0x04, 0x05, 0x06, 0x07, 0x08, 0x09, 0x0A, 0x0B, 0x0C};
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void map_Example_Success() throws IOException {
+
+        final SegmentedByteReader byteReader = SegmentedByteReader.map(this.write(INPUT));
+        assertEquals(INPUT.length, byteReader.getLength());
+        assertEquals(0x04030201, byteReader.readInteger());
+        assertEquals(0x0C0B0A0908070605L, byteReader.readLong());
+
+    }
+
+    @Test
+    public void readLong_StraddlingSegments_Success() throws IOException {
+
+        final SegmentedByteReader byteReader = this.map(ByteOrder.BIG_ENDIAN, INPUT, 2);
+        byteReader.skip(1);
+        assertEquals(0x0203040506070809L, byteReader.readLong());
+        assertEquals((short) 0x0A0B, byteReader.readShort());
+
+    }
+
+    @Test
+    public void peekOffsetInteger_StraddlingSegments_Success() throws IOException {
+
+        final SegmentedByteReader byteReader = this.map(ByteOrder.LITTLE_ENDIAN, INPUT, 2);
+        assertEquals(0x06050403, byteReader.peekOffsetInteger(2));
+        assertEquals(0x07060504, byteReader.peekOffsetInteger(3));
+        assertEquals(0, byteReader.getOffset());
+
+    }
+
+    @Test
+    public void readBytes_StraddlingSegments_Success() throws IOException {
+
+        final SegmentedByteReader byteReader = this.map(ByteOrder.LITTLE_ENDIAN, INPUT, 2);
+        byteReader.skip(3);
+        assertArrayEquals(new byte[]{0x04, 0x05, 0x06, 0x07, 0x08, 0x09}, byteReader.readBytes(6));
+        assertEquals(9, byteReader.getOffset());
+
+    }
+
+    @Test
+    public void readInteger_EndOfSource_Throws() throws IOException {
+
+        final SegmentedByteReader byteReader = this.map(ByteOrder.LITTLE_ENDIAN, INPUT, 2);
+        byteReader.jump(10);
+        assertThrows(IllegalStateException.class, byteReader::readInteger);
+
+    }
+
+    @Test
+    public void jump_Negative_Throws() throws IOException {
+
+        final SegmentedByteReader byteReader = this.map(ByteOrder.LITTLE_ENDIAN, INPUT, 2);
+        byteReader.skip(2);
+        assertThrows(IllegalStateException.class, () -> byteReader.jump(-1));
+        assertThrows(IllegalStateException.class, () -> byteReader.skip(-3));
+        byteReader.skip(-2);
+        assertEquals(0, byteReader.getOffset());
+
+    }
+
+    @Test
+    public void explore_Example_Success() throws IOException {
+
+        final SegmentedByteReader byteReader = this.map(ByteOrder.LITTLE_ENDIAN, INPUT, 2);
+        byteReader.skip(6);
+        try (final SegmentedByteReader.Explorer explorer = byteReader.explore(ByteOrder.BIG_ENDIAN, 2)) {
+            assertEquals(ByteOrder.BIG_ENDIAN, byteReader.getByteOrder());
+            assertEquals(6, explorer.getRetreatOffset());
+            assertEquals((short) 0x0304, byteReader.readShort());
+        }
+        assertEquals(ByteOrder.LITTLE_ENDIAN, byteReader.getByteOrder());
+        assertEquals(6, byteReader.getOffset());
+
+    }
+
+    private Path write(final byte[] bytes) throws IOException {
+
+        return Files.write(this.directory.resolve("input.bin"), bytes);
+
+    }
+
+    private SegmentedByteReader map(final ByteOrder byteOrder, final byte[] bytes, final int segmentShift) throws IOException {
+
+        try (final FileChannel channel = FileChannel.open(this.write(bytes), StandardOpenOption.READ)) {
+            return SegmentedByteReader.map(byteOrder, channel, 0, channel.size(), segmentShift);
+        }
+
+    }
+
+}
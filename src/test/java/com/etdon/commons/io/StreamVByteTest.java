@@ -0,0 +1,82 @@
+package com.etdon.commons.io;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @see StreamVByte
+ */
+public class StreamVByteTest {
+
+    @Test
+    public void encode_Layout_Success() {
+
+        final ByteBuffer byteBuffer = ByteBuffer.auto();
+        StreamVByte.encode(new int[]{1, 0x1234, 0x123456, 0x12345678, 7}, 0, 5, byteBuffer);
+        assertArrayEquals(new byte[]{
+                (byte) 0b11_10_01_00, 0b00,
+                0x01, 0x34, 0x12, 0x56, 0x34, 0x12, 0x78, 0x56, 0x34, 0x12, 0x07
+        }, byteBuffer.get());
+
+    }
+
+    @Test
+    public void encode_RoundTrip_Success() {
+
+        final Random random = new Random(0);
+        for (int length = 0; length < 40; length++) {
+            final int[] values = new int[length];
+            for (int i = 0; i < length; i++)
+                values[i] = random.nextInt() >>> random.nextInt(32);
+            final ByteBuffer byteBuffer = ByteBuffer.auto();
+            byteBuffer.put((byte) 0x7F);
+            StreamVByte.encode(values, 0, length, byteBuffer);
+            final ByteReader byteReader = ByteReader.of(byteBuffer.get());
+            byteReader.readByte();
+            final int[] decoded = new int[length];
+            StreamVByte.decode(byteReader, decoded, 0, length);
+            assertArrayEquals(values, decoded);
+            assertEquals(0, byteReader.getRemaining());
+        }
+
+    }
+
+    @Test
+    public void encodeSigned_RoundTrip_Success() {
+
+        final long[] values = {0, -1, 1, -2, Long.MIN_VALUE, Long.MAX_VALUE, -300, 1L << 40, -(1L << 50)};
+        final ByteBuffer byteBuffer = ByteBuffer.auto();
+        StreamVByte.encodeSigned(values, 0, values.length, byteBuffer);
+        final long[] decoded = new long[values.length];
+        StreamVByte.decodeSigned(ByteReader.of(byteBuffer.get()), decoded, 0, decoded.length);
+        assertArrayEquals(values, decoded);
+
+    }
+
+    @Test
+    public void encodeSigned_SmallNegatives_OneByteEach() {
+
+        final ByteBuffer byteBuffer = ByteBuffer.auto();
+        StreamVByte.encodeSigned(new int[]{-1, -2, -3, -64}, 0, 4, byteBuffer);
+        assertEquals(5, byteBuffer.getSize());
+
+    }
+
+    @Test
+    public void decode_Truncated_Throws() {
+
+        final ByteBuffer byteBuffer = ByteBuffer.auto();
+        StreamVByte.encode(new long[]{1L << 60, 2}, 0, 2, byteBuffer);
+        final byte[] encoded = byteBuffer.get();
+        final byte[] truncated = new byte[encoded.length - 1];
+        System.arraycopy(encoded, 0, truncated, 0, truncated.length);
+        assertThrows(IllegalStateException.class, () -> StreamVByte.decode(ByteReader.of(truncated), new long[2], 0, 2));
+
+    }
+
+}
@@ -0,0 +1,81 @@
+package com.etdon.commons.io;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.channels.Channels;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @see StreamingByteReader
+ */
+public class StreamingByteReaderTest {
+
+    private static final byte[] INPUT = {0x01, 0x02, 0x03, 0x04, 0x05, 0x06, 0x07, 0x08, 0x09, 0x0A, 0x0B, 0x0C, 0x0D, 0x0E, 0x0F, 0x10, 0x11, 0x12};
+
+    @Test
+    public void readLong_AcrossRefill_Success() {
+
+        final StreamingByteReader byteReader = StreamingByteReader.of(ByteOrder.BIG_ENDIAN, new ByteArrayInputStream(INPUT), 8);
+        assertEquals(0x010203, byteReader.readShort() << 8 | byteReader.readByte());
+        assertEquals(0x0405060708090A0BL, byteReader.readLong());
+        assertEquals(0x0C0D0E0F, byteReader.readInteger());
+        assertEquals(15, byteReader.getOffset());
+
+    }
+
+    @Test
+    public void readBytes_LargerThanWindow_Success() {
+
+        final StreamingByteReader byteReader = StreamingByteReader.of(ByteOrder.LITTLE_ENDIAN, Channels.newChannel(new ByteArrayInputStream(INPUT)), 8);
+        byteReader.skip(1);
+        final byte[] expected = new byte[16];
+        System.arraycopy(INPUT, 1, expected, 0, expected.length);
+        assertArrayEquals(expected, byteReader.readBytes(16));
+        assertTrue(byteReader.hasRemaining());
+        assertEquals(0x12, byteReader.readByte());
+        assertFalse(byteReader.hasRemaining());
+
+    }
+
+    @Test
+    public void readInteger_EndOfStream_Throws() {
+
+        final StreamingByteReader byteReader = StreamingByteReader.of(ByteOrder.LITTLE_ENDIAN, new ByteArrayInputStream(INPUT), 8);
+        byteReader.skip(16);
+        assertThrows(IllegalStateException.class, byteReader::readInteger);
+
+    }
+
+    @Test
+    public void jump_DiscardedOffset_Throws() {
+
+        final StreamingByteReader byteReader = StreamingByteReader.of(ByteOrder.LITTLE_ENDIAN, new ByteArrayInputStream(INPUT), 8);
+        byteReader.skip(10);
+        byteReader.readByte();
+        assertThrows(IllegalStateException.class, () -> byteReader.jump(2));
+
+    }
+
+    @Test
+    public void explore_RetainsRetreatOffset_Success() {
+
+        final StreamingByteReader byteReader = StreamingByteReader.of(ByteOrder.LITTLE_ENDIAN, new ByteArrayInputStream(INPUT), 8);
+        byteReader.skip(2);
+        assertEquals(0x03, byteReader.peekByte());
+        try (final StreamingByteReader.Explorer explorer = byteReader.explore(ByteOrder.BIG_ENDIAN, 4)) {
+            assertEquals(2, explorer.getRetreatOffset());
+            assertEquals(0x05060708, byteReader.readInteger());
+        }
+        assertEquals(ByteOrder.LITTLE_ENDIAN, byteReader.getByteOrder());
+        assertEquals(2, byteReader.getOffset());
+        assertEquals(0x0403, byteReader.readShort());
+
+    }
+
+}
@@ -0,0 +1,50 @@
+package com.etdon.commons.io;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @see StringCache
+ */
+public class StringCacheTest {
+
+    @Test
+    public void readVarLengthString_RepeatedValue_SameInstance() {
+
+        final StringCache cache = StringCache.of(16, 8);
+        final ByteBuffer byteBuffer = ByteBuffer.auto();
+        byteBuffer.putVarLengthString("name");
+        byteBuffer.putVarLengthString("name");
+        byteBuffer.putVarLengthString("n\u00E4me");
+        final ByteReader byteReader = byteBuffer.toByteReader();
+        final String first = byteReader.readVarLengthString(cache);
+        assertEquals("name", first);
+        assertSame(first, byteReader.readVarLengthString(cache));
+        assertEquals("n\u00E4me", byteReader.readVarLengthString(cache));
+
+    }
+
+    @Test
+    public void readUtf8_LongerThanMaximum_Bypassed() {
+
+        final StringCache cache = StringCache.of(16, 2);
+        final byte[] bytes = {0x61, 0x62, 0x63, 0x61, 0x62, 0x63};
+        final ByteReader byteReader = ByteReader.of(bytes);
+        assertNotSame(byteReader.readUtf8(3, cache), byteReader.readUtf8(3, cache));
+
+    }
+
+    @Test
+    public void of_Capacity_RoundedUp() {
+
+        assertEquals(16, StringCache.of(9, 8).getCapacity());
+        assertEquals(1, StringCache.of(1, 8).getCapacity());
+        assertThrows(IllegalArgumentException.class, () -> StringCache.of(0, 8));
+
+    }
+
+}
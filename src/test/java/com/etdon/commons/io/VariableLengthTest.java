@@ -118,4 +118,81 @@ public class VariableLengthTest {
 
     }
 
+    @Test
+    public void sizeUnsigned_MatchesEncoding_Success() {
+
+        final long[] values = {0, 1, 127, 128, 16383, 16384, Integer.MAX_VALUE, Long.MAX_VALUE, -1};
+        for (final long value : values)
+            assertEquals(VariableLength.writeUnsigned(value).length, VariableLength.sizeUnsigned(value));
+
+    }
+
+    @Test
+    public void sizeSigned_MatchesEncoding_Success() {
+
+        final long[] values = {0, 1, -1, 63, 64, -64, -65, 8191, 8192, -8192, -8193, Long.MIN_VALUE, Long.MAX_VALUE};
+        for (final long value : values)
+            assertEquals(VariableLength.writeSigned(value).length, VariableLength.sizeSigned(value));
+
+    }
+
+    @Test
+    public void putVarLong_ReadVarLong_RoundTrip() {
+
+        final long[] values = {0, 1, 127, 128, 300, 16384, Integer.MAX_VALUE, Long.MAX_VALUE, -1};
+        final ByteBuffer byteBuffer = ByteBuffer.size(0);
+        for (final long value : values) {
+            byteBuffer.putVarLong(value);
+            byteBuffer.putSignedVarLong(-value);
+        }
+        final ByteReader byteReader = ByteReader.of(byteBuffer.get());
+        for (final long value : values) {
+            assertEquals(value, byteReader.readVarLong());
+            assertEquals(-value, byteReader.readSignedVarLong());
+        }
+        assertEquals(0, byteReader.getRemaining());
+
+    }
+
+    @Test
+    public void putVarInt_MatchesWriteUnsigned_Success() {
+
+        final ByteBuffer byteBuffer = ByteBuffer.auto();
+        byteBuffer.putVarInt(16384);
+        byteBuffer.putSignedVarInt(-128);
+        assertArrayEquals(new byte[]{(byte) 0x80, (byte) 0x80, 0x01, (byte) 0x80, 0x7F}, byteBuffer.get());
+
+    }
+
+    @Test
+    public void readVarInt_Overflow_Throws() {
+
+        final ByteReader byteReader = ByteReader.of(VariableLength.writeUnsigned(1L << 32));
+        assertThrows(IllegalStateException.class, byteReader::readVarInt);
+        assertEquals(0, byteReader.getOffset());
+        assertEquals(-1, ByteReader.of(VariableLength.writeUnsigned(0xFFFFFFFFL)).readVarInt());
+
+    }
+
+    @Test
+    public void readVarLong_ContinuationOnLastByte_Throws() {
+
+        final ByteReader byteReader = ByteReader.of(new byte[]{0x01, (byte) 0x80});
+        byteReader.skip(1);
+        assertThrows(IllegalStateException.class, byteReader::readVarLong);
+        assertEquals(1, byteReader.getOffset());
+
+    }
+
+    @Test
+    public void encodeZigZag_Example_Success() {
+
+        assertEquals(0, VariableLength.encodeZigZag(0L));
+        assertEquals(1, VariableLength.encodeZigZag(-1L));
+        assertEquals(2, VariableLength.encodeZigZag(1L));
+        assertEquals(-1L, VariableLength.encodeZigZag(Long.MIN_VALUE));
+        assertEquals(Integer.MIN_VALUE, VariableLength.decodeZigZag(VariableLength.encodeZigZag(Integer.MIN_VALUE)));
+
+    }
+
 }
@@ -0,0 +1,213 @@
+package com.etdon.commons.presentation;
+
+import com.etdon.commons.io.ByteReader;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @see HexDumper
+ */
+public class HexDumperTest {
+
+    @Test
+    public void dump_Hex_Success() throws IOException {
+
+        final byte[] bytes = "Hello, world!\n\u0000\u0001\u0002".getBytes(StandardCharsets.ISO_8859_1);
+        final StringWriter writer = new StringWriter();
+        HexDumper.builder().build().dump(bytes, 0, bytes.length, writer);
+        assertEquals("00000000: 4865 6C6C 6F2C 2077 6F72 6C64 210A 0001  Hello, world!...\n" +
+                "00000010: 02                                       .\n", writer.toString());
+
+    }
+
+    @Test
+    public void dump_BinaryWithoutGutter_Success() throws IOException {
+
+        final StringWriter writer = new StringWriter();
+        HexDumper.builder().binary().asciiGutter(false).baseOffset(0x100).offsetDigits(4).build()
+                .dump(ByteReader.of(new byte[]{0x41, (byte) 0x80, 0x01}), writer);
+        assertEquals("0100: 01000001 10000000 00000001\n", writer.toString());
+
+    }
+
+    @Test
+    public void dump_OutputStream_Success() throws IOException {
+
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        HexDumper.builder().bytesPerLine(4).groupSize(4).build().dump(new byte[]{0, 0x30, 0x31, 0x32, 0x33, 0}, 1, 4, outputStream);
+        assertEquals("00000000: 30313233  0123\n", new String(outputStream.toByteArray(), StandardCharsets.US_ASCII));
+
+    }
+
+    @Test
+    public void dump_Parallel_MatchesSerial() throws IOException {
+
+        final byte[] bytes = new byte[100_003];
+        for (int i = 0; i < bytes.length; i++)
+            bytes[i] = (byte) (i * 31);
+        final StringWriter expected = new StringWriter();
+        HexDumper.builder().build().dump(bytes, 0, bytes.length, expected);
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final StringWriter actual = new StringWriter();
+            final ByteReader byteReader = ByteReader.of(bytes);
+            HexDumper.builder().executor(executor, 64, 3).build().dump(byteReader, actual);
+            assertEquals(expected.toString(), actual.toString());
+            assertEquals(0, byteReader.getRemaining());
+        } finally {
+            executor.shutdownNow();
+        }
+
+    }
+
+    @Test
+    public void dump_ParallelWriteFails_CancelsPending() {
+
+        final DeferringExecutor executor = new DeferringExecutor(null);
+        final Writer failing = new Writer() {
+
+            @Override
+            public void write(final char[] buffer, final int offset, final int length) throws IOException {
+
+                throw new IOException("write failed");
+
+            }
+
+            @Override
+            public void flush() {
+
+            }
+
+            @Override
+            public void close() {
+
+            }
+
+        };
+        final byte[] bytes = new byte[256];
+        assertThrows(IOException.class, () -> HexDumper.builder().executor(executor, 1, 4).build().dump(ByteReader.of(bytes), failing));
+        assertEquals(3, executor.deferred.size());
+        for (final Future<?> future : executor.deferred)
+            assertTrue(future.isCancelled());
+
+    }
+
+    @Test
+    public void dump_ParallelFormatError_RethrowsError() {
+
+        final Error failure = new Error("format failed");
+        final DeferringExecutor executor = new DeferringExecutor(failure);
+        final byte[] bytes = new byte[256];
+        final Error thrown = assertThrows(Error.class, () -> HexDumper.builder().executor(executor, 1, 4).build().dump(ByteReader.of(bytes), new StringWriter()));
+        assertSame(failure, thrown);
+        for (final Future<?> future : executor.deferred)
+            assertTrue(future.isCancelled());
+
+    }
+
+    @Test
+    public void build_NegativeBaseOffset_Throws() {
+
+        assertThrows(IllegalArgumentException.class, () -> HexDumper.builder().baseOffset(-1).build());
+
+    }
+
+    /**
+     * Executor running only the first submitted task on the calling thread and deferring all others, optionally
+     * failing the first task with the provided error.
+     */
+    private static final class DeferringExecutor extends AbstractExecutorService {
+
+        @Nullable
+        private final Error failure;
+        private final List<Future<?>> deferred = new ArrayList<>();
+        private boolean started = false;
+
+        private DeferringExecutor(@Nullable final Error failure) {
+
+            this.failure = failure;
+
+        }
+
+        @Override
+        public <T> Future<T> submit(final Callable<T> task) {
+
+            if (this.failure == null)
+                return super.submit(task);
+
+            final Error error = this.failure;
+            return super.submit(() -> {
+                throw error;
+            });
+
+        }
+
+        @Override
+        public void execute(final Runnable command) {
+
+            if (this.started) {
+                this.deferred.add((Future<?>) command);
+                return;
+            }
+
+            this.started = true;
+            command.run();
+
+        }
+
+        @Override
+        public void shutdown() {
+
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+
+            return Collections.emptyList();
+
+        }
+
+        @Override
+        public boolean isShutdown() {
+
+            return false;
+
+        }
+
+        @Override
+        public boolean isTerminated() {
+
+            return false;
+
+        }
+
+        @Override
+        public boolean awaitTermination(final long timeout, final TimeUnit unit) {
+
+            return false;
+
+        }
+
+    }
+
+}
@@ -2,7 +2,9 @@ package com.etdon.commons.util;
 
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 /**
  * @see Bytes
@@ -24,4 +26,25 @@ public class BytesTest {
 
     }
 
+    @Test
+    public void toHexString_UnevenSplit_Success() {
+
+        assertEquals("0A0F10 0503", Bytes.toHexString(new byte[]{0xA, 0xF, 0x10, 0x5, 0x3}, 3));
+        assertEquals("", Bytes.toHexString(new byte[0], 2));
+        assertEquals("", Bytes.toHexString(new byte[0], 0));
+        assertEquals("0A0F10 0503", Bytes.toHexString(new byte[]{0xA, 0xF, 0x10, 0x5, 0x3}, -3));
+        assertThrows(ArithmeticException.class, () -> Bytes.toHexString(new byte[]{1}, 0));
+        assertEquals("FF", Bytes.toHexString((byte) -1));
+
+    }
+
+    @Test
+    public void fromHexString_RoundTrip_Success() {
+
+        final byte[] input = {0x00, 0x7F, (byte) 0x80, (byte) 0xFF};
+        assertArrayEquals(input, Bytes.fromHexString(Bytes.toHexString(input)));
+        assertThrows(IllegalArgumentException.class, () -> Bytes.fromHexString("0Z"));
+
+    }
+
 }
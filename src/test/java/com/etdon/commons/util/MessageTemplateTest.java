@@ -0,0 +1,54 @@
+package com.etdon.commons.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * @see MessageTemplate
+ */
+public class MessageTemplateTest {
+
+    @Test
+    public void render_Example_Success() {
+
+        final MessageTemplate messageTemplate = MessageTemplate.compile("The range (offset: {}, length: {}) is out of bounds.");
+        assertEquals(2, messageTemplate.getSlotCount());
+        assertEquals("The range (offset: 4, length: 8) is out of bounds.", messageTemplate.render(4, 8));
+        assertEquals("The range (offset: a, length: null) is out of bounds.", messageTemplate.render("a", null));
+        assertEquals("The range (offset: 1, length: 2) is out of bounds.", messageTemplate.render(1, 2, 3));
+
+    }
+
+    @Test
+    public void render_MatchesLegacyQuirks_Success() {
+
+        assertEquals("a 1 b  c", MessageTemplate.compile("a {} b {} c").render(1L));
+        assertEquals("a \\{} true", MessageTemplate.compile("a \\{} {}").render(true));
+        assertEquals("{1}", MessageTemplate.compile("{{}}").render("1"));
+        assertEquals("a {} b", MessageTemplate.compile("a {} b").render());
+        assertEquals("a  b", MessageTemplate.compile("a {} b").renderTo(new StringBuilder()).toString());
+        assertEquals("x", MessageTemplate.compile("x").render(1, 2));
+        assertEquals("12", MessageTemplate.compile("{}{}").render(new Object[]{1, 2}));
+        assertEquals("a x b", MessageTemplate.compile("a {} b").render('x'));
+
+    }
+
+    @Test
+    public void compile_Cached_Success() {
+
+        final String template = "Cached {} template.";
+        assertSame(MessageTemplate.compile(template), MessageTemplate.compile(new String(template.toCharArray())));
+
+    }
+
+    @Test
+    public void applyValues_Delegates_Success() {
+
+        assertEquals("1: 1 2: ", Strings.applyValues("1: {} 2: {}", 1));
+        assertEquals("1: {} 2: {}", Strings.applyValues("1: {} 2: {}"));
+
+    }
+
+}
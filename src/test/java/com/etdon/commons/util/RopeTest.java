@@ -0,0 +1,75 @@
+package com.etdon.commons.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @see Rope
+ */
+public class RopeTest {
+
+    @Test
+    public void concat_Incremental_StaysBalanced() throws IOException {
+
+        final Random random = new Random(25);
+        final StringBuilder expected = new StringBuilder();
+        Rope rope = Rope.empty();
+        for (int i = 0; i < 10_000; i++) {
+            final String fragment = Strings.repeat(Integer.toString(i), 1 + random.nextInt(60));
+            expected.append(fragment);
+            rope = rope.concat(fragment);
+        }
+        assertEquals(expected.length(), rope.length());
+        assertTrue(rope.depth() <= 20, "Depth " + rope.depth() + " exceeds the balanced bound.");
+        final StringWriter writer = new StringWriter();
+        rope.writeTo(writer);
+        assertEquals(expected.toString(), writer.toString());
+        assertEquals(expected.toString(), rope.toString());
+        assertSame(rope.toString(), rope.toString());
+
+    }
+
+    @Test
+    public void subSequence_Random_MatchesString() {
+
+        final Random random = new Random(7);
+        final CharSequence[] fragments = new CharSequence[500];
+        for (int i = 0; i < fragments.length; i++)
+            fragments[i] = Strings.repeat((char) ('a' + i % 26) + "", 100 + i % 50);
+        final Rope rope = Rope.of(fragments);
+        final String expected = rope.toString();
+        final Rope unflattened = Rope.of(fragments);
+        for (int i = 0; i < 1_000; i++) {
+            final int start = random.nextInt(expected.length() + 1);
+            final int end = start + random.nextInt(expected.length() - start + 1);
+            final Rope sub = unflattened.subSequence(start, end);
+            assertEquals(expected.substring(start, end), sub.toString());
+            if (sub.length() > 0)
+                assertEquals(expected.charAt(start), sub.charAt(0));
+            assertTrue(sub.depth() <= unflattened.depth() + 1);
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> unflattened.subSequence(2, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> unflattened.charAt(expected.length()));
+
+    }
+
+    @Test
+    public void combineRope_MatchesCombine_Success() {
+
+        assertEquals(Strings.combine("a", null, "b"), Strings.combineRope("a", null, "b").toString());
+        assertEquals(Strings.list(",", "a", null, "b", null), Strings.listRope(",", "a", null, "b", null).toString());
+        assertEquals("", Strings.listRope(",").toString());
+        assertEquals("a,", Strings.listRope(",", "a", null).toString());
+        assertEquals("ab", Rope.of("a").concat(new StringBuilder("b")).flatten().toString());
+
+    }
+
+}
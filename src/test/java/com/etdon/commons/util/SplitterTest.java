@@ -0,0 +1,88 @@
+package com.etdon.commons.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @see Splitter
+ */
+public class SplitterTest {
+
+    @Test
+    public void split_MatchesStrings_Success() {
+
+        final Splitter splitter = Splitter.on(',');
+        for (final String input : new String[]{"", ",", "a", "a,b", ",a,,b,", "abc,,"}) {
+            final List<String> parts = new ArrayList<>();
+            for (final CharSequence part : splitter.split(input))
+                parts.add(part.toString());
+            assertEquals(Strings.split(input, ','), parts);
+            final List<String> builderParts = new ArrayList<>();
+            for (final CharSequence part : splitter.split(new StringBuilder(input)))
+                builderParts.add(part.toString());
+            assertEquals(parts, builderParts);
+        }
+
+    }
+
+    @Test
+    public void split_Indices_Success() {
+
+        final Splitter splitter = Splitter.on(' ');
+        final int[] ends = new int[2];
+        assertEquals(2, splitter.split("GET /index.html HTTP/1.1", ends));
+        assertArrayEquals(new int[]{3, 15}, ends);
+        final int[] all = new int[8];
+        assertEquals(3, splitter.split("a  b", all));
+        assertEquals(1, all[0]);
+        assertEquals(2, all[1]);
+        assertEquals(4, all[2]);
+
+    }
+
+    @Test
+    public void part_Example_Success() {
+
+        final Splitter splitter = Splitter.on('|');
+        assertEquals("c", splitter.part("a|b|c|d", 2).toString());
+        assertEquals("", splitter.part("a|", 1).toString());
+        assertEquals("b", splitter.part("a|bc", 1).subSequence(0, 1).toString());
+        assertThrows(IndexOutOfBoundsException.class, () -> splitter.part("a|b", 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> splitter.part("a|b", 0).charAt(1));
+
+    }
+
+    @Test
+    public void iterator_Exhausted_Throws() {
+
+        final Iterator<CharSequence> iterator = Splitter.on(',').split("a").iterator();
+        iterator.next();
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::next);
+
+    }
+
+    @Test
+    public void stream_Parallel_MatchesSequential() {
+
+        final StringBuilder input = new StringBuilder();
+        for (int i = 0; i < 50_000; i++)
+            input.append(i % 7 == 0 ? "" : Integer.toString(i)).append(';');
+        final Splitter splitter = Splitter.on(';');
+        final List<String> expected = Strings.split(input.toString(), ';');
+        assertEquals(expected, splitter.stream(input.toString(), true).map(CharSequence::toString).collect(Collectors.toList()));
+        assertEquals(expected, splitter.stream(input, false).map(CharSequence::toString).collect(Collectors.toList()));
+
+    }
+
+}
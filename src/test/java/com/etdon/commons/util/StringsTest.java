@@ -3,7 +3,11 @@ package com.etdon.commons.util;
 import com.etdon.commons.trait.impl.string.StringTrait;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.io.StringWriter;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -36,6 +40,18 @@ public class StringsTest {
 
     }
 
+    @Test
+    public void toChunks_NonPositiveSize_Success() {
+
+        assertEquals("12 34 5", Strings.toChunks("12345", -2));
+        assertEquals("12" + System.lineSeparator() + "3", Strings.toLines("123", -2));
+        assertEquals("", Strings.toChunks("", 0));
+        assertEquals("", Strings.toLines("", 0));
+        assertThrows(ArithmeticException.class, () -> Strings.toChunks("1", 0));
+        assertThrows(IllegalArgumentException.class, () -> Strings.appendChunks(new StringBuilder(), "1", -2, ' '));
+
+    }
+
     @Test
     public void surround_Example_Success() {
 
@@ -115,6 +131,49 @@ public class StringsTest {
 
     }
 
+    @Test
+    public void appendRepeated_Nested_Success() throws IOException {
+
+        final StringBuilder stringBuilder = new StringBuilder("> ");
+        Strings.appendRepeated(stringBuilder, "ab", 3);
+        Strings.appendChunks(stringBuilder.append(' '), "0A0F10", 2, ':');
+        Strings.appendList(stringBuilder.append(' '), ",", "x", null, "y");
+        Strings.appendSurrounded(stringBuilder.append(' '), "*", "z");
+        Strings.appendValues(stringBuilder.append(' '), "{}={}", "k", 1);
+        assertEquals("> ababab 0A:0F:10 x,y *z* k=1", stringBuilder.toString());
+
+        final StringWriter writer = new StringWriter();
+        Strings.appendLines(Strings.appendCombined(writer, "a", null, "b"), "1234", 3);
+        assertEquals("ab123" + System.lineSeparator() + "4", writer.toString());
+
+    }
+
+    @Test
+    public void appendCombined_CharSequences_Success() throws IOException {
+
+        final StringBuilder part = new StringBuilder("b");
+        final Rope rope = Rope.of("c", "d");
+        assertEquals("abcd", Strings.appendCombined(new StringBuilder(), "a", part, null, rope).toString());
+        assertEquals("a;b;cd", Strings.appendList(new StringBuilder(), new StringBuilder(";"), "a", part, rope).toString());
+        final StringWriter writer = new StringWriter();
+        Strings.appendList(Strings.appendCombined(writer, part, rope), ",", rope, null, part);
+        assertEquals("bcdcd,b", writer.toString());
+
+    }
+
+    @Test
+    public void appendChunks_MatchesToChunks_Success() throws IOException {
+
+        for (final String input : new String[]{"", "A", "ABCD", "ABCDE"}) {
+            final StringWriter writer = new StringWriter();
+            Strings.appendChunks(writer, input, 2, ' ');
+            assertEquals(Strings.toChunks(input, 2), writer.toString());
+        }
+        assertEquals("a", Strings.repeat("a", 0));
+        assertEquals("a,", Strings.list(",", "a", null));
+
+    }
+
     @Test
     public void checkTraits_Example_Success() {
 